@@ -0,0 +1,108 @@
+package com.community.lostandfound.benchmark;
+
+import com.community.lostandfound.dto.claim.ClaimApplicationDto;
+import com.community.lostandfound.dto.claim.ClaimPageDto;
+import com.community.lostandfound.dto.comment.ItemCommentDto;
+import com.community.lostandfound.entity.ClaimApplication;
+import com.community.lostandfound.entity.ItemComment;
+import com.community.lostandfound.repository.ClaimApplicationRepository;
+import com.community.lostandfound.service.impl.ClaimApplicationServiceImpl;
+import com.community.lostandfound.service.impl.ItemCommentServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 实体到DTO的转换，仓库接口用桩替代，只测量服务层的转换开销
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoConversionBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ItemCommentServiceImpl itemCommentService;
+
+    private ClaimApplicationServiceImpl claimApplicationService;
+
+    private ItemComment comment;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 30);
+
+        comment = new ItemComment();
+        comment.setId(1L);
+        comment.setItemId(100L);
+        comment.setItemType("lost");
+        comment.setContent("请问是在三号楼一楼大厅捡到的吗？钥匙扣上有一个蓝色的小熊挂件");
+        comment.setUserId(10L);
+        comment.setUsername("benchmark");
+        comment.setUserAvatar("/uploads/avatars/benchmark.png");
+        comment.setCreatedAt(now);
+        comment.setUpdatedAt(now);
+        itemCommentService = new ItemCommentServiceImpl(null, null, null);
+
+        List<ClaimApplication> applications = new ArrayList<>();
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            applications.add(ClaimApplication.builder()
+                    .id(i)
+                    .foundItemId(100L + i)
+                    .applicantId(10L)
+                    .description("钱包是黑色的，里面有一张校园卡和两张银行卡，卡上的名字是张三")
+                    .status("pending")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .applicantName("benchmark")
+                    .applicantContact("13800000000")
+                    .foundItemTitle("黑色钱包")
+                    .foundItemImage("/uploads/found-items/2024/05/wallet.jpg")
+                    .foundItemOwnerId(20L)
+                    .foundItemOwnerName("owner")
+                    .build());
+        }
+        ClaimApplicationRepository repository = Stubs.of(ClaimApplicationRepository.class, Map.of(
+                "findById", args -> applications.get(0),
+                "findByApplicantId", args -> applications,
+                "countByApplicantId", args -> (long) PAGE_SIZE * 5));
+        claimApplicationService = new ClaimApplicationServiceImpl(repository, null, null, null, null);
+    }
+
+    @Benchmark
+    public ItemCommentDto itemCommentConvertToDto() {
+        return itemCommentService.convertToDto(comment);
+    }
+
+    /**
+     * 单条详情：findById后转换
+     */
+    @Benchmark
+    public ClaimApplicationDto claimApplicationById() {
+        return claimApplicationService.getClaimApplicationById(1L);
+    }
+
+    /**
+     * 一页（20条）列表的批量转换和分页DTO构建
+     */
+    @Benchmark
+    public ClaimPageDto claimApplicationPage() {
+        return claimApplicationService.getApplicationsByApplicant(10L, null, 1, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,51 @@
+package com.community.lostandfound.benchmark;
+
+import com.community.lostandfound.entity.LostItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 寻物启事丢失时间的解析（请求反序列化时调用），覆盖前端提交的三种格式
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ItemDateParsingBenchmark {
+
+    @Param({"2024-05-01 12:30:00", "2024-05-01T12:30:00", "2024-05-01"})
+    public String dateStr;
+
+    private LostItem item;
+
+    @Setup
+    public void setUp() {
+        item = new LostItem();
+    }
+
+    @Benchmark
+    public LocalDateTime setLostDateStr() {
+        item.setLostDateStr(dateStr);
+        return item.getLostDate();
+    }
+
+    @Benchmark
+    public String getLostDateForSerialization() {
+        item.setLostDateStr(dateStr);
+        return item.getLostDateForSerialization();
+    }
+}
@@ -0,0 +1,73 @@
+package com.community.lostandfound.benchmark;
+
+import com.community.lostandfound.entity.LostItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 物品图片JSON的解析与序列化：列表页每个物品都会访问getImagesList
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ItemImagesBenchmark {
+
+    private static final List<String> IMAGES = List.of(
+            "/uploads/lost-items/2024/05/3f2a9c1e-0b7d-4f7a-9a51-2c1d8e6f4a10.jpg",
+            "/uploads/lost-items/2024/05/7c4e2b90-5d1a-4c3b-8e2f-9a0b1c2d3e4f.jpg",
+            "/uploads/lost-items/2024/05/a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d.png");
+
+    private String imagesJson;
+
+    private LostItem cachedItem;
+
+    private LostItem item;
+
+    @Setup
+    public void setUp() {
+        item = new LostItem();
+        item.setImagesList(IMAGES);
+        imagesJson = item.getImages();
+
+        cachedItem = new LostItem();
+        cachedItem.setImages(imagesJson);
+        cachedItem.getImagesList();
+    }
+
+    /**
+     * 从数据库读出的物品首次访问：解析JSON
+     */
+    @Benchmark
+    public List<String> getImagesListParse() {
+        item.setImages(imagesJson);
+        return item.getImagesList();
+    }
+
+    /**
+     * 同一物品再次访问：返回已解析的列表
+     */
+    @Benchmark
+    public List<String> getImagesListCached() {
+        return cachedItem.getImagesList();
+    }
+
+    @Benchmark
+    public String setImagesList() {
+        item.setImagesList(IMAGES);
+        return item.getImages();
+    }
+}
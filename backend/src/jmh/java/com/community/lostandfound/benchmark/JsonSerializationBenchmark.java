@@ -0,0 +1,69 @@
+package com.community.lostandfound.benchmark;
+
+import com.community.lostandfound.dto.common.ApiResponse;
+import com.community.lostandfound.dto.common.PagedResponse;
+import com.community.lostandfound.dto.post.PostResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 帖子列表响应的JSON序列化，ObjectMapper与Spring Boot默认配置一致（含JavaTimeModule）
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+
+    private ApiResponse<PagedResponse<PostResponse>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 30);
+        List<PostResponse> posts = new ArrayList<>();
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            posts.add(PostResponse.builder()
+                    .id(i)
+                    .title("周末在图书馆三楼捡到一把雨伞")
+                    .content("今天下午在图书馆三楼自习区捡到一把深蓝色的折叠雨伞，伞柄上贴着姓名贴，已交到一楼服务台，请失主凭描述领取。")
+                    .userId(10L)
+                    .username("benchmark")
+                    .userAvatar("/uploads/avatars/benchmark.png")
+                    .createdAt(now.minusHours(i))
+                    .updatedAt(now.minusHours(i))
+                    .commentCount((int) i)
+                    .build());
+        }
+        response = ApiResponse.success("获取帖子列表成功",
+                PagedResponse.of(posts, 1, PAGE_SIZE, 1000L, true));
+    }
+
+    @Benchmark
+    public byte[] serializePostPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,81 @@
+package com.community.lostandfound.benchmark;
+
+import com.community.lostandfound.security.JwtUtils;
+import com.community.lostandfound.security.UserDetailsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT校验：认证过滤器每个请求都会执行
+ * cacheSize=0 时每次都完整验签，对比已验签令牌缓存命中时的开销
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET =
+            "LostAndFoundSecretKey123!@#$%^&*()_+AABBCCDDEEFFGGHHIIJJKKLLaabbccddeeffgghhiijjkk";
+
+    @Param({"0", "10000"})
+    public int cacheSize;
+
+    private JwtUtils jwtUtils;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86400000L);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheSize", cacheSize);
+        jwtUtils.init();
+
+        UserDetailsImpl principal = UserDetailsImpl.builder()
+                .id(1L)
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .role("user")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .build();
+        token = jwtUtils.generateJwtToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public boolean validateJwtToken() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtUtils.getUsernameFromToken(token);
+    }
+
+    /**
+     * 认证过滤器实际使用的路径：一次校验同时取得Claims
+     */
+    @Benchmark
+    public Object parseVerifiedClaims() {
+        return jwtUtils.parseVerifiedClaims(token);
+    }
+}
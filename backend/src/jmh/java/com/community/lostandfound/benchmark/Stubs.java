@@ -0,0 +1,30 @@
+package com.community.lostandfound.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 基准用的接口桩：按方法名返回预先准备的数据，未登记的方法返回null
+ * 使用JDK动态代理而不是Mockito，避免Mockito的调用记录计入基准耗时
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            return answer == null ? null : answer.apply(args);
+        });
+    }
+}
@@ -43,25 +43,19 @@ public class AdminInitializer implements ApplicationRunner {
         log.info("正在检查系统管理员账户...");
         
         try {
-            // 1. 尝试获取所有用户
-            List<User> allUsers;
             try {
-                allUsers = userService.getAllUsers();
+                // 1. 检查是否已有系统管理员
+                boolean hasSysAdmin = userService.countUsersByRoles(List.of("sysadmin")) > 0;
                 
-                // 2. 检查是否已有系统管理员
-                boolean hasSysAdmin = allUsers.stream()
-                        .anyMatch(u -> "sysadmin".equals(u.getRole()));
-                
-                // 3. 如果没有系统管理员，创建一个
+                // 2. 如果没有系统管理员，创建一个
                 if (!hasSysAdmin) {
                     createInitialSysAdmin();
                 } else {
                     log.info("系统中已存在系统管理员账户，跳过初始化");
                     
                     // 尝试重置密码，如果登录有问题
-                    Optional<User> existingAdmin = allUsers.stream()
-                            .filter(u -> DEFAULT_ADMIN_USERNAME.equals(u.getUsername()) || DEFAULT_SYSADMIN_USERNAME.equals(u.getUsername()))
-                            .findFirst();
+                    Optional<User> existingAdmin = userService.getUserByUsername(DEFAULT_ADMIN_USERNAME)
+                            .or(() -> userService.getUserByUsername(DEFAULT_SYSADMIN_USERNAME));
                     
                     if (existingAdmin.isPresent()) {
                         resetAdminPassword(existingAdmin.get());
@@ -133,9 +127,6 @@ public class AdminInitializer implements ApplicationRunner {
     private void createSysAdminDirectly() {
         log.info("尝试使用备用方法创建系统管理员...");
         try {
-            // 先检查用户表结构
-            userService.checkUsersTableStructure();
-            
             // 准备一个最基本的用户对象
             User admin = new User();
             admin.setUsername(DEFAULT_SYSADMIN_USERNAME);
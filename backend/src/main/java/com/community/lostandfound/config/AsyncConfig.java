@@ -0,0 +1,65 @@
+package com.community.lostandfound.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 异步任务配置
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${image.processing.pool-size:2}")
+    private int imagePoolSize;
+
+    @Value("${image.processing.queue-capacity:200}")
+    private int imageQueueCapacity;
+
+    @Value("${notification.executor.pool-size:2}")
+    private int notificationPoolSize;
+
+    @Value("${notification.executor.queue-capacity:1000}")
+    private int notificationQueueCapacity;
+
+    /**
+     * 图片处理线程池：固定线程数、有界队列，队列满时丢弃任务
+     * 缺少缩略图的图片在列表中回退为原图，不影响上传请求本身
+     * 图片缩放是CPU密集任务，开启虚拟线程（virtual profile）时仍使用平台线程池限制并发
+     */
+    @Bean(name = "imageProcessingExecutor")
+    public TaskExecutor imageProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imagePoolSize);
+        executor.setMaxPoolSize(imagePoolSize);
+        executor.setQueueCapacity(imageQueueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("图片处理队列已满（{}），丢弃任务", imageQueueCapacity));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 通知推送线程池：SSE写出在这里执行，慢客户端只占用推送线程，不阻塞提交事务的业务线程
+     * 队列满时丢弃本次推送，客户端重连或刷新列表时仍能看到最新状态
+     */
+    @Bean(name = "notificationExecutor")
+    public TaskExecutor notificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(notificationPoolSize);
+        executor.setMaxPoolSize(notificationPoolSize);
+        executor.setQueueCapacity(notificationQueueCapacity);
+        executor.setThreadNamePrefix("notify-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("通知推送队列已满（{}），丢弃推送", notificationQueueCapacity));
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,75 @@
+package com.community.lostandfound.config;
+
+import com.community.lostandfound.service.CountService;
+import com.community.lostandfound.service.ItemCacheService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 缓存及从库状态指标
+ * 物品缓存和分页总数缓存的区域在运行中按需出现，定期根据getStatistics()刷新
+ * cache.hit.ratio / cache.hits / cache.misses（标签 cache、region）；开启读写分离时另有从库延迟指标
+ */
+@Component
+public class CacheMetricsBinder {
+
+    private final ItemCacheService itemCacheService;
+    private final CountService countService;
+
+    private final MultiGauge hitRatio;
+    private final MultiGauge hits;
+    private final MultiGauge misses;
+
+    public CacheMetricsBinder(MeterRegistry meterRegistry, ItemCacheService itemCacheService, CountService countService,
+                              ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        this.itemCacheService = itemCacheService;
+        this.countService = countService;
+        this.hitRatio = MultiGauge.builder("cache.hit.ratio").description("缓存命中率").register(meterRegistry);
+        this.hits = MultiGauge.builder("cache.hits").description("缓存命中次数").register(meterRegistry);
+        this.misses = MultiGauge.builder("cache.misses").description("缓存未命中次数").register(meterRegistry);
+
+        replicaLagMonitor.ifAvailable(monitor -> {
+            Gauge.builder("db.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+                    .description("从库复制延迟（秒），未知时为-1")
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.available", monitor, m -> m.isReplicaAvailable() ? 1 : 0)
+                    .description("只读查询是否路由到从库")
+                    .register(meterRegistry);
+        });
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${metrics.cache.refresh-interval:15000}")
+    public void refresh() {
+        List<MultiGauge.Row<?>> ratioRows = new ArrayList<>();
+        List<MultiGauge.Row<?>> hitRows = new ArrayList<>();
+        List<MultiGauge.Row<?>> missRows = new ArrayList<>();
+        collect("item", itemCacheService.getStatistics(), ratioRows, hitRows, missRows);
+        collect("count", countService.getStatistics(), ratioRows, hitRows, missRows);
+        hitRatio.register(ratioRows, true);
+        hits.register(hitRows, true);
+        misses.register(missRows, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collect(String cache, Map<String, Object> statistics, List<MultiGauge.Row<?>> ratioRows,
+                                List<MultiGauge.Row<?>> hitRows, List<MultiGauge.Row<?>> missRows) {
+        statistics.forEach((region, value) -> {
+            Map<String, Object> entry = (Map<String, Object>) value;
+            Tags tags = Tags.of("cache", cache, "region", region);
+            ratioRows.add(MultiGauge.Row.of(tags, (Number) entry.get("hitRatio")));
+            hitRows.add(MultiGauge.Row.of(tags, (Number) entry.get("hits")));
+            missRows.add(MultiGauge.Row.of(tags, (Number) entry.get("misses")));
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.community.lostandfound.config;
+
+import com.community.lostandfound.service.FeedService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 首页动态校对任务
+ * feed_entries由各模块写入时同步维护，随用户级联删除的物品等绕过服务层的变化会造成偏差，
+ * 该任务定期补齐缺失的动态、删除来源已不存在的动态，并按来源记录修复过期的标题、状态等内容
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "feed.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class FeedReconciler {
+
+    private final FeedService feedService;
+
+    @Autowired
+    public FeedReconciler(FeedService feedService) {
+        this.feedService = feedService;
+    }
+
+    @Scheduled(cron = "${feed.reconcile.cron:0 45 3 * * *}")
+    public void reconcile() {
+        try {
+            int repaired = feedService.reconcile();
+            log.info("首页动态校对完成，修复 {} 条", repaired);
+        } catch (Exception e) {
+            log.error("首页动态校对失败", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.community.lostandfound.config;
+
+import com.community.lostandfound.service.impl.DeduplicatingFileStorageServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 去重存储的文件回收任务
+ * 定期删除物品图片和用户头像都不再引用、且已超过宽限期的文件内容
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "dedup")
+public class FileBlobGarbageCollector {
+
+    private final DeduplicatingFileStorageServiceImpl fileStorageService;
+
+    @Autowired
+    public FileBlobGarbageCollector(DeduplicatingFileStorageServiceImpl fileStorageService) {
+        this.fileStorageService = fileStorageService;
+    }
+
+    @Scheduled(cron = "${file.storage.gc.cron:0 0 4 * * *}")
+    public void collect() {
+        try {
+            int collected = fileStorageService.collectGarbage();
+            log.info("文件回收完成，删除 {} 个无引用的文件", collected);
+        } catch (Exception e) {
+            log.error("文件回收失败", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.community.lostandfound.config;
+
+import com.community.lostandfound.service.MatchingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 失物匹配索引重建任务
+ * 内存索引在启动完成后从数据库加载；其他实例的写入、认领审核通过等绕过物品服务的状态变化不会同步到本实例，
+ * 由定期重建补上，同时移出已超出匹配窗口的物品
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "matching.enabled", havingValue = "true", matchIfMissing = true)
+public class MatchIndexRebuilder {
+
+    private final MatchingService matchingService;
+
+    @Autowired
+    public MatchIndexRebuilder(MatchingService matchingService) {
+        this.matchingService = matchingService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${matching.rebuild.cron:0 15 * * * *}")
+    public void rebuild() {
+        try {
+            matchingService.rebuildIndex();
+        } catch (Exception e) {
+            log.error("失物匹配索引重建失败", e);
+        }
+    }
+}
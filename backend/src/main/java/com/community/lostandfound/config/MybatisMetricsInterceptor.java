@@ -0,0 +1,62 @@
+package com.community.lostandfound.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+/**
+ * MyBatis语句耗时统计
+ * 按Mapper方法记录 mybatis.statement 计时器，标签为 mapper、method、type(SELECT/INSERT/UPDATE/DELETE) 和 outcome，
+ * 由mybatis-spring-boot自动注册到SqlSessionFactory
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+            args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+            args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "update",
+            args = {MappedStatement.class, Object.class})
+})
+public class MybatisMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public MybatisMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            String id = statement.getId();
+            int split = id.lastIndexOf('.');
+            String mapper = split < 0 ? id : id.substring(id.lastIndexOf('.', split - 1) + 1, split);
+            sample.stop(Timer.builder("mybatis.statement")
+                    .description("MyBatis语句执行耗时")
+                    .tag("mapper", mapper)
+                    .tag("method", id.substring(split + 1))
+                    .tag("type", statement.getSqlCommandType().name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.community.lostandfound.config;
+
+import com.community.lostandfound.dto.notification.NotificationEvent;
+import com.community.lostandfound.service.NotificationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 通知的Redis发布/订阅转发
+ * 多实例部署时用户的SSE连接可能在任意实例上，各实例订阅同一频道，收到通知后推送给本实例上的连接。
+ * 订阅只占用监听容器的一条连接，与在线用户数无关
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "notification.redis-enabled", havingValue = "true")
+public class NotificationRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer notificationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       NotificationService notificationService,
+                                                                       ObjectMapper objectMapper) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                notificationService.deliver(objectMapper.readValue(body, NotificationEvent.class));
+            } catch (Exception e) {
+                log.warn("无法处理Redis通知消息: {}", e.getMessage());
+            }
+        }, new ChannelTopic(NotificationService.REDIS_CHANNEL));
+        return container;
+    }
+}
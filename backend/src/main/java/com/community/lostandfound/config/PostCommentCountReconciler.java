@@ -0,0 +1,36 @@
+package com.community.lostandfound.config;
+
+import com.community.lostandfound.service.PostService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 帖子评论数校对任务
+ * posts.comment_count由评论的创建和删除增量维护，直接删除评论数据等绕过服务层的操作会造成偏差，
+ * 该任务定期按post_comments重新计算并修复
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.comment-count.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class PostCommentCountReconciler {
+
+    private final PostService postService;
+
+    @Autowired
+    public PostCommentCountReconciler(PostService postService) {
+        this.postService = postService;
+    }
+
+    @Scheduled(cron = "${post.comment-count.reconcile.cron:0 30 3 * * *}")
+    public void reconcile() {
+        try {
+            int repaired = postService.reconcileCommentCounts();
+            log.info("帖子评论数校对完成，修复 {} 条帖子", repaired);
+        } catch (Exception e) {
+            log.error("帖子评论数校对失败", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.community.lostandfound.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 限流配置（rate-limit.*）
+ * 按路由分组设置令牌桶，每组可分别按客户端IP和按用户限流；请求按配置顺序匹配第一个分组
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 桶的存储：local（单实例内存）或 redis（多实例共享）
+     */
+    private String store = "local";
+
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Data
+    public static class Group {
+
+        /**
+         * Ant风格路径（不含context-path），如 /auth/**
+         */
+        private List<String> patterns = new ArrayList<>();
+
+        /**
+         * 需要限流的HTTP方法，为空时不区分
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * 按客户端IP限流，未配置时不限
+         */
+        private Bucket ip;
+
+        /**
+         * 按用户限流：登录/注册请求按提交的用户名或邮箱，其余按当前登录用户；未配置时不限
+         */
+        private Bucket user;
+    }
+
+    @Data
+    public static class Bucket {
+
+        /**
+         * 桶容量，即最多连续通过的请求数
+         */
+        private int capacity;
+
+        /**
+         * 空桶恢复到满桶所需的时间
+         */
+        private Duration refillPeriod;
+    }
+}
@@ -0,0 +1,98 @@
+package com.community.lostandfound.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 从库复制延迟检测
+ * 定期读取 SHOW REPLICA STATUS 的 Seconds_Behind_Source，延迟超过阈值、复制线程停止或从库无法连接时
+ * 将从库标记为不可用，只读查询回退到主库，恢复后自动切回。首次检测完成前视为不可用
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    @Value("${datasource.replica.max-lag:5s}")
+    private Duration maxLag;
+
+    private volatile boolean replicaAvailable = false;
+
+    // 最近一次检测到的延迟秒数，未配置复制或无法获取时为-1
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:5000}")
+    public void check() {
+        boolean available;
+        try {
+            Long lag = readLag();
+            if (lag == null) {
+                // 复制线程未运行
+                lagSeconds = -1;
+                available = false;
+            } else {
+                lagSeconds = lag;
+                available = lag < 0 || lag <= maxLag.toSeconds();
+            }
+        } catch (DataAccessException e) {
+            lagSeconds = -1;
+            available = false;
+            log.debug("检测从库延迟失败", e);
+        }
+
+        if (available != replicaAvailable) {
+            if (available) {
+                log.info("从库已恢复，只读查询切回从库, 延迟: {}秒", lagSeconds);
+            } else {
+                log.warn("从库不可用或延迟超过{}秒，只读查询回退到主库, 延迟: {}秒", maxLag.toSeconds(), lagSeconds);
+            }
+            replicaAvailable = available;
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * @return 延迟秒数；未配置复制时返回-1；复制线程未运行时返回null
+     */
+    private Long readLag() {
+        List<Map<String, Object>> rows;
+        try {
+            rows = replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS");
+        } catch (DataAccessException e) {
+            // MySQL 8.0.22 之前的版本
+            rows = replicaJdbcTemplate.queryForList("SHOW SLAVE STATUS");
+        }
+        if (rows.isEmpty()) {
+            return -1L;
+        }
+        Map<String, Object> status = rows.get(0);
+        Object lag = status.containsKey("Seconds_Behind_Source")
+                ? status.get("Seconds_Behind_Source")
+                : status.get("Seconds_Behind_Master");
+        return lag == null ? null : ((Number) lag).longValue();
+    }
+}
@@ -0,0 +1,73 @@
+package com.community.lostandfound.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 读写分离路由数据源
+ * 只读事务（@Transactional(readOnly = true)）路由到从库，其余操作以及以下情况均使用主库：
+ * - 从库延迟超过阈值或不可用（由ReplicaLagMonitor判断）
+ * - 当前请求被标记为需要读取主库（刚写入数据的客户端，见ReplicaStickinessFilter）
+ * - 查询结果要写入列表缓存（见onPrimary），避免把从库的旧数据以新版本号缓存下来
+ * 需配合LazyConnectionDataSourceProxy使用，使路由在事务只读标记设置之后、首条语句执行时才确定
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * 当前线程后续的读操作使用主库
+     */
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static void clearForcePrimary() {
+        PRIMARY_FORCED.remove();
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+
+    /**
+     * 在主库上执行读操作，结束后恢复原有的路由标记
+     * 必须在当前事务执行第一条语句之前调用，连接一旦取得就不再切换
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean forced = isPrimaryForced();
+        forcePrimary();
+        try {
+            return action.get();
+        } finally {
+            if (!forced) {
+                clearForcePrimary();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || isPrimaryForced()
+                || !lagMonitor.isReplicaAvailable()) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+}
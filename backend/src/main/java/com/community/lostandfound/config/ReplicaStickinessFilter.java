@@ -0,0 +1,75 @@
+package com.community.lostandfound.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 读己之写：客户端发起写请求后，在一段时间内它的读请求都走主库，避免从库延迟导致刚提交的数据“消失”
+ * 截止时间保存在Cookie中，多实例部署时无需共享状态
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "LAF_PRIMARY_UNTIL";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    @Value("${datasource.replica.sticky-window:10s}")
+    private Duration stickyWindow;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            // 响应可能在处理过程中提交，需在执行前写入Cookie
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(now + stickyWindow.toMillis()));
+            cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+            cookie.setMaxAge((int) Math.max(1, stickyWindow.toSeconds()));
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+
+        if (write || stickyUntil(request) > now) {
+            ReplicaRoutingDataSource.forcePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.clearForcePrimary();
+        }
+    }
+
+    private static long stickyUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+}
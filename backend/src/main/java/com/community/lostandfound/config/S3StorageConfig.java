@@ -0,0 +1,88 @@
+package com.community.lostandfound.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+
+/**
+ * S3兼容对象存储配置（file.storage.type=s3）
+ * endpoint为空时访问AWS S3；指向MinIO等兼容服务时通常需要开启path-style访问。
+ * 预签名地址由浏览器直接访问，容器内外地址不同时通过public-endpoint指定对外地址。
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+public class S3StorageConfig {
+
+    @Value("${file.storage.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${file.storage.s3.public-endpoint:}")
+    private String publicEndpoint;
+
+    @Value("${file.storage.s3.region:us-east-1}")
+    private String region;
+
+    @Value("${file.storage.s3.access-key:}")
+    private String accessKey;
+
+    @Value("${file.storage.s3.secret-key:}")
+    private String secretKey;
+
+    @Value("${file.storage.s3.path-style-access:true}")
+    private boolean pathStyleAccess;
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client() {
+        log.info("使用S3兼容对象存储: endpoint={}, region={}", endpoint.isEmpty() ? "AWS" : endpoint, region);
+        var builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider())
+                .serviceConfiguration(serviceConfiguration());
+        if (!endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        var builder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider())
+                .serviceConfiguration(serviceConfiguration());
+        String presignEndpoint = publicEndpoint.isEmpty() ? endpoint : publicEndpoint;
+        if (!presignEndpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(presignEndpoint));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 未配置访问密钥时使用默认凭证链（环境变量、实例角色等）
+     */
+    private AwsCredentialsProvider credentialsProvider() {
+        if (accessKey.isEmpty()) {
+            return DefaultCredentialsProvider.create();
+        }
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+
+    private S3Configuration serviceConfiguration() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccess)
+                .build();
+    }
+}
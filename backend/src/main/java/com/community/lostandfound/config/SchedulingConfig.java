@@ -0,0 +1,13 @@
+package com.community.lostandfound.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定时任务配置
+ * 调度线程池由 spring.task.scheduling.pool.size 配置（见application.yml），任务中的耗时IO应交给专用线程池执行
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
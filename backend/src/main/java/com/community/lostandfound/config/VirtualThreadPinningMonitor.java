@@ -0,0 +1,77 @@
+package com.community.lostandfound.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 虚拟线程钉住（pinning）监控
+ * 虚拟线程在synchronized块或本地方法中阻塞时会占住载体线程，连接池等待、网络IO都可能因此退化为平台线程的并发度。
+ * 通过JFR事件 jdk.VirtualThreadPinned 实时记录超过阈值的钉住，输出调用栈并累计 jvm.threads.virtual.pinned 计数，
+ * 便于发现依赖库或新增代码中的synchronized阻塞路径
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Counter pinnedCounter;
+
+    @Value("${virtual-threads.pinning.threshold:20ms}")
+    private Duration threshold;
+
+    @Value("${virtual-threads.pinning.stack-depth:8}")
+    private int stackDepth;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("虚拟线程钉住载体线程超过阈值的次数")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("已开启虚拟线程钉住监控，阈值: {}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        String stack = "";
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            stack = frames.stream()
+                    .limit(stackDepth)
+                    .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + ":" + frame.getLineNumber())
+                    .collect(Collectors.joining("\n    at "));
+        }
+        log.warn("虚拟线程被钉住 {}ms\n    at {}", event.getDuration().toMillis(), stack);
+    }
+}
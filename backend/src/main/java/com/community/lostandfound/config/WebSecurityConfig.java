@@ -3,6 +3,8 @@ package com.community.lostandfound.config;
 import com.community.lostandfound.security.AuthEntryPointJwt;
 import com.community.lostandfound.security.AuthTokenFilter;
 import com.community.lostandfound.security.CustomAuthenticationProvider;
+import com.community.lostandfound.security.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -37,6 +39,9 @@ public class WebSecurityConfig {
     
     @Autowired
     private AuthTokenFilter authTokenFilter;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
     
     private final CustomAuthenticationProvider customAuthenticationProvider;
 
@@ -66,14 +71,19 @@ public class WebSecurityConfig {
             .exceptionHandling(exception -> exception.authenticationEntryPoint(unauthorizedHandler))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // SSE等异步请求结束时的再次分派不携带令牌，认证已在初次请求时完成
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Public endpoints
                 .requestMatchers("/auth/**", "/announcements/**", "/lost-items/**", "/found-items/**").permitAll()
                 .requestMatchers("/forum/**").permitAll()
-                .requestMatchers("/actuator/**").permitAll()
+                .requestMatchers("/feed", "/feed/**").permitAll()
+                // 只有健康检查和应用信息公开，指标等其余端点仅限系统管理员
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/**").hasRole("SYSADMIN")
                 .requestMatchers("/system/**").permitAll()
                 .requestMatchers("/comments/**").permitAll()
-                // Allow access to uploads directory
-                .requestMatchers("/" + uploadDir + "/**").permitAll()
+                // Allow access to uploaded files (served by UploadResourceController)
+                .requestMatchers("/" + uploadDir + "/**", "/uploads/**", "/home/laf/be/uploads/**").permitAll()
                 // Allow access to upload endpoints without authentication
                 .requestMatchers("/upload/**").permitAll()
                 // Protected endpoints
@@ -85,6 +95,8 @@ public class WebSecurityConfig {
 
         http.authenticationProvider(customAuthenticationProvider);
         http.addFilterBefore(authTokenFilter, UsernamePasswordAuthenticationFilter.class);
+        // 限流在认证之后执行，已登录用户可按用户ID限流
+        http.addFilterAfter(rateLimitFilter, AuthTokenFilter.class);
 
         return http.build();
     }
@@ -4,6 +4,7 @@ import com.community.lostandfound.dto.admin.AdminUserDto;
 import com.community.lostandfound.dto.admin.AdminUserPageDto;
 import com.community.lostandfound.dto.admin.RegisterAdminRequest;
 import com.community.lostandfound.dto.admin.UpdateAdminStatusRequest;
+import com.community.lostandfound.dto.common.CountMode;
 import com.community.lostandfound.dto.user.UpdateUserAdminRequest;
 import com.community.lostandfound.dto.common.ApiResponse;
 import com.community.lostandfound.dto.report.ReportDto;
@@ -14,6 +15,7 @@ import com.community.lostandfound.entity.User;
 import com.community.lostandfound.exception.BadRequestException;
 import com.community.lostandfound.exception.ResourceNotFoundException;
 import com.community.lostandfound.security.UserDetailsImpl;
+import com.community.lostandfound.service.ItemCacheService;
 import com.community.lostandfound.service.ReportService;
 import com.community.lostandfound.service.UserService;
 import jakarta.validation.Valid;
@@ -45,6 +47,7 @@ public class AdminController {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final ReportService reportService;
+    private final ItemCacheService itemCacheService;
 
     /**
      * Register a new system administrator (only accessible by system admins)
@@ -155,28 +158,14 @@ public class AdminController {
         
         log.debug("Fetching all administrators: page={}, pageSize={}", page, pageSize);
         
-        // Get all users
-        List<User> allUsers = userService.getAllUsers();
-        
-        // Filter admin users
-        List<User> adminUsers = allUsers.stream()
-                .filter(user -> "admin".equals(user.getRole()) || "sysadmin".equals(user.getRole()))
-                .collect(Collectors.toList());
-        
-        // Calculate pagination
         page = Math.max(1, page);
         pageSize = Math.max(1, Math.min(100, pageSize));
         
-        int totalItems = adminUsers.size();
+        // Filter by role and paginate in the database (password column is not selected)
+        List<String> adminRoles = List.of("admin", "sysadmin");
+        int totalItems = userService.countUsersByRoles(adminRoles);
         int totalPages = (int) Math.ceil((double) totalItems / pageSize);
-        
-        int fromIndex = (page - 1) * pageSize;
-        int toIndex = Math.min(fromIndex + pageSize, totalItems);
-        
-        // If fromIndex is out of bounds, return empty list
-        List<User> pagedUsers = fromIndex < totalItems 
-                ? adminUsers.subList(fromIndex, toIndex) 
-                : List.of();
+        List<User> pagedUsers = userService.getUsersByRoles(adminRoles, page, pageSize);
         
         // Convert to DTOs
         List<AdminUserDto> adminDtos = pagedUsers.stream()
@@ -605,7 +594,8 @@ public class AdminController {
             @RequestParam(value = "page", defaultValue = "1") Integer page,
             @RequestParam(value = "size", defaultValue = "10") Integer size,
             @RequestParam(value = "status", required = false) String status,
-            @RequestParam(value = "type", required = false) String type) {
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "count", required = false) String count) {
         
         Report.ReportStatus reportStatus = null;
         Report.ReportType reportType = null;
@@ -630,7 +620,8 @@ public class AdminController {
             }
         }
         
-        ReportPageDto reports = reportService.getReports(page, size, reportStatus, reportType);
+        ReportPageDto reports = reportService.getReports(page, size, reportStatus, reportType,
+                CountMode.fromParam(count));
         return ResponseEntity.ok(ApiResponse.success("获取举报列表成功", reports));
     }
     
@@ -739,6 +730,15 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponse.success("解除用户锁定成功", adminUserDto));
     }
 
+    /**
+     * 获取物品缓存命中统计
+     */
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('SYSADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCacheStatistics() {
+        return ResponseEntity.ok(ApiResponse.success("获取缓存统计成功", itemCacheService.getStatistics()));
+    }
+
     /**
      * 从Authentication对象中获取当前用户ID
      * @param auth 认证对象
@@ -5,6 +5,7 @@ import com.community.lostandfound.dto.announcement.AnnouncementPageDto;
 import com.community.lostandfound.dto.announcement.CreateAnnouncementRequest;
 import com.community.lostandfound.dto.announcement.UpdateAnnouncementRequest;
 import com.community.lostandfound.dto.common.ApiResponse;
+import com.community.lostandfound.dto.common.CountMode;
 import com.community.lostandfound.exception.BadRequestException;
 import com.community.lostandfound.exception.ResourceNotFoundException;
 import com.community.lostandfound.security.CurrentUser;
@@ -43,6 +44,7 @@ public class AnnouncementController {
      * @param pageSize  每页条数
      * @param keyword   搜索关键词（模糊匹配标题或内容）
      * @param adminName 管理员用户名筛选（仅系统管理员可用）
+     * @param count     总数统计方式：exact（默认）、cached、none
      * @param currentUser 当前用户
      * @return 分页公告列表
      */
@@ -53,6 +55,7 @@ public class AnnouncementController {
             @RequestParam(defaultValue = "10") int pageSize,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String adminName,
+            @RequestParam(required = false) String count,
             @CurrentUser UserDetailsImpl currentUser) {
 
         log.info("获取公告列表, 页码: {}, 每页条数: {}, 关键词: {}, 管理员: {}",
@@ -68,16 +71,17 @@ public class AnnouncementController {
         
         // 判断当前用户是否为系统管理员
         boolean isSysAdmin = isCurrentUserSysAdmin();
+        CountMode countMode = CountMode.fromParam(count);
         
         AnnouncementPageDto result;
         if (isSysAdmin) {
             // 系统管理员可以获取所有公告
-            result = announcementService.getAllAnnouncements(page, pageSize, keyword, adminName);
+            result = announcementService.getAllAnnouncements(page, pageSize, keyword, adminName, countMode);
         } else {
             // 小区管理员只能获取自己发布的公告
             // 使用getAllAnnouncements方法，但只过滤当前管理员的公告
             // 这样保留了关键词搜索功能
-            result = announcementService.getAllAnnouncements(page, pageSize, keyword, currentUser.getUsername());
+            result = announcementService.getAllAnnouncements(page, pageSize, keyword, currentUser.getUsername(), countMode);
         }
         
         return ResponseEntity.ok(ApiResponse.success("获取公告列表成功", result));
@@ -90,16 +94,19 @@ public class AnnouncementController {
      * @param page     页码（从1开始）
      * @param pageSize 每页条数
      * @param keyword  搜索关键词（模糊匹配标题或内容，可选）
+     * @param count    总数统计方式：exact（默认）、cached、none
      * @return 分页公告列表
      */
     @GetMapping
     public ResponseEntity<ApiResponse<AnnouncementPageDto>> getPublishedAnnouncements(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int pageSize,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String count) {
 
         log.info("获取已发布公告列表, 页码: {}, 每页条数: {}, 关键词: {}", page, pageSize, keyword);
-        AnnouncementPageDto result = announcementService.getPublishedAnnouncements(page, pageSize, keyword);
+        AnnouncementPageDto result = announcementService.getPublishedAnnouncements(page, pageSize, keyword,
+                CountMode.fromParam(count));
         return ResponseEntity.ok(ApiResponse.success("获取已发布公告成功", result));
     }
 
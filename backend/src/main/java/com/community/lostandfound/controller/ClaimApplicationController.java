@@ -4,6 +4,7 @@ import com.community.lostandfound.dto.claim.ClaimApplicationDto;
 import com.community.lostandfound.dto.claim.ClaimPageDto;
 import com.community.lostandfound.dto.claim.ClaimRequestDto;
 import com.community.lostandfound.dto.common.ApiResponse;
+import com.community.lostandfound.dto.common.CountMode;
 import com.community.lostandfound.exception.BadRequestException;
 import com.community.lostandfound.exception.ResourceNotFoundException;
 import com.community.lostandfound.security.CurrentUser;
@@ -327,6 +328,7 @@ public class ClaimApplicationController {
      * @param applicantName  申请人姓名关键词，可选
      * @param page           页码，默认1
      * @param size           每页条数，默认10
+     * @param count          总数统计方式：exact（默认）、cached、none
      * @return 认领申请分页列表
      */
     @GetMapping("/admin/all")
@@ -338,14 +340,16 @@ public class ClaimApplicationController {
             @RequestParam(required = false) String itemTitle,
             @RequestParam(required = false) String applicantName,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String count) {
         
         log.info("管理员获取认领申请列表, 状态: {}, 日期范围: {} 至 {}, 物品名称: {}, 申请人: {}, 页码: {}, 每页条数: {}", 
                 status, startDate, endDate, itemTitle, applicantName, page, size);
+        CountMode countMode = CountMode.fromParam(count);
         
         try {
             ClaimPageDto pageDto = claimApplicationService.getAllApplications(
-                    status, startDate, endDate, itemTitle, applicantName, page, size);
+                    status, startDate, endDate, itemTitle, applicantName, page, size, countMode);
             
             log.debug("获取认领申请列表成功, 总条数: {}", pageDto.getTotalItems());
             
@@ -0,0 +1,47 @@
+package com.community.lostandfound.controller;
+
+import com.community.lostandfound.dto.common.ApiResponse;
+import com.community.lostandfound.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 首页动态控制器
+ * 将寻物启事、失物招领、论坛帖子和公告合并为一条按时间倒序的时间线
+ */
+@Slf4j
+@RestController
+@RequestMapping("/feed")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+
+    /**
+     * 获取首页动态
+     *
+     * @param cursor 游标（可选），第一页不传，之后传上一页返回的nextCursor
+     * @param size   每页条数
+     * @param types  来源类型筛选（可选）：lost-items, found-items, posts, announcements
+     * @return items、nextCursor和hasMore
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) List<String> types) {
+
+        log.debug("查询首页动态, 游标: {}, 每页条数: {}, 类型: {}", cursor, size, types);
+
+        Map<String, Object> result = feedService.getFeed(types, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("查询首页动态成功", result));
+    }
+}
@@ -7,6 +7,7 @@ import com.community.lostandfound.exception.BadRequestException;
 import com.community.lostandfound.security.CurrentUser;
 import com.community.lostandfound.security.UserDetailsImpl;
 import com.community.lostandfound.service.FileStorageService;
+import com.community.lostandfound.service.ImageProcessingService;
 import com.community.lostandfound.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +37,7 @@ import java.util.UUID;
 public class FileUploadController {
 
     private final FileStorageService fileStorageService;
+    private final ImageProcessingService imageProcessingService;
     private final UserService userService;
 
     @Value("${file.upload.allowed-extensions:jpg,jpeg,png,gif}")
@@ -86,6 +88,9 @@ public class FileUploadController {
             // 保存文件
             String filePath = fileStorageService.storeFile(file, newFilename, type);
             
+            // 后台生成缩略图，不阻塞上传请求
+            imageProcessingService.processImageAsync(filePath);
+            
             // 构建文件访问URL
             String fileUrl = fileStorageService.getFileUrl(filePath);
             
@@ -161,6 +166,7 @@ public class FileUploadController {
             
             // 保存头像文件
             String filePath = fileStorageService.storeFile(file, avatarFilename, "avatars");
+            imageProcessingService.processImageAsync(filePath);
             
             // 构建头像URL
             String fileUrl = fileStorageService.getFileUrl(filePath);
@@ -1,11 +1,14 @@
 package com.community.lostandfound.controller;
 
 import com.community.lostandfound.dto.common.ApiResponse;
+import com.community.lostandfound.dto.common.CountMode;
+import com.community.lostandfound.entity.ItemMatch;
 import com.community.lostandfound.entity.LostItem;
 import com.community.lostandfound.exception.ResourceNotFoundException;
 import com.community.lostandfound.security.CurrentUser;
 import com.community.lostandfound.security.UserDetailsImpl;
 import com.community.lostandfound.service.LostItemService;
+import com.community.lostandfound.service.MatchingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +39,7 @@ import java.util.stream.Collectors;
 public class LostItemController {
 
     private final LostItemService lostItemService;
+    private final MatchingService matchingService;
 
     /**
      * 发布寻物启事
@@ -121,6 +125,10 @@ public class LostItemController {
      * @param keyword  关键词
      * @param page     页码
      * @param size     每页条数
+     * @param cursor   游标（可选）。传入该参数（第一页传空字符串）时使用游标分页，
+     *                 按创建时间倒序返回items、nextCursor和hasMore，忽略page；不传则使用页码分页。
+     *                 关键词搜索只支持页码分页，与游标同时传入时返回400
+     * @param count    页码分页时总数的统计方式：exact（默认）、cached、none
      * @return 寻物启事列表
      */
     @GetMapping
@@ -129,30 +137,24 @@ public class LostItemController {
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String count) {
         
         log.info("查询寻物启事列表, 分类: {}, 状态: {}, 关键词: {}, 页码: {}, 每页条数: {}", 
                 category, status, keyword, page, size);
         
-        // 页码转为偏移量，数据库中从0开始计算，前端从1开始
-        int offset = (page - 1) * size;
-        
-        List<LostItem> items = lostItemService.getAllLostItems(category, status, keyword, offset, size);
-        int total = lostItemService.countAllLostItems(category, status, keyword);
-        
-        // 计算总页数
-        int totalPages = (total + size - 1) / size;
+        if (cursor != null) {
+            Map<String, Object> result = lostItemService.getItemsByCursor(category, status, keyword, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("查询寻物启事列表成功", result));
+        }
         
-        // 构造带分页信息的响应
-        var result = new HashMap<String, Object>();
-        result.put("items", items);
-        result.put("currentPage", page);
-        result.put("pageSize", size);
-        result.put("totalItems", total);
-        result.put("totalPages", totalPages);
+        // 列表查询走读穿透缓存，返回结构包含items、currentPage、pageSize、totalItems、totalPages和hasMore
+        Map<String, Object> result = lostItemService.getAllItems(category, status, keyword, page, size,
+                CountMode.fromParam(count));
         
         // 记录日志
-        log.debug("查询到{}条记录，共{}页", total, totalPages);
+        log.debug("查询到{}条记录，共{}页", result.get("totalItems"), result.get("totalPages"));
         
         return ResponseEntity.ok(ApiResponse.success("查询寻物启事列表成功", result));
     }
@@ -176,6 +178,25 @@ public class LostItemController {
         }
     }
 
+    /**
+     * 查询寻物启事自动匹配到的失物招领
+     * 匹配在物品发布或修改时计算，只返回仍待处理的失物招领，按得分倒序
+     *
+     * @param id 寻物启事ID
+     * @return 匹配结果
+     */
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<ApiResponse<List<ItemMatch>>> getLostItemMatches(@PathVariable Long id) {
+        log.info("查询寻物启事的匹配, ID: {}", id);
+        
+        if (lostItemService.getLostItemById(id).isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.fail("寻物启事不存在"));
+        }
+        List<ItemMatch> matches = matchingService.getMatchesForLostItem(id);
+        return ResponseEntity.ok(ApiResponse.success("查询寻物启事的匹配成功", matches));
+    }
+
     /**
      * 更新寻物启事
      *
@@ -0,0 +1,46 @@
+package com.community.lostandfound.controller;
+
+import com.community.lostandfound.security.CurrentUser;
+import com.community.lostandfound.security.UserDetailsImpl;
+import com.community.lostandfound.service.NotificationService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 推送通知控制器
+ * 客户端保持一条SSE连接接收认领申请和失物匹配的变化，收到事件后再刷新对应列表，替代定时轮询
+ */
+@Slf4j
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * 订阅当前用户的通知
+     * 事件名为通知类型（claim.created, claim.approved, claim.rejected, match.found），data为JSON；
+     * 浏览器原生EventSource无法携带Authorization头，前端需使用基于fetch的SSE客户端
+     *
+     * @param currentUser 当前用户
+     * @param response    HTTP响应
+     * @return SSE发射器
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter stream(@CurrentUser UserDetailsImpl currentUser, HttpServletResponse response) {
+        log.debug("用户订阅通知, 用户ID: {}", currentUser.getId());
+        // 关闭Nginx对该响应的缓冲，事件才能立即到达客户端
+        response.setHeader("X-Accel-Buffering", "no");
+        response.setHeader("Cache-Control", "no-cache");
+        return notificationService.subscribe(currentUser.getId());
+    }
+}
@@ -1,6 +1,7 @@
 package com.community.lostandfound.controller;
 
 import com.community.lostandfound.dto.common.ApiResponse;
+import com.community.lostandfound.dto.common.CountMode;
 import com.community.lostandfound.dto.common.PagedResponse;
 import com.community.lostandfound.dto.post.CreatePostRequest;
 import com.community.lostandfound.dto.post.PostResponse;
@@ -146,15 +147,18 @@ public class PostController {
      *
      * @param page 页码 (从0开始)
      * @param size 每页条数
+     * @param count 总数统计方式：exact（默认）、cached、none
      * @return 帖子列表
      */
     @GetMapping
     public ResponseEntity<ApiResponse<PagedResponse<PostResponse>>> getAllPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String count) {
         log.info("获取所有帖子: page={}, size={}", page, size);
+        CountMode countMode = CountMode.fromParam(count);
         try {
-            PagedResponse<PostResponse> posts = postService.getAllPosts(page, size);
+            PagedResponse<PostResponse> posts = postService.getAllPosts(page, size, countMode);
             return ResponseEntity.ok(ApiResponse.success("获取帖子列表成功", posts));
         } catch (Exception e) {
             log.error("获取所有帖子失败: ", e);
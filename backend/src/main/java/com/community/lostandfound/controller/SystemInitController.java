@@ -16,7 +16,6 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 系统初始化控制器，提供初始化相关的API
@@ -60,12 +59,10 @@ public class SystemInitController {
         log.info("收到系统初始化请求，创建初始管理员: {}", request.getUsername());
         
         // 验证是否有管理员存在
-        List<User> admins = userService.getAllUsers().stream()
-                .filter(u -> "admin".equals(u.getRole()) || "sysadmin".equals(u.getRole()))
-                .collect(Collectors.toList());
+        int adminCount = userService.countUsersByRoles(List.of("admin", "sysadmin"));
         
         // 如果已存在管理员，则禁止使用此API
-        if (!admins.isEmpty()) {
+        if (adminCount > 0) {
             return ResponseEntity.badRequest().body(ApiResponse.fail("系统已初始化，无法创建初始管理员"));
         }
         
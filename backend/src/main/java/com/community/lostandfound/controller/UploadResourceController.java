@@ -0,0 +1,217 @@
+package com.community.lostandfound.controller;
+
+import com.community.lostandfound.service.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 上传文件访问控制器
+ * 取代静态资源映射，为上传文件提供：
+ * - 内容寻址文件名（SHA-256）的长期不可变缓存：Cache-Control: immutable
+ * - 强ETag与If-None-Match条件请求
+ * - 单区间Range请求（多区间时返回完整内容）
+ * - Tomcat sendfile零拷贝传输，不支持时回退为FileChannel传输
+ * 使用对象存储时重定向到预签名地址，文件内容不经过本服务
+ */
+@Slf4j
+@RestController
+public class UploadResourceController {
+
+    private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile("^[0-9a-f]{64}(\\.[A-Za-z0-9]+)?$");
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    private final FileStorageService fileStorageService;
+
+    @Value("${file.upload.dir:uploads}")
+    private String uploadDir;
+
+    // 非内容寻址文件（历史上传）的缓存时间
+    @Value("${file.serve.legacy-max-age:86400}")
+    private long legacyMaxAge;
+
+    // 重定向到预签名地址的响应可缓存的时间，应小于预签名有效期
+    @Value("${file.serve.redirect-max-age:300}")
+    private long redirectMaxAge;
+
+    // 小于该大小的文件直接写出，sendfile的系统调用开销不划算
+    @Value("${file.serve.sendfile-threshold:49152}")
+    private long sendfileThreshold;
+
+    public UploadResourceController(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+    }
+
+    /**
+     * 读取上传文件
+     * 兼容 /uploads/** 和旧的生产环境绝对路径 /home/laf/be/uploads/**
+     */
+    @RequestMapping(value = {"/uploads/**", "/home/laf/be/uploads/**"}, method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String requestPath = urlPathHelper.getPathWithinApplication(request);
+        Optional<String> directUrl = fileStorageService.getDirectDownloadUrl(requestPath);
+        if (directUrl.isPresent()) {
+            // 预签名地址有时效，重定向响应本身不能被长期缓存
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + redirectMaxAge);
+            response.sendRedirect(directUrl.get());
+            return;
+        }
+
+        Path file = resolveFile(requestPath);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attributes.size();
+        String filename = file.getFileName().toString();
+        boolean contentAddressed = CONTENT_ADDRESSED_NAME.matcher(filename).matches();
+
+        // 内容寻址文件的ETag就是文件名中的摘要；历史文件使用修改时间和大小
+        String etag = contentAddressed
+                ? "\"" + filename.substring(0, 64) + "\""
+                : "\"" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-" + Long.toHexString(length) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                contentAddressed ? IMMUTABLE_CACHE_CONTROL : "public, max-age=" + legacyMaxAge);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, attributes.lastModifiedTime().toMillis());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(mediaType.toString());
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && length > 0 && (ifRange == null || ifRange.equals(etag))) {
+            Matcher matcher = SINGLE_RANGE.matcher(range.trim());
+            if (matcher.matches() && !(matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+                if (matcher.group(1).isEmpty()) {
+                    // bytes=-N：最后N个字节
+                    start = Math.max(0, length - parseLong(matcher.group(2)));
+                } else {
+                    start = parseLong(matcher.group(1));
+                    if (!matcher.group(2).isEmpty()) {
+                        end = Math.min(end, parseLong(matcher.group(2)));
+                    }
+                }
+                if (start >= length || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = length == 0 ? 0 : end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (count >= sendfileThreshold && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 交给Tomcat在请求处理结束后用sendfile直接从页缓存发送，不经过JVM堆
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            OutputStream output = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(output);
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+            output.flush();
+        }
+    }
+
+    /**
+     * 将请求路径映射到上传目录下的文件，越界或不存在时返回null
+     */
+    private Path resolveFile(String requestPath) {
+        int index = requestPath.indexOf("uploads/");
+        if (index < 0) {
+            return null;
+        }
+        String relative = requestPath.substring(index + "uploads/".length());
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path file = root.resolve(relative).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file) || !Files.isReadable(file)) {
+            return null;
+        }
+        return file;
+    }
+
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag) || value.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -60,4 +60,9 @@ public class AnnouncementDto {
      * 更新时间
      */
     private LocalDateTime updatedAt;
-} 
\ No newline at end of file
+    
+    /**
+     * 搜索高亮片段（仅搜索结果返回）
+     */
+    private String highlight;
+}
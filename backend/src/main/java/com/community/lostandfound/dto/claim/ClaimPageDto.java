@@ -31,12 +31,17 @@ public class ClaimPageDto {
     private int pageSize;
     
     /**
-     * 总页数
+     * 总页数，未统计总数（count=none）时为null
      */
-    private int totalPages;
+    private Integer totalPages;
     
     /**
-     * 总记录数
+     * 总记录数，未统计总数（count=none）时为null
      */
-    private long totalItems;
+    private Long totalItems;
+    
+    /**
+     * 是否还有下一页
+     */
+    private boolean hasMore;
 } 
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.community.lostandfound.dto.common;
+
+import com.community.lostandfound.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * 分页总数的统计方式，由客户端通过count参数按请求选择
+ * - EXACT: 每次执行COUNT查询（默认）
+ * - CACHED: 按筛选条件缓存COUNT结果，在较短的TTL内复用
+ * - NONE: 不统计总数，只返回是否还有下一页
+ */
+public enum CountMode {
+    EXACT,
+    CACHED,
+    NONE;
+
+    /**
+     * 解析请求参数，未传时为EXACT
+     *
+     * @param value 参数值（exact, cached, none，不区分大小写）
+     * @return 统计方式
+     * @throws BadRequestException 参数值无效
+     */
+    public static CountMode fromParam(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("无效的count参数: " + value + "，可选值为 exact, cached, none");
+        }
+    }
+
+    /**
+     * 页面查询应读取的行数：不统计总数时多取一条用于判断是否还有下一页
+     *
+     * @param pageSize 每页条数
+     * @return 查询行数
+     */
+    public int fetchSize(int pageSize) {
+        return this == NONE ? pageSize + 1 : pageSize;
+    }
+}
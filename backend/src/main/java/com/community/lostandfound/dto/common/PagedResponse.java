@@ -13,20 +13,23 @@ public class PagedResponse<T> {
     private List<T> items;
     private int page;
     private int pageSize;
-    private int totalPages;
-    private long total;
+    // 未统计总数（count=none）时total和totalPages为null，以hasMore判断是否还有下一页
+    private Integer totalPages;
+    private Long total;
+    private boolean hasMore;
     
-    public static <T> PagedResponse<T> of(List<T> items, int page, int pageSize, long total) {
+    public static <T> PagedResponse<T> of(List<T> items, int page, int pageSize, Long total, boolean hasMore) {
         return new PagedResponse<>(
                 items, 
                 page, 
                 pageSize, 
-                calculateTotalPages(total, pageSize), 
-                total
+                total == null ? null : calculateTotalPages(total, pageSize), 
+                total,
+                hasMore
         );
     }
     
     private static int calculateTotalPages(long total, int pageSize) {
         return pageSize > 0 ? (int) Math.ceil((double) total / pageSize) : 0;
     }
-} 
\ No newline at end of file
+}
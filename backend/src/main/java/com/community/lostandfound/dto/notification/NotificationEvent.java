@@ -0,0 +1,21 @@
+package com.community.lostandfound.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 发给某个用户的通知事件
+ * 在本地事件总线上发布，开启Redis转发时序列化后通过发布/订阅广播给各实例
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationEvent {
+    /**
+     * 接收通知的用户ID
+     */
+    private Long userId;
+    
+    private NotificationMessage message;
+}
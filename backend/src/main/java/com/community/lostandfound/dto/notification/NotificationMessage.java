@@ -0,0 +1,43 @@
+package com.community.lostandfound.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 推送通知DTO，作为SSE事件的data发送给客户端
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationMessage {
+    /**
+     * 通知类型，同时作为SSE事件名：claim.created, claim.approved, claim.rejected, match.found
+     */
+    private String type;
+    
+    /**
+     * 通知标题
+     */
+    private String title;
+    
+    /**
+     * 通知内容
+     */
+    private String content;
+    
+    /**
+     * 相关记录的ID等附加数据，客户端据此刷新对应列表
+     */
+    private Map<String, Object> data;
+    
+    /**
+     * 通知产生时间
+     */
+    private LocalDateTime createdAt;
+}
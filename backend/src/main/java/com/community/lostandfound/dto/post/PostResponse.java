@@ -24,4 +24,5 @@ public class PostResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Integer commentCount; // 评论数量
+    private String highlight; // 搜索高亮片段，仅搜索结果返回
 } 
\ No newline at end of file
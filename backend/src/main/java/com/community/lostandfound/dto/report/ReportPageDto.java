@@ -16,11 +16,14 @@ public class ReportPageDto {
     // 举报列表
     private List<ReportDto> reports;
     
-    // 总记录数
-    private long totalItems;
+    // 总记录数，未统计总数（count=none）时为null
+    private Long totalItems;
     
-    // 总页数
-    private int totalPages;
+    // 总页数，未统计总数时为null
+    private Integer totalPages;
+    
+    // 是否还有下一页
+    private boolean hasMore;
     
     // 当前页码
     private int currentPage;
@@ -0,0 +1,27 @@
+package com.community.lostandfound.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 全文搜索结果页
+ * @param <T> 结果实体类型
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPage<T> {
+    
+    // 按相关度排序的结果
+    private List<T> items;
+    
+    // 匹配总数
+    private long total;
+    
+    // 结果ID -> 高亮片段（HTML已转义，关键词以<em>标记）
+    private Map<Long, String> highlights;
+}
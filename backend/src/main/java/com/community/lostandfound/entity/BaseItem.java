@@ -5,11 +5,14 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -19,6 +22,7 @@ import java.util.List;
 @Slf4j
 public abstract class BaseItem {
     protected static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectReader IMAGES_READER = objectMapper.readerFor(new TypeReference<List<String>>() {});
 
     private Long id;
     private String title;
@@ -34,36 +38,63 @@ public abstract class BaseItem {
     // 用于响应的瞬态字段
     private String username;
     
+    // 与images一一对应的缩略图地址，尚未生成缩略图的位置为原图地址；仅列表接口填充
+    private List<String> thumbnails;
+    
     // JSON图片处理 - 由子类共用
-    @JsonProperty("images")
-    private List<String> imagesList = new ArrayList<>();
+    // images的解析结果，首次访问时解析一次并缓存，images被重新赋值时清空
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private List<String> imagesList;
+    
+    public void setImages(String images) {
+        this.images = images;
+        this.imagesList = null;
+    }
     
     @JsonProperty("images")
     public void setImagesList(List<String> imagesList) {
+        List<String> copy = imagesList == null ? List.of() : List.copyOf(imagesList);
         try {
-            this.images = objectMapper.writeValueAsString(imagesList);
+            this.images = objectMapper.writeValueAsString(copy);
+            this.imagesList = copy;
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize images list", e);
             this.images = "[]";
+            this.imagesList = List.of();
         }
     }
     
+    /**
+     * 图片地址列表（只读），列表页和序列化会多次访问，只在第一次访问时解析JSON
+     */
     @JsonIgnore
     public List<String> getImagesList() {
+        List<String> parsed = imagesList;
+        if (parsed == null) {
+            parsed = parseImages(images);
+            imagesList = parsed;
+        }
+        return parsed;
+    }
+    
+    @JsonProperty("images") 
+    public List<String> getImagesListForSerialization() {
+        return getImagesList();
+    }
+    
+    private static List<String> parseImages(String images) {
         if (images == null || images.isEmpty()) {
-            return new ArrayList<>();
+            return List.of();
         }
         
         try {
-            return objectMapper.readValue(images, new TypeReference<List<String>>() {});
+            List<String> parsed = IMAGES_READER.readValue(images);
+            return parsed == null ? List.of() : Collections.unmodifiableList(parsed);
         } catch (JsonProcessingException e) {
             log.error("Failed to deserialize images JSON", e);
-            return new ArrayList<>();
+            return List.of();
         }
     }
-    
-    @JsonProperty("images") 
-    public List<String> getImagesListForSerialization() {
-        return getImagesList();
-    }
-} 
\ No newline at end of file
+}
@@ -72,6 +72,11 @@ public class ClaimApplication {
      */
     private String foundItemTitle;
     
+    /**
+     * 失物招领封面图片（images中的第一张）
+     */
+    private String foundItemImage;
+    
     /**
      * 失物招领所有者ID
      */
@@ -0,0 +1,64 @@
+package com.community.lostandfound.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 首页动态实体类
+ * 寻物启事、失物招领、论坛帖子和已发布公告在写入时同步到feed_entries，按创建时间合并为一条时间线
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedEntry {
+    
+    private Long id;
+    
+    /**
+     * 来源类型：lost-items, found-items, posts, announcements
+     */
+    private String entryType;
+    
+    /**
+     * 来源记录ID
+     */
+    private Long entryId;
+    
+    private String title;
+    
+    /**
+     * 描述或正文的前若干字
+     */
+    private String summary;
+    
+    /**
+     * 封面图片（物品的第一张图片）
+     */
+    private String image;
+    
+    /**
+     * 封面缩略图（非持久化字段）
+     */
+    private String thumbnail;
+    
+    /**
+     * 来源记录状态，如物品的pending/found/claimed
+     */
+    private String status;
+    
+    /**
+     * 发布者ID（公告为管理员ID）
+     */
+    private Long userId;
+    
+    private String username;
+    
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,41 @@
+package com.community.lostandfound.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件内容实体类
+ * 去重存储下每份内容只保存一次，以SHA-256摘要为主键
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileBlob {
+    
+    /**
+     * 内容的SHA-256摘要（十六进制）
+     */
+    private String digest;
+    
+    /**
+     * 文件存储路径
+     */
+    private String path;
+    
+    /**
+     * 文件大小（字节）
+     */
+    private Long size;
+    
+    private LocalDateTime createdAt;
+    
+    /**
+     * 最近一次上传该内容的时间，垃圾回收的宽限期从此时开始计算
+     */
+    private LocalDateTime lastStoredAt;
+}
@@ -0,0 +1,51 @@
+package com.community.lostandfound.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 图片变体实体类
+ * 记录上传图片异步生成的缩略图等派生文件
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageVariant {
+    private Long id;
+    
+    /**
+     * 原图存储键（uploads/子目录/文件名）
+     */
+    private String originalPath;
+    
+    /**
+     * 变体名称：thumb, medium, thumb-webp, medium-webp
+     */
+    private String variant;
+    
+    /**
+     * 变体文件存储路径
+     */
+    private String path;
+    
+    /**
+     * 图片格式：jpeg, webp
+     */
+    private String format;
+    
+    private Integer width;
+    
+    private Integer height;
+    
+    /**
+     * 文件大小（字节）
+     */
+    private Long size;
+    
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,48 @@
+package com.community.lostandfound.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 失物自动匹配结果实体类
+ * 一条记录对应一对寻物启事和失物招领；按某一侧查询时附带对侧物品的摘要信息
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemMatch {
+    
+    private Long lostItemId;
+    
+    private Long foundItemId;
+    
+    /**
+     * 匹配得分 0~1，综合文本、地点和时间的相似度
+     */
+    private Double score;
+    
+    // 对侧物品的摘要信息（非持久化字段）
+    private String title;
+    
+    private String category;
+    
+    private String location;
+    
+    /**
+     * 对侧物品的丢失/拾到时间
+     */
+    private LocalDateTime itemDate;
+    
+    private String image;
+    
+    private String status;
+    
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+}
@@ -27,6 +27,8 @@ public class Post {
     
     private String userAvatar;
     
+    private Integer commentCount; // 评论数量，由评论的创建和删除维护
+    
     private LocalDateTime createdAt;
     
     private LocalDateTime updatedAt;
@@ -0,0 +1,79 @@
+package com.community.lostandfound.repository;
+
+import com.community.lostandfound.entity.FeedEntry;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 首页动态数据访问接口，SQL定义在 mapper/FeedMapper.xml
+ */
+@Mapper
+public interface FeedRepository {
+    
+    /**
+     * 写入或更新一条动态，发布者用户名从users表读取
+     *
+     * @param entry 动态
+     */
+    void upsert(FeedEntry entry);
+    
+    /**
+     * 删除来源记录对应的动态
+     *
+     * @param entryType 来源类型
+     * @param entryId 来源记录ID
+     */
+    void deleteByEntry(@Param("entryType") String entryType, @Param("entryId") Long entryId);
+    
+    /**
+     * 按 (created_at, id) 倒序读取游标之后的动态
+     *
+     * @param entryTypes 来源类型筛选，为空时不筛选
+     * @param cursorCreatedAt 游标时间，为null时从最新开始
+     * @param cursorId 游标ID
+     * @param limit 条数
+     * @return 动态列表
+     */
+    List<FeedEntry> findAfterCursor(
+            @Param("entryTypes") Collection<String> entryTypes,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit);
+    
+    /**
+     * 补齐缺失的动态（如升级前的数据、绕过服务层写入的数据）
+     *
+     * @return 插入的行数
+     */
+    int insertMissingLostItems();
+    
+    int insertMissingFoundItems();
+    
+    int insertMissingPosts();
+    
+    int insertMissingAnnouncements();
+    
+    /**
+     * 按来源记录修复内容不一致的动态（标题、摘要、封面、状态、发布者用户名、时间）
+     *
+     * @return 更新的行数
+     */
+    int updateStaleLostItems();
+    
+    int updateStaleFoundItems();
+    
+    int updateStalePosts();
+    
+    int updateStaleAnnouncements();
+    
+    /**
+     * 删除来源记录已不存在（或公告已不再发布）的动态
+     *
+     * @return 删除的行数
+     */
+    int deleteDangling();
+}
@@ -0,0 +1,78 @@
+package com.community.lostandfound.repository;
+
+import com.community.lostandfound.entity.FileBlob;
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 文件内容数据访问接口
+ */
+@Mapper
+public interface FileBlobRepository {
+    
+    /**
+     * 登记文件内容；内容已存在时只刷新最近上传时间
+     * 该语句会锁定摘要对应的行，与垃圾回收的删除互斥
+     *
+     * @param blob 文件内容
+     */
+    @Insert("INSERT INTO file_blobs(digest, path, size, created_at, last_stored_at) " +
+            "VALUES(#{digest}, #{path}, #{size}, #{createdAt}, #{lastStoredAt}) " +
+            "ON DUPLICATE KEY UPDATE last_stored_at = VALUES(last_stored_at)")
+    void upsert(FileBlob blob);
+    
+    @Select("SELECT * FROM file_blobs WHERE digest = #{digest}")
+    @Results({
+        @Result(property = "digest", column = "digest"),
+        @Result(property = "path", column = "path"),
+        @Result(property = "size", column = "size"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "lastStoredAt", column = "last_stored_at")
+    })
+    Optional<FileBlob> findByDigest(@Param("digest") String digest);
+    
+    @Select("SELECT * FROM file_blobs WHERE path = #{path}")
+    @Results({
+        @Result(property = "digest", column = "digest"),
+        @Result(property = "path", column = "path"),
+        @Result(property = "size", column = "size"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "lastStoredAt", column = "last_stored_at")
+    })
+    Optional<FileBlob> findByPath(@Param("path") String path);
+    
+    /**
+     * 查询宽限期之前上传、且没有任何引用的文件内容
+     *
+     * @param cutoff 宽限期截止时间
+     * @param limit 最多返回条数
+     * @return 可回收的文件内容
+     */
+    @Select("SELECT b.* FROM file_blobs b " +
+            "WHERE b.last_stored_at < #{cutoff} " +
+            "AND NOT EXISTS (SELECT 1 FROM file_references r WHERE r.digest = b.digest) " +
+            "ORDER BY b.last_stored_at " +
+            "LIMIT #{limit}")
+    @Results({
+        @Result(property = "digest", column = "digest"),
+        @Result(property = "path", column = "path"),
+        @Result(property = "size", column = "size"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "lastStoredAt", column = "last_stored_at")
+    })
+    List<FileBlob> findUnreferenced(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+    
+    /**
+     * 在仍无引用且未被重新上传时删除登记记录
+     *
+     * @param digest 摘要
+     * @param cutoff 宽限期截止时间
+     * @return 删除的行数
+     */
+    @Delete("DELETE FROM file_blobs WHERE digest = #{digest} AND last_stored_at < #{cutoff} " +
+            "AND NOT EXISTS (SELECT 1 FROM file_references r WHERE r.digest = #{digest})")
+    int deleteIfUnreferenced(@Param("digest") String digest, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,49 @@
+package com.community.lostandfound.repository;
+
+import org.apache.ibatis.annotations.*;
+
+import java.util.Collection;
+
+/**
+ * 文件引用数据访问接口
+ * 记录物品图片、用户头像等对去重文件内容的引用
+ */
+@Mapper
+public interface FileReferenceRepository {
+    
+    /**
+     * 为引用方登记对一组文件内容的引用，只登记file_blobs中存在的摘要
+     *
+     * @param ownerType 引用方类型
+     * @param ownerId 引用方ID
+     * @param digests 摘要集合
+     */
+    @Insert({
+        "<script>",
+        "INSERT IGNORE INTO file_references(digest, owner_type, owner_id, created_at) ",
+        "SELECT digest, #{ownerType}, #{ownerId}, NOW() FROM file_blobs WHERE digest IN ",
+        "<foreach item='digest' collection='digests' open='(' separator=',' close=')'>",
+        "  #{digest}",
+        "</foreach>",
+        "</script>"
+    })
+    void insertForExistingBlobs(
+            @Param("ownerType") String ownerType,
+            @Param("ownerId") Long ownerId,
+            @Param("digests") Collection<String> digests);
+    
+    @Delete("DELETE FROM file_references WHERE owner_type = #{ownerType} AND owner_id = #{ownerId}")
+    int deleteByOwner(@Param("ownerType") String ownerType, @Param("ownerId") Long ownerId);
+    
+    /**
+     * 删除引用方记录已不存在的引用（如随用户级联删除的物品）
+     *
+     * @param ownerType 引用方类型
+     * @param ownerTable 引用方所在表，只允许传入代码中的常量
+     * @return 删除的行数
+     */
+    @Delete("DELETE r FROM file_references r " +
+            "LEFT JOIN ${ownerTable} o ON r.owner_id = o.id " +
+            "WHERE r.owner_type = #{ownerType} AND o.id IS NULL")
+    int deleteDangling(@Param("ownerType") String ownerType, @Param("ownerTable") String ownerTable);
+}
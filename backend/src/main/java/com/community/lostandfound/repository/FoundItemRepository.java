@@ -3,6 +3,8 @@ package com.community.lostandfound.repository;
 import com.community.lostandfound.entity.FoundItem;
 import org.apache.ibatis.annotations.*;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +41,38 @@ public interface FoundItemRepository {
     })
     Optional<FoundItem> findById(@Param("id") Long id);
     
+    /**
+     * 按ID批量查询，供列表批量组装使用，避免逐行查询
+     */
+    @Select({
+        "<script>",
+        "SELECT fi.*, u.username FROM found_items fi ",
+        "JOIN users u ON fi.user_id = u.id ",
+        "WHERE fi.id IN ",
+        "<foreach item='id' collection='ids' open='(' separator=',' close=')'>",
+        "  #{id}",
+        "</foreach>",
+        "</script>"
+    })
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "title", column = "title"),
+        @Result(property = "description", column = "description"),
+        @Result(property = "foundDate", column = "found_date"),
+        @Result(property = "foundLocation", column = "found_location"),
+        @Result(property = "storageLocation", column = "storage_location"),
+        @Result(property = "category", column = "category"),
+        @Result(property = "images", column = "images"),
+        @Result(property = "contactInfo", column = "contact_info"),
+        @Result(property = "claimRequirements", column = "claim_requirements"),
+        @Result(property = "status", column = "status"),
+        @Result(property = "userId", column = "user_id"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at"),
+        @Result(property = "username", column = "username")
+    })
+    List<FoundItem> findByIds(@Param("ids") Collection<Long> ids);
+    
     @Select({
         "<script>",
         "SELECT fi.*, u.username FROM found_items fi ",
@@ -84,6 +118,54 @@ public interface FoundItemRepository {
             @Param("offset") int offset,
             @Param("limit") int limit);
     
+    /**
+     * 游标分页查询：按 (created_at, id) 倒序定位到游标之后的记录，避免OFFSET扫描并丢弃前面的行
+     * cursorCreatedAt为null时返回第一页
+     */
+    @Select({
+        "<script>",
+        "SELECT fi.*, u.username FROM found_items fi ",
+        "JOIN users u ON fi.user_id = u.id ",
+        "<where>",
+        "  <if test='category != null'>",
+        "    AND fi.category = #{category}",
+        "  </if>",
+        "  <if test='status != null'>",
+        "    AND fi.status = #{status}",
+        "  </if>",
+        "  <if test='cursorCreatedAt != null'>",
+        "    AND (fi.created_at &lt; #{cursorCreatedAt} ",
+        "      OR (fi.created_at = #{cursorCreatedAt} AND fi.id &lt; #{cursorId}))",
+        "  </if>",
+        "</where>",
+        "ORDER BY fi.created_at DESC, fi.id DESC ",
+        "LIMIT #{limit}",
+        "</script>"
+    })
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "title", column = "title"),
+        @Result(property = "description", column = "description"),
+        @Result(property = "foundDate", column = "found_date"),
+        @Result(property = "foundLocation", column = "found_location"),
+        @Result(property = "storageLocation", column = "storage_location"),
+        @Result(property = "category", column = "category"),
+        @Result(property = "images", column = "images"),
+        @Result(property = "contactInfo", column = "contact_info"),
+        @Result(property = "claimRequirements", column = "claim_requirements"),
+        @Result(property = "status", column = "status"),
+        @Result(property = "userId", column = "user_id"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at"),
+        @Result(property = "username", column = "username")
+    })
+    List<FoundItem> findAfterCursor(
+            @Param("category") String category,
+            @Param("status") String status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit);
+    
     @Select({
         "<script>",
         "SELECT COUNT(*) FROM found_items fi ",
@@ -131,6 +213,50 @@ public interface FoundItemRepository {
     })
     List<FoundItem> findByUserId(@Param("userId") Long userId);
     
+    /**
+     * 分页查询用户发布的失物招领，可按状态筛选，按 (user_id, created_at) 索引顺序读取
+     */
+    @Select({
+        "<script>",
+        "SELECT fi.*, u.username FROM found_items fi ",
+        "JOIN users u ON fi.user_id = u.id ",
+        "WHERE fi.user_id = #{userId} ",
+        "<if test='status != null and status != \"\"'>AND fi.status = #{status} </if>",
+        "ORDER BY fi.created_at DESC ",
+        "LIMIT #{offset}, #{limit}",
+        "</script>"
+    })
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "title", column = "title"),
+        @Result(property = "description", column = "description"),
+        @Result(property = "foundDate", column = "found_date"),
+        @Result(property = "foundLocation", column = "found_location"),
+        @Result(property = "storageLocation", column = "storage_location"),
+        @Result(property = "category", column = "category"),
+        @Result(property = "images", column = "images"),
+        @Result(property = "contactInfo", column = "contact_info"),
+        @Result(property = "claimRequirements", column = "claim_requirements"),
+        @Result(property = "status", column = "status"),
+        @Result(property = "userId", column = "user_id"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at"),
+        @Result(property = "username", column = "username")
+    })
+    List<FoundItem> findByUserIdAndStatus(
+            @Param("userId") Long userId,
+            @Param("status") String status,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+    
+    @Select({
+        "<script>",
+        "SELECT COUNT(*) FROM found_items WHERE user_id = #{userId} ",
+        "<if test='status != null and status != \"\"'>AND status = #{status}</if>",
+        "</script>"
+    })
+    long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") String status);
+    
     @Update("UPDATE found_items SET title = #{title}, description = #{description}, " +
             "found_date = #{foundDate}, found_location = #{foundLocation}, storage_location = #{storageLocation}, category = #{category}, " +
             "images = #{images}, contact_info = #{contactInfo}, claim_requirements = #{claimRequirements}, " +
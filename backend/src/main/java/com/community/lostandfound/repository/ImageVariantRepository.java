@@ -0,0 +1,92 @@
+package com.community.lostandfound.repository;
+
+import com.community.lostandfound.entity.ImageVariant;
+import org.apache.ibatis.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 图片变体数据访问接口
+ */
+@Mapper
+public interface ImageVariantRepository {
+    
+    /**
+     * 保存图片变体，同一原图的同名变体重复生成时覆盖
+     *
+     * @param variant 图片变体
+     */
+    @Insert("INSERT INTO image_variants(original_path, variant, path, format, width, height, size, created_at) " +
+            "VALUES(#{originalPath}, #{variant}, #{path}, #{format}, #{width}, #{height}, #{size}, #{createdAt}) " +
+            "ON DUPLICATE KEY UPDATE path = VALUES(path), format = VALUES(format), width = VALUES(width), " +
+            "height = VALUES(height), size = VALUES(size), created_at = VALUES(created_at)")
+    void save(ImageVariant variant);
+    
+    /**
+     * 批量查询一组原图的指定变体
+     *
+     * @param originalPaths 原图存储键集合
+     * @param variant 变体名称
+     * @return 图片变体列表
+     */
+    @Select({
+        "<script>",
+        "SELECT * FROM image_variants WHERE variant = #{variant} AND original_path IN ",
+        "<foreach item='path' collection='originalPaths' open='(' separator=',' close=')'>",
+        "  #{path}",
+        "</foreach>",
+        "</script>"
+    })
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "originalPath", column = "original_path"),
+        @Result(property = "variant", column = "variant"),
+        @Result(property = "path", column = "path"),
+        @Result(property = "format", column = "format"),
+        @Result(property = "width", column = "width"),
+        @Result(property = "height", column = "height"),
+        @Result(property = "size", column = "size"),
+        @Result(property = "createdAt", column = "created_at")
+    })
+    List<ImageVariant> findByOriginalPaths(
+            @Param("originalPaths") Collection<String> originalPaths,
+            @Param("variant") String variant);
+    
+    /**
+     * 查询某张原图的全部变体
+     *
+     * @param originalPath 原图存储键
+     * @return 图片变体列表
+     */
+    @Select("SELECT * FROM image_variants WHERE original_path = #{originalPath}")
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "originalPath", column = "original_path"),
+        @Result(property = "variant", column = "variant"),
+        @Result(property = "path", column = "path"),
+        @Result(property = "format", column = "format"),
+        @Result(property = "width", column = "width"),
+        @Result(property = "height", column = "height"),
+        @Result(property = "size", column = "size"),
+        @Result(property = "createdAt", column = "created_at")
+    })
+    List<ImageVariant> findByOriginalPath(@Param("originalPath") String originalPath);
+    
+    /**
+     * 查询以某个文件作为变体的原图存储键
+     *
+     * @param path 变体文件存储路径
+     * @return 原图存储键列表
+     */
+    @Select("SELECT original_path FROM image_variants WHERE path = #{path}")
+    List<String> findOriginalPathsByPath(@Param("path") String path);
+    
+    /**
+     * 删除某张原图的全部变体记录
+     *
+     * @param originalPath 原图存储键
+     */
+    @Delete("DELETE FROM image_variants WHERE original_path = #{originalPath}")
+    void deleteByOriginalPath(@Param("originalPath") String originalPath);
+}
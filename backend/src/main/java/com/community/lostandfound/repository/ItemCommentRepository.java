@@ -3,6 +3,7 @@ package com.community.lostandfound.repository;
 import com.community.lostandfound.entity.ItemComment;
 import org.apache.ibatis.annotations.*;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +46,36 @@ public interface ItemCommentRepository {
     })
     Optional<ItemComment> findById(Long id);
     
+    /**
+     * 根据ID批量查询评论
+     *
+     * @param ids 评论ID集合
+     * @return 评论列表
+     */
+    @Select({
+        "<script>",
+        "SELECT c.*, u.username, u.avatar as user_avatar ",
+        "FROM item_comments c ",
+        "JOIN users u ON c.user_id = u.id ",
+        "WHERE (c.item_type = 'lost' OR c.item_type = 'found') AND c.id IN ",
+        "<foreach item='id' collection='ids' open='(' separator=',' close=')'>",
+        "  #{id}",
+        "</foreach>",
+        "</script>"
+    })
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "content", column = "content"),
+        @Result(property = "itemId", column = "item_id"),
+        @Result(property = "itemType", column = "item_type"),
+        @Result(property = "userId", column = "user_id"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at"),
+        @Result(property = "username", column = "username"),
+        @Result(property = "userAvatar", column = "user_avatar")
+    })
+    List<ItemComment> findByIds(@Param("ids") Collection<Long> ids);
+    
     /**
      * 查询物品的所有评论
      *
@@ -0,0 +1,88 @@
+package com.community.lostandfound.repository;
+
+import com.community.lostandfound.entity.FoundItem;
+import com.community.lostandfound.entity.ItemMatch;
+import com.community.lostandfound.entity.LostItem;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 失物自动匹配数据访问接口，SQL定义在 mapper/ItemMatchMapper.xml
+ */
+@Mapper
+public interface ItemMatchRepository {
+    
+    /**
+     * 读取仍在寻找中、丢失时间不早于since的寻物启事（仅匹配所需字段），用于重建内存索引
+     *
+     * @param since 最早的丢失时间（无丢失时间时按创建时间）
+     * @return 寻物启事列表
+     */
+    List<LostItem> findOpenLostItems(@Param("since") LocalDateTime since);
+    
+    /**
+     * 读取仍待认领、拾到时间不早于since的失物招领（仅匹配所需字段），用于重建内存索引
+     *
+     * @param since 最早的拾到时间（无拾到时间时按创建时间）
+     * @return 失物招领列表
+     */
+    List<FoundItem> findOpenFoundItems(@Param("since") LocalDateTime since);
+    
+    /**
+     * 批量写入或更新匹配得分
+     *
+     * @param matches 匹配结果
+     */
+    void upsertBatch(@Param("matches") List<ItemMatch> matches);
+    
+    /**
+     * 删除寻物启事的全部匹配
+     *
+     * @param lostItemId 寻物启事ID
+     */
+    void deleteByLostItemId(@Param("lostItemId") Long lostItemId);
+    
+    /**
+     * 删除失物招领的全部匹配
+     *
+     * @param foundItemId 失物招领ID
+     */
+    void deleteByFoundItemId(@Param("foundItemId") Long foundItemId);
+    
+    /**
+     * 只保留寻物启事得分最高的keep条匹配
+     *
+     * @param lostItemId 寻物启事ID
+     * @param keep 保留条数
+     * @return 删除的行数
+     */
+    int pruneLostItem(@Param("lostItemId") Long lostItemId, @Param("keep") int keep);
+    
+    /**
+     * 按得分倒序查询寻物启事匹配到的、仍待认领的失物招领
+     *
+     * @param lostItemId 寻物启事ID
+     * @param limit 条数
+     * @return 匹配结果（附带失物招领摘要）
+     */
+    List<ItemMatch> findByLostItemId(@Param("lostItemId") Long lostItemId, @Param("limit") int limit);
+    
+    /**
+     * 按得分倒序查询失物招领匹配到的、仍在寻找中的寻物启事
+     *
+     * @param foundItemId 失物招领ID
+     * @param limit 条数
+     * @return 匹配结果（附带寻物启事摘要）
+     */
+    List<ItemMatch> findByFoundItemId(@Param("foundItemId") Long foundItemId, @Param("limit") int limit);
+    
+    /**
+     * 删除任一侧物品已不存在的匹配（如随用户级联删除的物品）
+     *
+     * @return 删除的行数
+     */
+    int deleteDangling();
+}
@@ -3,6 +3,8 @@ package com.community.lostandfound.repository;
 import com.community.lostandfound.entity.LostItem;
 import org.apache.ibatis.annotations.*;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +40,37 @@ public interface LostItemRepository {
     })
     Optional<LostItem> findById(@Param("id") Long id);
     
+    /**
+     * 按ID批量查询，供列表批量组装使用，避免逐行查询
+     */
+    @Select({
+        "<script>",
+        "SELECT li.*, u.username FROM lost_items li ",
+        "JOIN users u ON li.user_id = u.id ",
+        "WHERE li.id IN ",
+        "<foreach item='id' collection='ids' open='(' separator=',' close=')'>",
+        "  #{id}",
+        "</foreach>",
+        "</script>"
+    })
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "title", column = "title"),
+        @Result(property = "description", column = "description"),
+        @Result(property = "lostDate", column = "lost_date"),
+        @Result(property = "lostLocation", column = "lost_location"),
+        @Result(property = "category", column = "category"),
+        @Result(property = "images", column = "images"),
+        @Result(property = "reward", column = "reward"),
+        @Result(property = "contactInfo", column = "contact_info"),
+        @Result(property = "status", column = "status"),
+        @Result(property = "userId", column = "user_id"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at"),
+        @Result(property = "username", column = "username")
+    })
+    List<LostItem> findByIds(@Param("ids") Collection<Long> ids);
+    
     @Select({
         "<script>",
         "SELECT li.*, u.username FROM lost_items li ",
@@ -82,6 +115,53 @@ public interface LostItemRepository {
             @Param("offset") int offset,
             @Param("limit") int limit);
     
+    /**
+     * 游标分页查询：按 (created_at, id) 倒序定位到游标之后的记录，避免OFFSET扫描并丢弃前面的行
+     * cursorCreatedAt为null时返回第一页
+     */
+    @Select({
+        "<script>",
+        "SELECT li.*, u.username FROM lost_items li ",
+        "JOIN users u ON li.user_id = u.id ",
+        "<where>",
+        "  <if test='category != null'>",
+        "    AND li.category = #{category}",
+        "  </if>",
+        "  <if test='status != null'>",
+        "    AND li.status = #{status}",
+        "  </if>",
+        "  <if test='cursorCreatedAt != null'>",
+        "    AND (li.created_at &lt; #{cursorCreatedAt} ",
+        "      OR (li.created_at = #{cursorCreatedAt} AND li.id &lt; #{cursorId}))",
+        "  </if>",
+        "</where>",
+        "ORDER BY li.created_at DESC, li.id DESC ",
+        "LIMIT #{limit}",
+        "</script>"
+    })
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "title", column = "title"),
+        @Result(property = "description", column = "description"),
+        @Result(property = "lostDate", column = "lost_date"),
+        @Result(property = "lostLocation", column = "lost_location"),
+        @Result(property = "category", column = "category"),
+        @Result(property = "images", column = "images"),
+        @Result(property = "reward", column = "reward"),
+        @Result(property = "contactInfo", column = "contact_info"),
+        @Result(property = "status", column = "status"),
+        @Result(property = "userId", column = "user_id"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at"),
+        @Result(property = "username", column = "username")
+    })
+    List<LostItem> findAfterCursor(
+            @Param("category") String category,
+            @Param("status") String status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit);
+    
     @Select({
         "<script>",
         "SELECT COUNT(*) FROM lost_items li ",
@@ -128,6 +208,49 @@ public interface LostItemRepository {
     })
     List<LostItem> findByUserId(@Param("userId") Long userId);
     
+    /**
+     * 分页查询用户发布的寻物启事，可按状态筛选，按 (user_id, created_at) 索引顺序读取
+     */
+    @Select({
+        "<script>",
+        "SELECT li.*, u.username FROM lost_items li ",
+        "JOIN users u ON li.user_id = u.id ",
+        "WHERE li.user_id = #{userId} ",
+        "<if test='status != null and status != \"\"'>AND li.status = #{status} </if>",
+        "ORDER BY li.created_at DESC ",
+        "LIMIT #{offset}, #{limit}",
+        "</script>"
+    })
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "title", column = "title"),
+        @Result(property = "description", column = "description"),
+        @Result(property = "lostDate", column = "lost_date"),
+        @Result(property = "lostLocation", column = "lost_location"),
+        @Result(property = "category", column = "category"),
+        @Result(property = "images", column = "images"),
+        @Result(property = "reward", column = "reward"),
+        @Result(property = "contactInfo", column = "contact_info"),
+        @Result(property = "status", column = "status"),
+        @Result(property = "userId", column = "user_id"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at"),
+        @Result(property = "username", column = "username")
+    })
+    List<LostItem> findByUserIdAndStatus(
+            @Param("userId") Long userId,
+            @Param("status") String status,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+    
+    @Select({
+        "<script>",
+        "SELECT COUNT(*) FROM lost_items WHERE user_id = #{userId} ",
+        "<if test='status != null and status != \"\"'>AND status = #{status}</if>",
+        "</script>"
+    })
+    long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") String status);
+    
     @Update("UPDATE lost_items SET title = #{title}, description = #{description}, " +
             "lost_date = #{lostDate}, lost_location = #{lostLocation}, category = #{category}, " +
             "images = #{images}, reward = #{reward}, contact_info = #{contactInfo}, " +
@@ -3,18 +3,21 @@ package com.community.lostandfound.repository;
 import com.community.lostandfound.entity.Post;
 import org.apache.ibatis.annotations.*;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 论坛帖子仓库
+ * 作者头像取自users.avatar（posts.user_avatar为旧版快照，已不再读写）
  */
 @Mapper
 public interface PostRepository {
     /**
      * 根据ID查找帖子
      */
-    @Select("SELECT * FROM posts WHERE id = #{id}")
+    @Select("SELECT p.id, p.title, p.content, p.user_id, p.username, p.comment_count, p.created_at, p.updated_at, u.avatar AS user_avatar " +
+            "FROM posts p LEFT JOIN users u ON p.user_id = u.id WHERE p.id = #{id}")
     @Results({
         @Result(property = "id", column = "id"),
         @Result(property = "title", column = "title"),
@@ -22,16 +25,45 @@ public interface PostRepository {
         @Result(property = "userId", column = "user_id"),
         @Result(property = "username", column = "username"),
         @Result(property = "userAvatar", column = "user_avatar"),
+        @Result(property = "commentCount", column = "comment_count"),
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at")
     })
     Optional<Post> findById(@Param("id") Long id);
     
+    /**
+     * 按ID批量查找帖子
+     */
+    @Select({
+        "<script>",
+        "SELECT p.id, p.title, p.content, p.user_id, p.username, p.comment_count, p.created_at, p.updated_at,",
+        "       u.avatar AS user_avatar",
+        "FROM posts p LEFT JOIN users u ON p.user_id = u.id",
+        "WHERE p.id IN ",
+        "<foreach item='id' collection='ids' open='(' separator=',' close=')'>",
+        "  #{id}",
+        "</foreach>",
+        "</script>"
+    })
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "title", column = "title"),
+        @Result(property = "content", column = "content"),
+        @Result(property = "userId", column = "user_id"),
+        @Result(property = "username", column = "username"),
+        @Result(property = "userAvatar", column = "user_avatar"),
+        @Result(property = "commentCount", column = "comment_count"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at")
+    })
+    List<Post> findByIds(@Param("ids") Collection<Long> ids);
+    
     /**
      * 保存帖子
+     * 头像不再写入posts.user_avatar快照，查询时关联users.avatar，避免用户更换头像后旧文件被回收导致帖子头像失效
      */
-    @Insert("INSERT INTO posts(title, content, user_id, username, user_avatar, created_at, updated_at) " +
-            "VALUES(#{title}, #{content}, #{userId}, #{username}, #{userAvatar}, #{createdAt}, #{updatedAt})")
+    @Insert("INSERT INTO posts(title, content, user_id, username, created_at, updated_at) " +
+            "VALUES(#{title}, #{content}, #{userId}, #{username}, #{createdAt}, #{updatedAt})")
     @Options(useGeneratedKeys = true, keyProperty = "id")
     void save(Post post);
     
@@ -52,7 +84,9 @@ public interface PostRepository {
     /**
      * 根据用户ID查询帖子（分页）
      */
-    @Select("SELECT * FROM posts WHERE user_id = #{userId} ORDER BY created_at DESC LIMIT #{offset}, #{limit}")
+    @Select("SELECT p.id, p.title, p.content, p.user_id, p.username, p.comment_count, p.created_at, p.updated_at, u.avatar AS user_avatar " +
+            "FROM posts p LEFT JOIN users u ON p.user_id = u.id " +
+            "WHERE p.user_id = #{userId} ORDER BY p.created_at DESC LIMIT #{offset}, #{limit}")
     @Results({
         @Result(property = "id", column = "id"),
         @Result(property = "title", column = "title"),
@@ -60,6 +94,7 @@ public interface PostRepository {
         @Result(property = "userId", column = "user_id"),
         @Result(property = "username", column = "username"),
         @Result(property = "userAvatar", column = "user_avatar"),
+        @Result(property = "commentCount", column = "comment_count"),
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at")
     })
@@ -68,7 +103,9 @@ public interface PostRepository {
     /**
      * 查询所有帖子，按创建时间倒序排序（分页）
      */
-    @Select("SELECT * FROM posts ORDER BY created_at DESC LIMIT #{offset}, #{limit}")
+    @Select("SELECT p.id, p.title, p.content, p.user_id, p.username, p.comment_count, p.created_at, p.updated_at, u.avatar AS user_avatar " +
+            "FROM posts p LEFT JOIN users u ON p.user_id = u.id " +
+            "ORDER BY p.created_at DESC LIMIT #{offset}, #{limit}")
     @Results({
         @Result(property = "id", column = "id"),
         @Result(property = "title", column = "title"),
@@ -76,6 +113,7 @@ public interface PostRepository {
         @Result(property = "userId", column = "user_id"),
         @Result(property = "username", column = "username"),
         @Result(property = "userAvatar", column = "user_avatar"),
+        @Result(property = "commentCount", column = "comment_count"),
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at")
     })
@@ -84,8 +122,10 @@ public interface PostRepository {
     /**
      * 根据标题或内容包含关键词查询帖子（分页）
      */
-    @Select("SELECT * FROM posts WHERE title LIKE CONCAT('%', #{keyword}, '%') OR content LIKE CONCAT('%', #{keyword}, '%') " +
-            "ORDER BY created_at DESC LIMIT #{offset}, #{limit}")
+    @Select("SELECT p.id, p.title, p.content, p.user_id, p.username, p.comment_count, p.created_at, p.updated_at, u.avatar AS user_avatar " +
+            "FROM posts p LEFT JOIN users u ON p.user_id = u.id " +
+            "WHERE p.title LIKE CONCAT('%', #{keyword}, '%') OR p.content LIKE CONCAT('%', #{keyword}, '%') " +
+            "ORDER BY p.created_at DESC LIMIT #{offset}, #{limit}")
     @Results({
         @Result(property = "id", column = "id"),
         @Result(property = "title", column = "title"),
@@ -93,6 +133,7 @@ public interface PostRepository {
         @Result(property = "userId", column = "user_id"),
         @Result(property = "username", column = "username"),
         @Result(property = "userAvatar", column = "user_avatar"),
+        @Result(property = "commentCount", column = "comment_count"),
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at")
     })
@@ -116,4 +157,22 @@ public interface PostRepository {
      */
     @Select("SELECT COUNT(*) FROM posts WHERE title LIKE CONCAT('%', #{keyword}, '%') OR content LIKE CONCAT('%', #{keyword}, '%')")
     int countByKeyword(@Param("keyword") String keyword);
+    
+    /**
+     * 调整帖子评论数，显式保留updated_at，避免评论变动刷新帖子的更新时间
+     */
+    @Update("UPDATE posts SET comment_count = GREATEST(comment_count + #{delta}, 0), updated_at = updated_at " +
+            "WHERE id = #{id}")
+    void incrementCommentCount(@Param("id") Long id, @Param("delta") int delta);
+    
+    /**
+     * 按post_comments重新计算评论数，只更新计数与实际不一致的帖子
+     *
+     * @return 被修复的帖子数量
+     */
+    @Update("UPDATE posts p " +
+            "LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_comments GROUP BY post_id) c ON c.post_id = p.id " +
+            "SET p.comment_count = COALESCE(c.cnt, 0), p.updated_at = p.updated_at " +
+            "WHERE p.comment_count <> COALESCE(c.cnt, 0)")
+    int reconcileCommentCounts();
 } 
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.community.lostandfound.repository;
+
+import com.community.lostandfound.entity.Announcement;
+import com.community.lostandfound.entity.FoundItem;
+import com.community.lostandfound.entity.LostItem;
+import com.community.lostandfound.entity.Post;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 全文搜索仓库
+ * 基于MySQL FULLTEXT索引（ngram分词）的布尔模式查询，结果按相关度排序
+ */
+@Mapper
+public interface SearchRepository {
+    
+    /**
+     * 搜索寻物启事
+     *
+     * @param query    布尔模式查询串
+     * @param category 物品分类（可选）
+     * @param status   状态（可选）
+     * @param offset   偏移量
+     * @param limit    每页条数
+     * @return 按相关度排序的寻物启事
+     */
+    List<LostItem> searchLostItems(
+            @Param("query") String query,
+            @Param("category") String category,
+            @Param("status") String status,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+    
+    long countLostItems(
+            @Param("query") String query,
+            @Param("category") String category,
+            @Param("status") String status);
+    
+    /**
+     * 搜索失物招领
+     */
+    List<FoundItem> searchFoundItems(
+            @Param("query") String query,
+            @Param("category") String category,
+            @Param("status") String status,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+    
+    long countFoundItems(
+            @Param("query") String query,
+            @Param("category") String category,
+            @Param("status") String status);
+    
+    /**
+     * 搜索论坛帖子
+     */
+    List<Post> searchPosts(
+            @Param("query") String query,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+    
+    long countPosts(@Param("query") String query);
+    
+    /**
+     * 搜索已发布公告
+     */
+    List<Announcement> searchPublishedAnnouncements(
+            @Param("query") String query,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+    
+    long countPublishedAnnouncements(@Param("query") String query);
+}
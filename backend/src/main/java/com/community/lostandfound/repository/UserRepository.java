@@ -12,6 +12,7 @@ import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.Options;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -75,6 +76,23 @@ public interface UserRepository {
     })
     Optional<User> findById(@Param("id") Long id);
     
+    /**
+     * 按ID批量查询用户名，只取展示所需的列，供列表批量组装使用
+     */
+    @Select({
+        "<script>",
+        "SELECT id, username FROM users WHERE id IN ",
+        "<foreach item='id' collection='ids' open='(' separator=',' close=')'>",
+        "  #{id}",
+        "</foreach>",
+        "</script>"
+    })
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "username", column = "username")
+    })
+    List<User> findUsernamesByIds(@Param("ids") Collection<Long> ids);
+    
     @Insert("INSERT INTO users(username, email, password, role, avatar, phone, real_name, address, created_at, updated_at, is_locked) " +
             "VALUES(#{username}, #{email}, #{password}, #{role}, #{avatar}, #{phone}, #{realName}, #{address}, #{createdAt}, #{updatedAt}, #{isLocked})")
     @Options(useGeneratedKeys = true, keyProperty = "id")
@@ -87,12 +105,28 @@ public interface UserRepository {
             "WHERE id = #{id}")
     void update(User user);
     
-    @Select("SELECT * FROM users")
+    /**
+     * 按角色分页查询用户，不查询password列
+     * @param roles 角色列表
+     * @param offset 偏移量
+     * @param limit 每页数量
+     * @return 用户列表（password为null）
+     */
+    @Select({"<script>",
+            "SELECT id, username, email, role, avatar, phone, real_name, address,",
+            "       created_at, updated_at, is_locked, lock_end_time, lock_reason",
+            "FROM users",
+            "WHERE role IN",
+            "<foreach item='role' collection='roles' open='(' separator=',' close=')'>",
+            "  #{role}",
+            "</foreach>",
+            "ORDER BY id",
+            "LIMIT #{offset}, #{limit}",
+            "</script>"})
     @Results({
         @Result(property = "id", column = "id"),
         @Result(property = "username", column = "username"),
         @Result(property = "email", column = "email"),
-        @Result(property = "password", column = "password"),
         @Result(property = "role", column = "role"),
         @Result(property = "avatar", column = "avatar"),
         @Result(property = "phone", column = "phone"),
@@ -104,7 +138,24 @@ public interface UserRepository {
         @Result(property = "lockEndTime", column = "lock_end_time"),
         @Result(property = "lockReason", column = "lock_reason")
     })
-    List<User> findAll();
+    List<User> findByRoles(
+            @Param("roles") Collection<String> roles,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+    
+    /**
+     * 统计指定角色的用户数
+     * @param roles 角色列表
+     * @return 用户数
+     */
+    @Select({"<script>",
+            "SELECT COUNT(*) FROM users",
+            "WHERE role IN",
+            "<foreach item='role' collection='roles' open='(' separator=',' close=')'>",
+            "  #{role}",
+            "</foreach>",
+            "</script>"})
+    int countByRoles(@Param("roles") Collection<String> roles);
     
     @Delete("DELETE FROM users WHERE id = #{id}")
     void deleteById(@Param("id") Long id);
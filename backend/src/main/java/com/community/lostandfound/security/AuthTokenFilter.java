@@ -1,5 +1,7 @@
 package com.community.lostandfound.security;
 
+import com.community.lostandfound.service.PrincipalCacheService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +28,9 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
+    
+    @Autowired
+    private PrincipalCacheService principalCacheService;
 
     @Value("${jwt.header}")
     private String authHeader;
@@ -38,14 +43,16 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUsernameFromToken(jwt);
+            Claims claims = jwt != null ? jwtUtils.parseVerifiedClaims(jwt) : null;
+            if (claims != null) {
+                String username = claims.getSubject();
                 
                 // Check if user is already authenticated to prevent re-authentication
                 if (SecurityContextHolder.getContext().getAuthentication() == null) {
                     log.debug("Setting up authentication for user: {}", username);
                     
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                    UserDetails userDetails = principalCacheService.get(username,
+                            () -> (UserDetailsImpl) userDetailsService.loadUserByUsername(username));
                     if (!userDetails.isAccountNonLocked()) {
                         log.warn("Attempted token authentication with locked account: {}", username);
                         filterChain.doFilter(request, response);
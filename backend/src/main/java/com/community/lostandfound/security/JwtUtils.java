@@ -2,6 +2,7 @@ package com.community.lostandfound.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -9,9 +10,14 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 @Slf4j
@@ -24,6 +30,31 @@ public class JwtUtils {
     @Value("${jwt.expiration}")
     private long jwtExpirationMs;
 
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
+    // 签名密钥和解析器都是不可变、线程安全的，启动时构建一次即可
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // 已验签令牌的LRU缓存：令牌SHA-256哈希 -> Claims，条目在令牌过期后失效
+    private Map<String, VerifiedToken> verifiedTokens;
+
+    // 使用ReentrantLock而不是synchronized：虚拟线程在等待监视器时会占住载体线程
+    private final ReentrantLock verifiedTokensLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > verifiedCacheSize;
+            }
+        };
+    }
+
     public String generateJwtToken(Authentication authentication) {
         try {
             log.debug("Starting JWT token generation for: {}", authentication.getName());
@@ -77,8 +108,7 @@ public class JwtUtils {
     }
     
     private Key getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 
     public String getUsernameFromToken(String token) {
@@ -91,17 +121,53 @@ public class JwtUtils {
     }
     
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     public boolean validateJwtToken(String authToken) {
+        return parseVerifiedClaims(authToken) != null;
+    }
+
+    /**
+     * 校验令牌并返回其Claims，同一请求只需解析一次
+     * 校验通过的令牌按哈希缓存到过期时间为止，重复出现的令牌无需再次验签
+     *
+     * @param authToken JWT令牌
+     * @return 校验通过时返回Claims，否则返回null
+     */
+    public Claims parseVerifiedClaims(String authToken) {
+        String tokenHash = hash(authToken);
+        long now = System.currentTimeMillis();
+        VerifiedToken cached;
+        verifiedTokensLock.lock();
+        try {
+            cached = verifiedTokens.get(tokenHash);
+        } finally {
+            verifiedTokensLock.unlock();
+        }
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                return cached.claims;
+            }
+            verifiedTokensLock.lock();
+            try {
+                verifiedTokens.remove(tokenHash);
+            } finally {
+                verifiedTokensLock.unlock();
+            }
+        }
+
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(authToken);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(authToken).getBody();
+            if (verifiedCacheSize > 0 && claims.getExpiration() != null) {
+                verifiedTokensLock.lock();
+                try {
+                    verifiedTokens.put(tokenHash, new VerifiedToken(claims, claims.getExpiration().getTime()));
+                } finally {
+                    verifiedTokensLock.unlock();
+                }
+            }
+            return claims;
         } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -112,8 +178,32 @@ public class JwtUtils {
             log.error("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
         }
 
-        return false;
+        return null;
+    }
+
+    private static String hash(String token) {
+        if (token == null) {
+            return "";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static class VerifiedToken {
+        private final Claims claims;
+        private final long expiresAt;
+
+        private VerifiedToken(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,287 @@
+package com.community.lostandfound.security;
+
+import com.community.lostandfound.config.RateLimitProperties;
+import com.community.lostandfound.dto.common.ApiResponse;
+import com.community.lostandfound.service.RateLimiterService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 令牌桶限流过滤器，位于JWT认证过滤器之后
+ * 按 rate-limit.groups 中第一个匹配的分组限流：先按客户端IP，再按用户（已登录用户按用户ID，
+ * 登录/注册请求按请求体中的用户名或邮箱，避免撞库请求集中消耗BCrypt校验的CPU）。
+ * 超出限额时返回429并在Retry-After中给出需要等待的秒数
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // 解析用户名时最多读取的请求体字节数，登录和注册请求体远小于此
+    private static final int MAX_BODY_PEEK = 8 * 1024;
+
+    private static final String[] USER_FIELDS = {"usernameOrEmail", "username", "email"};
+
+    private final RateLimitProperties properties;
+    private final RateLimiterService rateLimiterService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimiterService rateLimiterService,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiterService = rateLimiterService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Map.Entry<String, RateLimitProperties.Group> matched = properties.isEnabled() ? match(request) : null;
+        if (matched == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String groupName = matched.getKey();
+        RateLimitProperties.Group group = matched.getValue();
+
+        RateLimitProperties.Bucket ipBucket = group.getIp();
+        if (ipBucket != null) {
+            String key = groupName + ":ip:" + request.getRemoteAddr();
+            if (!acquire(key, ipBucket, groupName, "ip", response)) {
+                return;
+            }
+        }
+
+        HttpServletRequest effectiveRequest = request;
+        RateLimitProperties.Bucket userBucket = group.getUser();
+        if (userBucket != null) {
+            String user = currentUserId();
+            if (user == null && isJson(request)) {
+                PeekedRequest peeked = new PeekedRequest(request);
+                effectiveRequest = peeked;
+                user = peeked.userField();
+            }
+            if (user != null && !acquire(groupName + ":user:" + user, userBucket, groupName, "user", response)) {
+                return;
+            }
+        }
+
+        filterChain.doFilter(effectiveRequest, response);
+    }
+
+    private Map.Entry<String, RateLimitProperties.Group> match(HttpServletRequest request) {
+        String path = request.getServletPath();
+        String method = request.getMethod();
+        for (Map.Entry<String, RateLimitProperties.Group> entry : properties.getGroups().entrySet()) {
+            RateLimitProperties.Group group = entry.getValue();
+            if (!group.getMethods().isEmpty() && group.getMethods().stream().noneMatch(method::equalsIgnoreCase)) {
+                continue;
+            }
+            for (String pattern : group.getPatterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean acquire(String key, RateLimitProperties.Bucket bucket, String group, String keyType,
+                            HttpServletResponse response) throws IOException {
+        long waitMillis = rateLimiterService.tryAcquire(key, bucket.getCapacity(), bucket.getRefillPeriod());
+        if (waitMillis <= 0) {
+            return true;
+        }
+        long retryAfter = Math.max(1, (waitMillis + 999) / 1000);
+        log.debug("请求被限流, 分组: {}, 键: {}, {}秒后可重试", group, key, retryAfter);
+        Counter.builder("rate_limit.rejected")
+                .description("被限流拒绝的请求数")
+                .tag("group", group)
+                .tag("key", keyType)
+                .register(meterRegistry)
+                .increment();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("请求过于频繁，请" + retryAfter + "秒后再试", HttpStatus.TOO_MANY_REQUESTS));
+        return false;
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return String.valueOf(userDetails.getId());
+        }
+        return null;
+    }
+
+    private static boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).contains("json");
+    }
+
+    /**
+     * 预读请求体开头以解析用户名，之后把已读部分和剩余部分按原顺序交给后续处理
+     */
+    private class PeekedRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+        private final boolean complete;
+        private final PeekedInputStream body;
+
+        private PeekedRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            ServletInputStream original = request.getInputStream();
+            byte[] bytes = original.readNBytes(MAX_BODY_PEEK + 1);
+            this.complete = bytes.length <= MAX_BODY_PEEK;
+            this.head = bytes;
+            this.body = new PeekedInputStream(bytes, original);
+        }
+
+        /**
+         * 请求体中的用户名或邮箱（小写），请求体过大或不是JSON对象时为null
+         */
+        private String userField() {
+            if (!complete || head.length == 0) {
+                return null;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(head);
+                for (String field : USER_FIELDS) {
+                    JsonNode value = node == null ? null : node.get(field);
+                    if (value != null && value.isTextual() && StringUtils.hasText(value.asText())) {
+                        return value.asText().trim().toLowerCase(Locale.ROOT);
+                    }
+                }
+            } catch (IOException e) {
+                // 格式错误的请求体交给后续的参数校验处理
+            }
+            return null;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return body;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(body,
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 先返回预读的字节，读完后直接委托给原始输入流（包括异步读取的就绪状态和ReadListener）
+     */
+    static final class PeekedInputStream extends ServletInputStream {
+
+        private final byte[] head;
+        private final ServletInputStream original;
+        private int position;
+
+        PeekedInputStream(byte[] head, ServletInputStream original) {
+            this.head = head;
+            this.original = original;
+        }
+
+        private boolean headDrained() {
+            return position >= head.length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!headDrained()) {
+                return head[position++] & 0xff;
+            }
+            return original.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!headDrained()) {
+                int n = Math.min(len, head.length - position);
+                System.arraycopy(head, position, b, off, n);
+                position += n;
+                return n;
+            }
+            return original.read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return headDrained() ? original.available() : head.length - position;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return headDrained() && original.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return !headDrained() || original.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            // 预读部分总是可读的：容器在原始流有数据时回调，监听者先读到预读部分；
+            // 原始流已读完时容器只会回调onAllDataRead，此时先让监听者读完预读部分
+            original.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    readListener.onDataAvailable();
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    if (!headDrained()) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    readListener.onError(t);
+                }
+            });
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.io.Serial;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -37,6 +38,12 @@ public class UserDetailsImpl implements UserDetails {
     private String role;
     private Collection<? extends GrantedAuthority> authorities;
     private boolean locked;
+    
+    /**
+     * 锁定结束时间，永久锁定或未锁定时为null
+     */
+    @JsonIgnore
+    private LocalDateTime lockEndTime;
 
     /**
      * 从User实体创建UserDetailsImpl实例
@@ -56,6 +63,7 @@ public class UserDetailsImpl implements UserDetails {
                 .role(user.getRole())
                 .authorities(authorities)
                 .locked(user.isLocked())
+                .lockEndTime(user.isLocked() ? user.getLockEndTime() : null)
                 .build();
     }
 
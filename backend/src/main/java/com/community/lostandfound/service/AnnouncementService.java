@@ -4,6 +4,7 @@ import com.community.lostandfound.dto.announcement.AnnouncementDto;
 import com.community.lostandfound.dto.announcement.AnnouncementPageDto;
 import com.community.lostandfound.dto.announcement.CreateAnnouncementRequest;
 import com.community.lostandfound.dto.announcement.UpdateAnnouncementRequest;
+import com.community.lostandfound.dto.common.CountMode;
 
 /**
  * 公告服务接口
@@ -17,19 +18,21 @@ public interface AnnouncementService {
      * @param pageSize  每页条数
      * @param keyword   搜索关键词（标题或内容，可选）
      * @param adminName 管理员用户名（可选）
+     * @param countMode 总数统计方式
      * @return 分页公告列表
      */
-    AnnouncementPageDto getAllAnnouncements(int page, int pageSize, String keyword, String adminName);
+    AnnouncementPageDto getAllAnnouncements(int page, int pageSize, String keyword, String adminName, CountMode countMode);
     
     /**
      * 获取已发布公告（分页）
      *
      * @param page     页码
      * @param pageSize 每页条数
-     * @param keyword  搜索关键词（标题或内容，可选）
+     * @param keyword  搜索关键词（标题或内容，可选），有关键词时总数由搜索结果给出
+     * @param countMode 总数统计方式
      * @return 分页公告列表
      */
-    AnnouncementPageDto getPublishedAnnouncements(int page, int pageSize, String keyword);
+    AnnouncementPageDto getPublishedAnnouncements(int page, int pageSize, String keyword, CountMode countMode);
     
     /**
      * 根据ID获取公告
@@ -1,5 +1,6 @@
 package com.community.lostandfound.service;
 
+import com.community.lostandfound.dto.common.CountMode;
 import com.community.lostandfound.entity.BaseItem;
 
 import java.util.List;
@@ -61,9 +62,23 @@ public interface BaseItemService<T extends BaseItem> {
      * @param keyword 关键词搜索（可选）
      * @param page 页码
      * @param size 每页数量
+     * @param countMode 总数统计方式，NONE时totalItems和totalPages为null，以hasMore判断是否还有下一页
      * @return 物品列表及分页信息
      */
-    Map<String, Object> getAllItems(String category, String status, String keyword, int page, int size);
+    Map<String, Object> getAllItems(String category, String status, String keyword, int page, int size, CountMode countMode);
+    
+    /**
+     * 游标（keyset）分页获取物品，按创建时间倒序
+     * 适用于无限滚动场景，深分页时无需扫描前面的记录
+     * 关键词搜索按相关度排序，只支持getAllItems的页码分页
+     * @param category 类别筛选（可选）
+     * @param status 状态筛选（可选）
+     * @param keyword 关键词，不支持，非空时抛出BadRequestException
+     * @param cursor 上一页返回的nextCursor，为空表示第一页
+     * @param size 每页数量
+     * @return 物品列表、nextCursor及hasMore
+     */
+    Map<String, Object> getItemsByCursor(String category, String status, String keyword, String cursor, int size);
     
     /**
      * 更新物品状态
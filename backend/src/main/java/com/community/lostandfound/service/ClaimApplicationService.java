@@ -3,6 +3,7 @@ package com.community.lostandfound.service;
 import com.community.lostandfound.dto.claim.ClaimApplicationDto;
 import com.community.lostandfound.dto.claim.ClaimPageDto;
 import com.community.lostandfound.dto.claim.ClaimRequestDto;
+import com.community.lostandfound.dto.common.CountMode;
 
 /**
  * 认领申请服务接口
@@ -88,6 +89,7 @@ public interface ClaimApplicationService {
      * @param applicantName  申请人姓名关键词（可选）
      * @param page           页码
      * @param size           每页条数
+     * @param countMode      总数统计方式
      * @return 分页认领申请列表
      */
     ClaimPageDto getAllApplications(
@@ -97,7 +99,8 @@ public interface ClaimApplicationService {
             String itemTitle, 
             String applicantName, 
             int page, 
-            int size);
+            int size,
+            CountMode countMode);
     
     /**
      * 删除认领申请（管理员接口）
@@ -0,0 +1,31 @@
+package com.community.lostandfound.service;
+
+import com.community.lostandfound.dto.common.CountMode;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 分页总数服务
+ * 按请求选择的统计方式执行、复用或跳过COUNT查询
+ */
+public interface CountService {
+
+    /**
+     * 获取总数
+     *
+     * @param mode 统计方式
+     * @param region 统计区域（如 lost-items, posts）
+     * @param filterKey 筛选条件组成的键，CACHED方式下与region一起作为缓存键
+     * @param counter 执行COUNT查询的函数
+     * @return 总数；mode为NONE时返回null
+     */
+    Long count(CountMode mode, String region, String filterKey, LongSupplier counter);
+
+    /**
+     * 获取各区域缓存总数的命中统计
+     *
+     * @return 区域名 -> 命中/未命中次数及命中率
+     */
+    Map<String, Object> getStatistics();
+}
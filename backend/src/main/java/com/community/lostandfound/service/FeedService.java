@@ -0,0 +1,71 @@
+package com.community.lostandfound.service;
+
+import com.community.lostandfound.entity.Announcement;
+import com.community.lostandfound.entity.BaseItem;
+import com.community.lostandfound.entity.Post;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 首页动态服务接口
+ * 各模块写入时同步维护feed_entries，首页一次按时间倒序的索引范围读取即可得到合并后的时间线
+ */
+public interface FeedService {
+
+    // 物品的来源类型与物品服务的缓存区域一致
+    String LOST_ITEMS = "lost-items";
+
+    String FOUND_ITEMS = "found-items";
+
+    String POSTS = "posts";
+
+    String ANNOUNCEMENTS = "announcements";
+
+    /**
+     * 写入或更新物品对应的动态
+     *
+     * @param entryType 来源类型（物品服务的缓存区域：lost-items, found-items）
+     * @param item 物品
+     */
+    void publishItem(String entryType, BaseItem item);
+
+    /**
+     * 写入或更新帖子对应的动态
+     *
+     * @param post 帖子
+     */
+    void publishPost(Post post);
+
+    /**
+     * 写入或更新公告对应的动态，未发布的公告从动态中移除
+     *
+     * @param announcement 公告
+     */
+    void publishAnnouncement(Announcement announcement);
+
+    /**
+     * 移除来源记录对应的动态
+     *
+     * @param entryType 来源类型
+     * @param entryId 来源记录ID
+     */
+    void remove(String entryType, Long entryId);
+
+    /**
+     * 游标分页读取动态
+     *
+     * @param entryTypes 来源类型筛选，为空时返回全部类型
+     * @param cursor 游标，为空表示第一页
+     * @param size 每页条数
+     * @return items、pageSize、nextCursor和hasMore
+     */
+    Map<String, Object> getFeed(Collection<String> entryTypes, String cursor, int size);
+
+    /**
+     * 补齐缺失的动态、删除来源已不存在的动态，并修复内容与来源不一致的动态
+     *
+     * @return 修复的行数
+     */
+    int reconcile();
+}
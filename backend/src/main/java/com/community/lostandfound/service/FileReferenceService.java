@@ -0,0 +1,40 @@
+package com.community.lostandfound.service;
+
+import java.util.Collection;
+
+/**
+ * 文件引用服务接口
+ * 维护物品图片、用户头像对去重存储中文件内容的引用，引用全部解除的内容由垃圾回收删除。
+ * 非去重存储下文件不会登记到file_blobs，这些方法不产生引用记录。
+ */
+public interface FileReferenceService {
+
+    /**
+     * 用户头像的引用方类型，物品使用其缓存区域（lost-items, found-items）作为引用方类型
+     */
+    String AVATAR = "avatar";
+
+    /**
+     * 用一组文件地址替换引用方当前的全部引用
+     *
+     * @param ownerType 引用方类型
+     * @param ownerId 引用方ID
+     * @param fileUrls 文件地址或存储路径
+     */
+    void replaceReferences(String ownerType, Long ownerId, Collection<String> fileUrls);
+
+    /**
+     * 解除引用方的全部引用
+     *
+     * @param ownerType 引用方类型
+     * @param ownerId 引用方ID
+     */
+    void removeReferences(String ownerType, Long ownerId);
+
+    /**
+     * 删除引用方已不存在的引用记录
+     *
+     * @return 删除的引用数
+     */
+    int pruneDanglingReferences();
+}
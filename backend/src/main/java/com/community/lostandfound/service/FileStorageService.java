@@ -3,6 +3,8 @@ package com.community.lostandfound.service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
 
 /**
  * 文件存储服务接口
@@ -20,6 +22,26 @@ public interface FileStorageService {
      */
     String storeFile(MultipartFile file, String filename, String subdirectory) throws IOException;
     
+    /**
+     * 将输入流保存到存储系统，用于服务端生成的文件（如缩略图）
+     *
+     * @param input 文件内容
+     * @param filename 文件名
+     * @param subdirectory 子目录
+     * @return 保存后的文件路径
+     * @throws IOException 文件操作异常
+     */
+    String storeFile(InputStream input, String filename, String subdirectory) throws IOException;
+    
+    /**
+     * 打开已保存文件的输入流，由调用方负责关闭
+     *
+     * @param filePath 文件路径（storeFile的返回值）
+     * @return 文件输入流
+     * @throws IOException 文件不存在或读取失败
+     */
+    InputStream loadFile(String filePath) throws IOException;
+    
     /**
      * 获取文件的访问URL
      *
@@ -28,6 +50,17 @@ public interface FileStorageService {
      */
     String getFileUrl(String filePath);
     
+    /**
+     * 获取可由客户端直接下载文件内容的地址（如对象存储的预签名地址）
+     * 本地存储没有这样的地址，由应用自身提供文件内容
+     *
+     * @param filePath 文件路径或访问URL
+     * @return 直接下载地址
+     */
+    default Optional<String> getDirectDownloadUrl(String filePath) {
+        return Optional.empty();
+    }
+    
     /**
      * 删除文件
      *
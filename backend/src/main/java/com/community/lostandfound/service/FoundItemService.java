@@ -8,7 +8,7 @@ import java.util.Optional;
  * 失物招领服务接口
  * 提供失物招领功能的业务逻辑处理
  */
-public interface FoundItemService {
+public interface FoundItemService extends BaseItemService<FoundItem> {
     
     /**
      * 创建失物招领
@@ -51,7 +51,7 @@ public interface FoundItemService {
     
     /**
      * 更新失物招领信息
-     * 只有物品发布者或管理员可以更新
+     * 只有物品发布者可以更新
      *
      * @param foundItem 更新的失物招领信息
      * @param userId 当前用户ID
@@ -76,7 +76,7 @@ public interface FoundItemService {
     
     /**
      * 删除失物招领
-     * 只有物品发布者或管理员可以删除
+     * 只有物品发布者可以删除
      *
      * @param id 失物招领ID
      * @param userId 当前用户ID
@@ -85,6 +85,19 @@ public interface FoundItemService {
      */
     void deleteFoundItem(Long id, Long userId);
     
+    /**
+     * 认领流程中更新失物招领状态
+     * 从数据库读取最新记录后更新，同步首页动态和匹配索引，并在事务提交后失效缓存
+     * 不校验发布者权限，由认领服务负责校验
+     *
+     * @param id 失物招领ID
+     * @param status 新状态 (例如: "processing", "claimed", "pending")
+     * @return 更新后的失物招领
+     * @throws ResourceNotFoundException 如果失物招领不存在
+     * @throws IllegalArgumentException 如果状态无效
+     */
+    FoundItem updateClaimStatus(Long id, String status);
+    
     /**
      * 查询当前用户发布的失物招领
      *
@@ -0,0 +1,26 @@
+package com.community.lostandfound.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 图片处理服务接口
+ * 上传完成后在后台线程池中生成缩略图等变体，列表接口据此返回缩略图地址
+ */
+public interface ImageProcessingService {
+
+    /**
+     * 异步生成图片变体，立即返回；生成失败只记录日志
+     *
+     * @param filePath 原图存储路径（FileStorageService.storeFile的返回值）
+     */
+    void processImageAsync(String filePath);
+
+    /**
+     * 批量查询图片的缩略图地址
+     *
+     * @param imageUrls 原图地址
+     * @return 原图地址 -> 缩略图地址，尚未生成缩略图的图片不在结果中
+     */
+    Map<String, String> getThumbnailUrls(Collection<String> imageUrls);
+}
@@ -0,0 +1,58 @@
+package com.community.lostandfound.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 物品缓存服务接口
+ * 为寻物启事和失物招领的详情、列表查询提供读穿透缓存，写操作后负责失效
+ */
+public interface ItemCacheService {
+
+    /**
+     * 读取物品详情，缓存未命中时调用loader从数据库加载并写入缓存
+     *
+     * @param region 缓存区域（如 lost-items, found-items）
+     * @param id 物品ID
+     * @param type 物品类型
+     * @param loader 数据库加载函数
+     * @return 物品详情
+     */
+    <T> Optional<T> getItem(String region, Long id, Class<T> type, Supplier<Optional<T>> loader);
+
+    /**
+     * 读取分页列表，缓存未命中时调用loader查询并写入缓存
+     * 返回结构与BaseItemService.getAllItems一致，其中items元素类型为type
+     * 要写入缓存的结果在主库上加载，不读取可能延迟的从库
+     *
+     * @param region 缓存区域
+     * @param pageKey 筛选条件及分页参数组成的键
+     * @param type 列表元素类型
+     * @param loader 数据库加载函数
+     * @return 物品列表及分页信息
+     */
+    <T> Map<String, Object> getPage(String region, String pageKey, Class<T> type, Supplier<Map<String, Object>> loader);
+
+    /**
+     * 使单个物品的详情缓存以及该区域的所有列表缓存失效
+     *
+     * @param region 缓存区域
+     * @param id 物品ID
+     */
+    void evictItem(String region, Long id);
+
+    /**
+     * 使某个区域的所有列表缓存失效
+     *
+     * @param region 缓存区域
+     */
+    void evictPages(String region);
+
+    /**
+     * 获取各缓存区域的命中统计
+     *
+     * @return 区域名 -> 命中/未命中/错误次数及命中率
+     */
+    Map<String, Object> getStatistics();
+}
@@ -0,0 +1,61 @@
+package com.community.lostandfound.service;
+
+import com.community.lostandfound.entity.BaseItem;
+import com.community.lostandfound.entity.ItemMatch;
+
+import java.util.List;
+
+/**
+ * 失物自动匹配服务接口
+ * 寻物启事和失物招领分别维护内存倒排索引，物品发布或修改时只在对侧索引中召回候选并打分，
+ * 每个物品得分最高的若干条匹配写入item_matches
+ */
+public interface MatchingService {
+
+    // 物品类型与物品服务的缓存区域一致
+    String LOST_ITEMS = "lost-items";
+
+    String FOUND_ITEMS = "found-items";
+
+    /**
+     * 将物品加入（或更新到）索引并计算它的匹配；物品已不再处于pending状态时从索引中移除
+     * 在事务中调用时于提交后执行，匹配失败只记录日志，不影响物品的写入
+     *
+     * @param itemType 物品类型：lost-items, found-items
+     * @param item 物品
+     */
+    void indexItem(String itemType, BaseItem item);
+
+    /**
+     * 物品删除后将其移出索引并删除相关匹配
+     *
+     * @param itemType 物品类型：lost-items, found-items
+     * @param itemId 物品ID
+     */
+    void removeItem(String itemType, Long itemId);
+
+    /**
+     * 查询寻物启事匹配到的失物招领，按得分倒序
+     *
+     * @param lostItemId 寻物启事ID
+     * @return 匹配结果
+     */
+    List<ItemMatch> getMatchesForLostItem(Long lostItemId);
+
+    /**
+     * 查询失物招领匹配到的寻物启事，按得分倒序
+     *
+     * @param foundItemId 失物招领ID
+     * @return 匹配结果
+     */
+    List<ItemMatch> getMatchesForFoundItem(Long foundItemId);
+
+    /**
+     * 从数据库重建内存索引，并清理任一侧已不存在的匹配
+     * 用于启动时加载、补上其他实例的写入和绕过服务层的状态变化（如认领审核通过）
+     * 非首次加载时，对本实例索引中原先没有或内容有变化的物品重新计算匹配，使其他实例写入的物品也能互相匹配
+     *
+     * @return 索引中的物品数
+     */
+    int rebuildIndex();
+}
@@ -0,0 +1,50 @@
+package com.community.lostandfound.service;
+
+import com.community.lostandfound.dto.notification.NotificationEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+/**
+ * 推送通知服务接口
+ * 认领申请和失物匹配发生变化时通过SSE推送给相关用户，客户端不必轮询认领列表
+ */
+public interface NotificationService {
+
+    String CLAIM_CREATED = "claim.created";
+
+    String CLAIM_APPROVED = "claim.approved";
+
+    String CLAIM_REJECTED = "claim.rejected";
+
+    String MATCH_FOUND = "match.found";
+
+    // 多实例部署时转发通知的Redis频道
+    String REDIS_CHANNEL = "laf:notifications";
+
+    /**
+     * 为用户建立一条SSE连接，连接由Servlet异步请求维持，不占用请求线程
+     *
+     * @param userId 用户ID
+     * @return SSE发射器
+     */
+    SseEmitter subscribe(Long userId);
+
+    /**
+     * 通知用户，在事务中调用时于提交后推送
+     *
+     * @param userId 接收通知的用户ID
+     * @param type 通知类型
+     * @param title 通知标题
+     * @param content 通知内容
+     * @param data 附加数据
+     */
+    void notifyUser(Long userId, String type, String title, String content, Map<String, Object> data);
+
+    /**
+     * 推送给连接到本实例的用户（Redis订阅收到的通知也由此推送）
+     *
+     * @param event 通知事件
+     */
+    void deliver(NotificationEvent event);
+}
@@ -1,5 +1,6 @@
 package com.community.lostandfound.service;
 
+import com.community.lostandfound.dto.common.CountMode;
 import com.community.lostandfound.dto.common.PagedResponse;
 import com.community.lostandfound.dto.post.CreatePostRequest;
 import com.community.lostandfound.dto.post.PostResponse;
@@ -45,9 +46,10 @@ public interface PostService {
      * 分页获取所有帖子
      * @param page 页码
      * @param size 每页大小
+     * @param countMode 总数统计方式
      * @return 分页帖子响应
      */
-    PagedResponse<PostResponse> getAllPosts(int page, int size);
+    PagedResponse<PostResponse> getAllPosts(int page, int size, CountMode countMode);
 
     /**
      * 分页获取用户的帖子
@@ -66,4 +68,10 @@ public interface PostService {
      * @return 分页帖子响应
      */
     PagedResponse<PostResponse> searchPosts(String keyword, int page, int size);
+
+    /**
+     * 按评论表重新计算所有帖子的评论数，修复计数偏差
+     * @return 被修复的帖子数量
+     */
+    int reconcileCommentCounts();
 } 
\ No newline at end of file
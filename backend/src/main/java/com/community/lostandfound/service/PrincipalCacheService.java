@@ -0,0 +1,29 @@
+package com.community.lostandfound.service;
+
+import com.community.lostandfound.security.UserDetailsImpl;
+
+import java.util.function.Supplier;
+
+/**
+ * 认证主体缓存服务接口
+ * 缓存JWT认证过滤器按用户名加载的用户主体，避免每个请求都查询数据库；
+ * 用户锁定、角色变更等影响认证结果的写操作后负责失效
+ */
+public interface PrincipalCacheService {
+
+    /**
+     * 读取用户主体，缓存未命中时调用loader加载并写入缓存
+     *
+     * @param username 用户名（JWT的subject）
+     * @param loader 数据库加载函数
+     * @return 用户主体（不含密码）
+     */
+    UserDetailsImpl get(String username, Supplier<UserDetailsImpl> loader);
+
+    /**
+     * 使指定用户名的主体缓存失效，在事务中调用时于提交后执行
+     *
+     * @param usernames 用户名，允许为null
+     */
+    void evict(String... usernames);
+}
@@ -0,0 +1,20 @@
+package com.community.lostandfound.service;
+
+import java.time.Duration;
+
+/**
+ * 令牌桶限流服务接口
+ * 每个键对应一个桶，桶满时最多连续通过capacity次请求，之后按 refillPeriod / capacity 的间隔恢复令牌
+ */
+public interface RateLimiterService {
+
+    /**
+     * 尝试从桶中取一个令牌
+     *
+     * @param key 桶的键，如 auth:ip:1.2.3.4
+     * @param capacity 桶容量
+     * @param refillPeriod 空桶恢复到满桶所需的时间
+     * @return 放行时为0，否则为获得下一个令牌前需要等待的毫秒数
+     */
+    long tryAcquire(String key, int capacity, Duration refillPeriod);
+}
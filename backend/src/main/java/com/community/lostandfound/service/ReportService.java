@@ -1,5 +1,6 @@
 package com.community.lostandfound.service;
 
+import com.community.lostandfound.dto.common.CountMode;
 import com.community.lostandfound.dto.report.ReportDto;
 import com.community.lostandfound.dto.report.ReportPageDto;
 import com.community.lostandfound.dto.report.ReportRequest;
@@ -24,13 +25,14 @@ public interface ReportService {
     ReportDto getReportById(Long reportId);
     
     /**
-     * 获取举报列表（分页）
+     * 获取举报列表（分页），countMode决定总数的统计方式
      */
     ReportPageDto getReports(
         Integer page, 
         Integer size, 
         Report.ReportStatus status, 
-        Report.ReportType type
+        Report.ReportType type,
+        CountMode countMode
     );
     
     /**
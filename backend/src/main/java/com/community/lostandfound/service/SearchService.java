@@ -0,0 +1,59 @@
+package com.community.lostandfound.service;
+
+import com.community.lostandfound.dto.search.SearchPage;
+import com.community.lostandfound.entity.Announcement;
+import com.community.lostandfound.entity.FoundItem;
+import com.community.lostandfound.entity.LostItem;
+import com.community.lostandfound.entity.Post;
+
+/**
+ * 搜索服务接口
+ * 统一提供寻物启事、失物招领、帖子和公告的关键词搜索，结果按相关度排序并附带高亮片段。
+ * 具体实现由配置 search.engine 选择（fulltext 或 like）
+ */
+public interface SearchService {
+    
+    /**
+     * 搜索寻物启事
+     *
+     * @param keyword  关键词，多个词以空格分隔
+     * @param category 物品分类（可选）
+     * @param status   状态（可选）
+     * @param offset   偏移量
+     * @param limit    每页条数
+     * @return 搜索结果
+     */
+    SearchPage<LostItem> searchLostItems(String keyword, String category, String status, int offset, int limit);
+    
+    /**
+     * 搜索失物招领
+     *
+     * @param keyword  关键词，多个词以空格分隔
+     * @param category 物品分类（可选）
+     * @param status   状态（可选）
+     * @param offset   偏移量
+     * @param limit    每页条数
+     * @return 搜索结果
+     */
+    SearchPage<FoundItem> searchFoundItems(String keyword, String category, String status, int offset, int limit);
+    
+    /**
+     * 搜索论坛帖子
+     *
+     * @param keyword 关键词
+     * @param offset  偏移量
+     * @param limit   每页条数
+     * @return 搜索结果
+     */
+    SearchPage<Post> searchPosts(String keyword, int offset, int limit);
+    
+    /**
+     * 搜索已发布公告
+     *
+     * @param keyword 关键词
+     * @param offset  偏移量
+     * @param limit   每页条数
+     * @return 搜索结果
+     */
+    SearchPage<Announcement> searchPublishedAnnouncements(String keyword, int offset, int limit);
+}
@@ -3,6 +3,7 @@ package com.community.lostandfound.service;
 import com.community.lostandfound.entity.User;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,7 +23,21 @@ public interface UserService {
     
     Optional<User> getUserByUsernameOrEmail(String usernameOrEmail);
     
-    List<User> getAllUsers();
+    /**
+     * 按角色分页查询用户（不含密码）
+     * @param roles 角色列表
+     * @param page 页码（从1开始）
+     * @param size 每页大小
+     * @return 用户列表
+     */
+    List<User> getUsersByRoles(Collection<String> roles, int page, int size);
+    
+    /**
+     * 统计指定角色的用户数
+     * @param roles 角色列表
+     * @return 用户数
+     */
+    int countUsersByRoles(Collection<String> roles);
     
     /**
      * 获取过滤后的用户列表
@@ -85,12 +100,6 @@ public interface UserService {
      */
     User unlockUser(Long userId);
     
-    /**
-     * 检查用户表结构
-     * 检查数据库中用户表的实际结构，用于诊断字段不匹配问题
-     */
-    void checkUsersTableStructure();
-    
     /**
      * 使用最小字段集创建用户
      * 当标准方法失败时的备选方案
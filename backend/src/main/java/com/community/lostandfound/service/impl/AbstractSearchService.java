@@ -0,0 +1,100 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.dto.search.SearchPage;
+import com.community.lostandfound.entity.Announcement;
+import com.community.lostandfound.entity.FoundItem;
+import com.community.lostandfound.entity.LostItem;
+import com.community.lostandfound.entity.Post;
+import com.community.lostandfound.repository.AnnouncementRepository;
+import com.community.lostandfound.repository.FoundItemRepository;
+import com.community.lostandfound.repository.LostItemRepository;
+import com.community.lostandfound.repository.PostRepository;
+import com.community.lostandfound.service.SearchService;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 搜索服务基础实现 - 提供基于LIKE的查询和高亮片段生成
+ * 作为LIKE搜索的完整实现，也作为全文搜索无法处理时的后备路径
+ */
+public abstract class AbstractSearchService implements SearchService {
+    
+    protected final LostItemRepository lostItemRepository;
+    protected final FoundItemRepository foundItemRepository;
+    protected final PostRepository postRepository;
+    protected final AnnouncementRepository announcementRepository;
+    
+    protected AbstractSearchService(LostItemRepository lostItemRepository,
+                                    FoundItemRepository foundItemRepository,
+                                    PostRepository postRepository,
+                                    AnnouncementRepository announcementRepository) {
+        this.lostItemRepository = lostItemRepository;
+        this.foundItemRepository = foundItemRepository;
+        this.postRepository = postRepository;
+        this.announcementRepository = announcementRepository;
+    }
+    
+    @Override
+    public SearchPage<LostItem> searchLostItems(String keyword, String category, String status, int offset, int limit) {
+        List<LostItem> items = lostItemRepository.findAll(category, status, keyword, offset, limit);
+        long total = lostItemRepository.countAll(category, status, keyword);
+        return lostItemPage(keyword, items, total);
+    }
+    
+    @Override
+    public SearchPage<FoundItem> searchFoundItems(String keyword, String category, String status, int offset, int limit) {
+        List<FoundItem> items = foundItemRepository.findAll(category, status, keyword, offset, limit);
+        long total = foundItemRepository.countAll(category, status, keyword);
+        return foundItemPage(keyword, items, total);
+    }
+    
+    @Override
+    public SearchPage<Post> searchPosts(String keyword, int offset, int limit) {
+        List<Post> posts = postRepository.findByTitleContainingOrContentContainingOrderByCreatedAtDesc(keyword, offset, limit);
+        long total = postRepository.countByKeyword(keyword);
+        return postPage(keyword, posts, total);
+    }
+    
+    @Override
+    public SearchPage<Announcement> searchPublishedAnnouncements(String keyword, int offset, int limit) {
+        List<Announcement> announcements = announcementRepository.findPublishedByKeyword(offset, limit, keyword);
+        long total = announcementRepository.countPublishedByKeyword(keyword);
+        return announcementPage(keyword, announcements, total);
+    }
+    
+    protected SearchPage<LostItem> lostItemPage(String keyword, List<LostItem> items, long total) {
+        return toPage(keyword, items, total, LostItem::getId,
+                item -> new String[]{item.getTitle(), item.getDescription(), item.getLostLocation()});
+    }
+    
+    protected SearchPage<FoundItem> foundItemPage(String keyword, List<FoundItem> items, long total) {
+        return toPage(keyword, items, total, FoundItem::getId,
+                item -> new String[]{item.getTitle(), item.getDescription(), item.getFoundLocation()});
+    }
+    
+    protected SearchPage<Post> postPage(String keyword, List<Post> posts, long total) {
+        return toPage(keyword, posts, total, Post::getId,
+                post -> new String[]{post.getTitle(), post.getContent()});
+    }
+    
+    protected SearchPage<Announcement> announcementPage(String keyword, List<Announcement> announcements, long total) {
+        return toPage(keyword, announcements, total, Announcement::getId,
+                announcement -> new String[]{announcement.getTitle(), announcement.getContent()});
+    }
+    
+    private <T> SearchPage<T> toPage(String keyword, List<T> results, long total,
+                                     Function<T, Long> idFn, Function<T, String[]> fieldsFn) {
+        List<String> terms = SearchHighlighter.terms(keyword);
+        Map<Long, String> highlights = new LinkedHashMap<>();
+        for (T result : results) {
+            String snippet = SearchHighlighter.highlight(terms, fieldsFn.apply(result));
+            if (snippet != null) {
+                highlights.put(idFn.apply(result), snippet);
+            }
+        }
+        return new SearchPage<>(results, total, highlights);
+    }
+}
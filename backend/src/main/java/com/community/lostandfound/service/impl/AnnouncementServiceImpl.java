@@ -4,17 +4,24 @@ import com.community.lostandfound.dto.announcement.AnnouncementDto;
 import com.community.lostandfound.dto.announcement.AnnouncementPageDto;
 import com.community.lostandfound.dto.announcement.CreateAnnouncementRequest;
 import com.community.lostandfound.dto.announcement.UpdateAnnouncementRequest;
+import com.community.lostandfound.dto.common.CountMode;
+import com.community.lostandfound.dto.search.SearchPage;
 import com.community.lostandfound.entity.Announcement;
 import com.community.lostandfound.exception.ResourceNotFoundException;
 import com.community.lostandfound.repository.AnnouncementRepository;
 import com.community.lostandfound.service.AnnouncementService;
+import com.community.lostandfound.service.CountService;
+import com.community.lostandfound.service.FeedService;
+import com.community.lostandfound.service.SearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -26,35 +33,46 @@ import java.util.stream.Collectors;
 public class AnnouncementServiceImpl implements AnnouncementService {
 
     private final AnnouncementRepository announcementRepository;
+    private final SearchService searchService;
+    private final FeedService feedService;
+    private final CountService countService;
 
     @Override
-    public AnnouncementPageDto getAllAnnouncements(int page, int pageSize, String keyword, String adminName) {
+    @Transactional(readOnly = true)
+    public AnnouncementPageDto getAllAnnouncements(int page, int pageSize, String keyword, String adminName,
+                                                   CountMode countMode) {
         // 验证分页参数
         validatePaginationParams(page, pageSize);
         
         // 计算偏移量
         int offset = (page - 1) * pageSize;
         
-        // 查询公告列表
-        List<Announcement> announcements = announcementRepository.findAll(offset, pageSize, keyword, adminName);
+        // 查询公告列表，不统计总数时多取一条判断是否还有下一页
+        List<Announcement> announcements = announcementRepository.findAll(offset, countMode.fetchSize(pageSize), keyword, adminName);
+        boolean hasMore = announcements.size() > pageSize;
+        if (hasMore) {
+            announcements = announcements.subList(0, pageSize);
+        }
         
         // 统计总数
-        long totalCount = announcementRepository.count(keyword, adminName);
+        Long totalCount = countService.count(countMode, "announcements", keyword + "|" + adminName,
+                () -> announcementRepository.count(keyword, adminName));
+        if (totalCount != null) {
+            hasMore = offset + announcements.size() < totalCount;
+        }
         
         // 转换为DTO
         List<AnnouncementDto> announcementDtos = announcements.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
         
-        // 计算总页数
-        int totalPages = calculateTotalPages(totalCount, pageSize);
-        
         // 构建分页DTO
-        return buildPageDto(announcementDtos, page, pageSize, totalPages, totalCount);
+        return buildPageDto(announcementDtos, page, pageSize, totalCount, hasMore);
     }
 
     @Override
-    public AnnouncementPageDto getPublishedAnnouncements(int page, int pageSize, String keyword) {
+    @Transactional(readOnly = true)
+    public AnnouncementPageDto getPublishedAnnouncements(int page, int pageSize, String keyword, CountMode countMode) {
         // 验证分页参数
         validatePaginationParams(page, pageSize);
         
@@ -63,27 +81,40 @@ public class AnnouncementServiceImpl implements AnnouncementService {
         
         // 查询已发布公告，支持关键词搜索
         List<Announcement> announcements;
-        long totalCount;
+        Long totalCount;
+        boolean hasMore = false;
+        Map<Long, String> highlights = Collections.emptyMap();
         
         if (keyword != null && !keyword.trim().isEmpty()) {
+            // 搜索服务在同一次查询中返回命中总数，无需额外统计
             log.debug("按关键词搜索已发布公告, 关键词: {}", keyword);
-            announcements = announcementRepository.findPublishedByKeyword(offset, pageSize, keyword);
-            totalCount = announcementRepository.countPublishedByKeyword(keyword);
+            SearchPage<Announcement> searchPage = searchService.searchPublishedAnnouncements(keyword, offset, pageSize);
+            announcements = searchPage.getItems();
+            totalCount = searchPage.getTotal();
+            highlights = searchPage.getHighlights();
         } else {
-            announcements = announcementRepository.findPublished(offset, pageSize);
-            totalCount = announcementRepository.countPublished();
+            announcements = announcementRepository.findPublished(offset, countMode.fetchSize(pageSize));
+            if (announcements.size() > pageSize) {
+                announcements = announcements.subList(0, pageSize);
+                hasMore = true;
+            }
+            totalCount = countService.count(countMode, "announcements", "published",
+                    announcementRepository::countPublished);
+        }
+        if (totalCount != null) {
+            hasMore = offset + announcements.size() < totalCount;
         }
         
         // 转换为DTO
         List<AnnouncementDto> announcementDtos = announcements.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
-        
-        // 计算总页数
-        int totalPages = calculateTotalPages(totalCount, pageSize);
+        for (AnnouncementDto dto : announcementDtos) {
+            dto.setHighlight(highlights.get(dto.getId()));
+        }
         
         // 构建分页DTO
-        return buildPageDto(announcementDtos, page, pageSize, totalPages, totalCount);
+        return buildPageDto(announcementDtos, page, pageSize, totalCount, hasMore);
     }
 
     @Override
@@ -118,6 +149,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
         
         // 查询完整信息（包括管理员名称）
         Announcement savedAnnouncement = announcementRepository.findById(announcement.getId());
+        feedService.publishAnnouncement(savedAnnouncement);
         return convertToDto(savedAnnouncement);
     }
 
@@ -159,6 +191,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
         
         // 查询完整信息（包括管理员名称）
         Announcement updatedAnnouncement = announcementRepository.findById(id);
+        feedService.publishAnnouncement(updatedAnnouncement);
         return convertToDto(updatedAnnouncement);
     }
 
@@ -178,6 +211,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
         
         // 删除公告
         int rows = announcementRepository.deleteById(id);
+        feedService.remove(FeedService.ANNOUNCEMENTS, id);
         
         log.info("公告{}删除: ID = {}, 标题 = {}", rows > 0 ? "成功" : "失败", id, announcement.getTitle());
         
@@ -203,11 +237,8 @@ public class AnnouncementServiceImpl implements AnnouncementService {
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
         
-        // 计算总页数
-        int totalPages = calculateTotalPages(totalCount, pageSize);
-        
         // 构建分页DTO
-        return buildPageDto(announcementDtos, page, pageSize, totalPages, totalCount);
+        return buildPageDto(announcementDtos, page, pageSize, totalCount, offset + announcements.size() < totalCount);
     }
 
     /**
@@ -228,12 +259,12 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     /**
      * 计算总页数
      *
-     * @param totalCount 总记录数
+     * @param totalCount 总记录数，未统计时为null
      * @param pageSize   每页条数
-     * @return 总页数
+     * @return 总页数，未统计时为null
      */
-    private int calculateTotalPages(long totalCount, int pageSize) {
-        return (int) Math.ceil((double) totalCount / pageSize);
+    private Integer calculateTotalPages(Long totalCount, int pageSize) {
+        return totalCount == null ? null : (int) Math.ceil((double) totalCount / pageSize);
     }
 
     /**
@@ -242,17 +273,18 @@ public class AnnouncementServiceImpl implements AnnouncementService {
      * @param items       记录列表
      * @param page        当前页码
      * @param pageSize    每页条数
-     * @param totalPages  总页数
-     * @param totalItems  总记录数
+     * @param totalItems  总记录数，未统计时为null
+     * @param hasMore     是否还有下一页
      * @return 分页DTO
      */
-    private AnnouncementPageDto buildPageDto(List<AnnouncementDto> items, int page, int pageSize, int totalPages, long totalItems) {
+    private AnnouncementPageDto buildPageDto(List<AnnouncementDto> items, int page, int pageSize, Long totalItems, boolean hasMore) {
         return AnnouncementPageDto.builder()
                 .announcements(items)
                 .currentPage(page)
                 .pageSize(pageSize)
-                .totalPages(totalPages)
+                .totalPages(calculateTotalPages(totalItems, pageSize))
                 .totalItems(totalItems)
+                .hasMore(hasMore)
                 .build();
     }
 
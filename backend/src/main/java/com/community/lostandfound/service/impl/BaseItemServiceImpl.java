@@ -1,14 +1,28 @@
 package com.community.lostandfound.service.impl;
 
+import com.community.lostandfound.dto.common.CountMode;
+import com.community.lostandfound.dto.search.SearchPage;
 import com.community.lostandfound.entity.BaseItem;
 import com.community.lostandfound.entity.User;
+import com.community.lostandfound.exception.BadRequestException;
 import com.community.lostandfound.exception.ResourceNotFoundException;
 import com.community.lostandfound.exception.UnauthorizedException;
 import com.community.lostandfound.service.BaseItemService;
+import com.community.lostandfound.service.CountService;
+import com.community.lostandfound.service.FeedService;
+import com.community.lostandfound.service.FileReferenceService;
+import com.community.lostandfound.service.ImageProcessingService;
+import com.community.lostandfound.service.ItemCacheService;
+import com.community.lostandfound.service.MatchingService;
 import com.community.lostandfound.service.UserService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,14 +37,54 @@ public abstract class BaseItemServiceImpl<T extends BaseItem> implements BaseIte
     
     protected UserService userService;
     
+    protected ItemCacheService itemCacheService;
+    
+    protected ImageProcessingService imageProcessingService;
+    
+    protected FileReferenceService fileReferenceService;
+    
+    protected FeedService feedService;
+    
+    protected CountService countService;
+    
+    protected MatchingService matchingService;
+    
     /**
-     * 构造函数注入UserService
+     * 构造函数注入UserService、ItemCacheService、ImageProcessingService、FileReferenceService、FeedService、CountService和MatchingService
      * @param userService 用户服务
+     * @param itemCacheService 物品缓存服务
+     * @param imageProcessingService 图片处理服务
+     * @param fileReferenceService 文件引用服务
+     * @param feedService 首页动态服务
+     * @param countService 分页总数服务
+     * @param matchingService 失物自动匹配服务
      */
-    public BaseItemServiceImpl(UserService userService) {
+    public BaseItemServiceImpl(UserService userService, ItemCacheService itemCacheService,
+                               ImageProcessingService imageProcessingService,
+                               FileReferenceService fileReferenceService,
+                               FeedService feedService, CountService countService,
+                               MatchingService matchingService) {
         this.userService = userService;
+        this.itemCacheService = itemCacheService;
+        this.imageProcessingService = imageProcessingService;
+        this.fileReferenceService = fileReferenceService;
+        this.feedService = feedService;
+        this.countService = countService;
+        this.matchingService = matchingService;
     }
     
+    /**
+     * 缓存区域名称，如 lost-items
+     * 由子类实现
+     */
+    protected abstract String getCacheRegion();
+    
+    /**
+     * 物品实体类型，用于缓存反序列化
+     * 由子类实现
+     */
+    protected abstract Class<T> getItemClass();
+    
     /**
      * 获取具体的Repository接口
      * 由子类实现
@@ -79,6 +133,19 @@ public abstract class BaseItemServiceImpl<T extends BaseItem> implements BaseIte
      */
     protected abstract long countWithFilters(String category, String status, String keyword);
     
+    /**
+     * 关键词全文搜索物品，结果按相关度排序
+     * 由子类实现
+     */
+    protected abstract SearchPage<T> searchWithFilters(String category, String status, String keyword, int offset, int limit);
+    
+    /**
+     * 按 (created_at, id) 游标查询物品
+     * 由子类实现
+     */
+    protected abstract List<T> findAfterCursor(String category, String status,
+                                               LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+    
     /**
      * 检查用户是否有权限操作物品
      * @param itemUserId 物品所有者ID
@@ -102,9 +169,17 @@ public abstract class BaseItemServiceImpl<T extends BaseItem> implements BaseIte
         return false;
     }
     
+    /**
+     * 使物品详情及列表缓存失效，写操作完成后调用
+     * @param id 物品ID
+     */
+    protected void evictCachedItem(Long id) {
+        itemCacheService.evictItem(getCacheRegion(), id);
+    }
+    
     @Override
     public Optional<T> getItemById(Long id) {
-        return findById(id);
+        return itemCacheService.getItem(getCacheRegion(), id, getItemClass(), () -> findById(id));
     }
     
     @Override
@@ -118,7 +193,12 @@ public abstract class BaseItemServiceImpl<T extends BaseItem> implements BaseIte
             item.setStatus("pending");
         }
         
-        return save(item);
+        T saved = save(item);
+        fileReferenceService.replaceReferences(getCacheRegion(), saved.getId(), saved.getImagesList());
+        feedService.publishItem(getCacheRegion(), saved);
+        matchingService.indexItem(getCacheRegion(), saved);
+        itemCacheService.evictPages(getCacheRegion());
+        return saved;
     }
     
     @Override
@@ -137,7 +217,12 @@ public abstract class BaseItemServiceImpl<T extends BaseItem> implements BaseIte
         item.setCreatedAt(existingItem.getCreatedAt());
         item.setUpdatedAt(LocalDateTime.now());
         
-        return update(item);
+        T updated = update(item);
+        fileReferenceService.replaceReferences(getCacheRegion(), id, updated.getImagesList());
+        feedService.publishItem(getCacheRegion(), updated);
+        matchingService.indexItem(getCacheRegion(), updated);
+        evictCachedItem(id);
+        return updated;
     }
     
     @Override
@@ -150,7 +235,14 @@ public abstract class BaseItemServiceImpl<T extends BaseItem> implements BaseIte
             throw new UnauthorizedException("您没有权限删除此物品");
         }
         
-        return delete(id);
+        boolean deleted = delete(id);
+        if (deleted) {
+            fileReferenceService.removeReferences(getCacheRegion(), id);
+            feedService.remove(getCacheRegion(), id);
+            matchingService.removeItem(getCacheRegion(), id);
+            evictCachedItem(id);
+        }
+        return deleted;
     }
     
     @Override
@@ -162,6 +254,7 @@ public abstract class BaseItemServiceImpl<T extends BaseItem> implements BaseIte
         
         // 查询数据
         List<T> items = findByUserIdAndStatus(userId, status, offset, size);
+        attachThumbnails(items);
         long totalItems = countByUserIdAndStatus(userId, status);
         int totalPages = (int) Math.ceil((double) totalItems / size);
         
@@ -177,26 +270,153 @@ public abstract class BaseItemServiceImpl<T extends BaseItem> implements BaseIte
     }
     
     @Override
-    public Map<String, Object> getAllItems(String category, String status, String keyword, int page, int size) {
+    @Transactional(readOnly = true)
+    public Map<String, Object> getAllItems(String category, String status, String keyword, int page, int size,
+                                           CountMode countMode) {
         // 验证分页参数
-        if (page < 1) page = 1;
-        if (size < 1) size = 10;
-        int offset = (page - 1) * size;
+        final int currentPage = page < 1 ? 1 : page;
+        final int pageSize = size < 1 ? 10 : size;
+        int offset = (currentPage - 1) * pageSize;
         
-        // 查询数据
-        List<T> items = findAllWithFilters(category, status, keyword, offset, size);
-        long totalItems = countWithFilters(category, status, keyword);
-        int totalPages = (int) Math.ceil((double) totalItems / size);
+        String pageKey = category + "|" + status + "|" + keyword + "|" + currentPage + "|" + pageSize + "|" + countMode;
+        return itemCacheService.getPage(getCacheRegion(), pageKey, getItemClass(), () -> {
+            // 查询数据，有关键词时走搜索服务并返回高亮片段
+            List<T> items;
+            Long totalItems;
+            boolean hasMore;
+            Map<Long, String> highlights = null;
+            if (keyword != null && !keyword.trim().isEmpty()) {
+                SearchPage<T> searchPage = searchWithFilters(category, status, keyword, offset, pageSize);
+                items = searchPage.getItems();
+                totalItems = searchPage.getTotal();
+                highlights = searchPage.getHighlights();
+                hasMore = offset + items.size() < totalItems;
+            } else {
+                items = findAllWithFilters(category, status, keyword, offset, countMode.fetchSize(pageSize));
+                hasMore = items.size() > pageSize;
+                if (hasMore) {
+                    items = items.subList(0, pageSize);
+                }
+                totalItems = countService.count(countMode, getCacheRegion(), category + "|" + status,
+                        () -> countWithFilters(category, status, keyword));
+                if (totalItems != null) {
+                    hasMore = offset + items.size() < totalItems;
+                }
+            }
+            Integer totalPages = totalItems == null ? null : (int) Math.ceil((double) totalItems / pageSize);
+            attachThumbnails(items);
+            
+            // 构建返回结果
+            Map<String, Object> result = new HashMap<>();
+            result.put("items", items);
+            if (highlights != null) {
+                result.put("highlights", highlights);
+            }
+            result.put("currentPage", currentPage);
+            result.put("pageSize", pageSize);
+            result.put("totalItems", totalItems);
+            result.put("totalPages", totalPages);
+            result.put("hasMore", hasMore);
+            
+            return result;
+        });
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getItemsByCursor(String category, String status, String keyword, String cursor, int size) {
+        // 关键词搜索按相关度排序，走搜索服务的页码分页，与 (created_at, id) 游标无法对应
+        if (keyword != null && !keyword.trim().isEmpty()) {
+            throw new BadRequestException("关键词搜索不支持游标分页，请使用页码分页");
+        }
+        final int pageSize = size < 1 ? 10 : size;
         
-        // 构建返回结果
-        Map<String, Object> result = new HashMap<>();
-        result.put("items", items);
-        result.put("currentPage", page);
-        result.put("pageSize", size);
-        result.put("totalItems", totalItems);
-        result.put("totalPages", totalPages);
+        // 游标为空表示第一页
+        final LocalDateTime cursorCreatedAt;
+        final Long cursorId;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] parts = decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(parts[0]);
+            cursorId = Long.parseLong(parts[1]);
+        } else {
+            cursorCreatedAt = null;
+            cursorId = null;
+        }
         
-        return result;
+        String pageKey = "cursor|" + category + "|" + status + "|" + cursorCreatedAt + "|" + cursorId + "|" + pageSize;
+        return itemCacheService.getPage(getCacheRegion(), pageKey, getItemClass(), () -> {
+            // 多取一条用于判断是否还有下一页
+            List<T> items = findAfterCursor(category, status, cursorCreatedAt, cursorId, pageSize + 1);
+            boolean hasMore = items.size() > pageSize;
+            if (hasMore) {
+                items = items.subList(0, pageSize);
+            }
+            
+            String nextCursor = null;
+            if (hasMore) {
+                T last = items.get(items.size() - 1);
+                nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+            }
+            attachThumbnails(items);
+            
+            // 构建返回结果
+            Map<String, Object> result = new HashMap<>();
+            result.put("items", items);
+            result.put("pageSize", pageSize);
+            result.put("nextCursor", nextCursor);
+            result.put("hasMore", hasMore);
+            
+            return result;
+        });
+    }
+    
+    /**
+     * 为列表中的物品填充缩略图地址，整页一次批量查询
+     */
+    protected void attachThumbnails(List<T> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        List<String> imageUrls = new ArrayList<>();
+        for (T item : items) {
+            imageUrls.addAll(item.getImagesList());
+        }
+        Map<String, String> thumbnails = imageUrls.isEmpty() ? Map.of() : imageProcessingService.getThumbnailUrls(imageUrls);
+        for (T item : items) {
+            List<String> itemThumbnails = new ArrayList<>();
+            for (String url : item.getImagesList()) {
+                itemThumbnails.add(thumbnails.getOrDefault(url, url));
+            }
+            item.setThumbnails(itemThumbnails);
+        }
+    }
+    
+    /**
+     * 将最后一条记录的 (created_at, id) 编码为不透明的游标
+     */
+    protected static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 解析游标，返回 [created_at, id]
+     * @throws BadRequestException 游标格式不正确
+     */
+    protected static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new BadRequestException("无效的分页游标");
+            }
+            // 提前校验格式，避免在查询时才抛出异常
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("无效的分页游标", e);
+        }
     }
     
     @Override
@@ -209,9 +429,24 @@ public abstract class BaseItemServiceImpl<T extends BaseItem> implements BaseIte
             throw new UnauthorizedException("您没有权限更新此物品状态");
         }
         
+        return applyStatus(existingItem, status);
+    }
+    
+    /**
+     * 将从数据库读取的物品更新为新状态，并同步首页动态、匹配索引和缓存
+     * 调用方负责权限校验；不得传入缓存中的物品，以免用旧数据覆盖整行
+     * @param existingItem 从数据库读取的物品
+     * @param status 新状态
+     * @return 更新后的物品
+     */
+    protected T applyStatus(T existingItem, String status) {
         existingItem.setStatus(status);
         existingItem.setUpdatedAt(LocalDateTime.now());
         
-        return update(existingItem);
+        T updated = update(existingItem);
+        feedService.publishItem(getCacheRegion(), updated);
+        matchingService.indexItem(getCacheRegion(), updated);
+        evictCachedItem(updated.getId());
+        return updated;
     }
 } 
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.community.lostandfound.service.impl;
 import com.community.lostandfound.dto.claim.ClaimApplicationDto;
 import com.community.lostandfound.dto.claim.ClaimPageDto;
 import com.community.lostandfound.dto.claim.ClaimRequestDto;
+import com.community.lostandfound.dto.common.CountMode;
 import com.community.lostandfound.entity.ClaimApplication;
 import com.community.lostandfound.entity.FoundItem;
 import com.community.lostandfound.exception.BadRequestException;
@@ -10,7 +11,9 @@ import com.community.lostandfound.exception.ResourceNotFoundException;
 import com.community.lostandfound.repository.ClaimApplicationRepository;
 import com.community.lostandfound.repository.FoundItemRepository;
 import com.community.lostandfound.service.ClaimApplicationService;
+import com.community.lostandfound.service.CountService;
 import com.community.lostandfound.service.FoundItemService;
+import com.community.lostandfound.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,7 +22,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -33,12 +39,14 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
     private final ClaimApplicationRepository claimApplicationRepository;
     private final FoundItemRepository foundItemRepository;
     private final FoundItemService foundItemService;
+    private final CountService countService;
+    private final NotificationService notificationService;
 
     @Override
     @Transactional
     public ClaimApplicationDto createClaimApplication(Long foundItemId, ClaimRequestDto request, Long applicantId) {
-        // 检查失物招领是否存在
-        Optional<FoundItem> foundItemOptional = foundItemService.getFoundItemById(foundItemId);
+        // 检查失物招领是否存在，写操作从数据库读取，避免使用缓存中的旧状态
+        Optional<FoundItem> foundItemOptional = foundItemRepository.findById(foundItemId);
         if (!foundItemOptional.isPresent()) {
             throw new ResourceNotFoundException("失物招领不存在: ID = " + foundItemId);
         }
@@ -85,12 +93,14 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
                 application.getId(), foundItemId, applicantId);
         
         // 更新失物招领状态为"认领中"
-        foundItem.setStatus("processing");
-        foundItem.setUpdatedAt(now);
-        foundItemRepository.update(foundItem);
+        foundItemService.updateClaimStatus(foundItemId, "processing");
         
         log.info("失物招领状态已更新为'认领中': ID = {}", foundItemId);
         
+        notificationService.notifyUser(foundItem.getUserId(), NotificationService.CLAIM_CREATED,
+                "收到新的认领申请", "您发布的失物招领「" + foundItem.getTitle() + "」收到新的认领申请",
+                Map.of("applicationId", application.getId(), "foundItemId", foundItemId));
+        
         // 查询完整信息
         ClaimApplication savedApplication = claimApplicationRepository.findById(application.getId());
         return convertToDto(savedApplication);
@@ -102,8 +112,8 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
         // 查询认领申请
         ClaimApplication application = getApplicationById(applicationId);
         
-        // 查询失物招领
-        Optional<FoundItem> foundItemOptional = foundItemService.getFoundItemById(application.getFoundItemId());
+        // 查询失物招领，写操作从数据库读取，避免使用缓存中的旧状态
+        Optional<FoundItem> foundItemOptional = foundItemRepository.findById(application.getFoundItemId());
         if (!foundItemOptional.isPresent()) {
             throw new ResourceNotFoundException("失物招领不存在: ID = " + application.getFoundItemId());
         }
@@ -136,12 +146,14 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
         log.info("认领申请已批准: ID = {}", applicationId);
         
         // 更新失物招领状态为已认领
-        foundItem.setStatus("claimed");
-        foundItem.setUpdatedAt(now);
-        foundItemRepository.update(foundItem);
+        foundItemService.updateClaimStatus(foundItem.getId(), "claimed");
         
         log.info("失物招领状态已更新为'已认领': ID = {}", foundItem.getId());
         
+        notificationService.notifyUser(application.getApplicantId(), NotificationService.CLAIM_APPROVED,
+                "认领申请已通过", "您对「" + foundItem.getTitle() + "」的认领申请已通过",
+                Map.of("applicationId", applicationId, "foundItemId", foundItem.getId()));
+        
         // 查询完整信息
         ClaimApplication updatedApplication = claimApplicationRepository.findById(applicationId);
         return convertToDto(updatedApplication);
@@ -153,8 +165,8 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
         // 查询认领申请
         ClaimApplication application = getApplicationById(applicationId);
         
-        // 查询失物招领
-        Optional<FoundItem> foundItemOptional = foundItemService.getFoundItemById(application.getFoundItemId());
+        // 查询失物招领，写操作从数据库读取，避免使用缓存中的旧状态
+        Optional<FoundItem> foundItemOptional = foundItemRepository.findById(application.getFoundItemId());
         if (!foundItemOptional.isPresent()) {
             throw new ResourceNotFoundException("失物招领不存在: ID = " + application.getFoundItemId());
         }
@@ -187,12 +199,14 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
         log.info("认领申请已拒绝: ID = {}", applicationId);
         
         // 更新失物招领状态为待认领
-        foundItem.setStatus("pending");
-        foundItem.setUpdatedAt(now);
-        foundItemRepository.update(foundItem);
+        foundItemService.updateClaimStatus(foundItem.getId(), "pending");
         
         log.info("失物招领状态已更新为'待认领': ID = {}", foundItem.getId());
         
+        notificationService.notifyUser(application.getApplicantId(), NotificationService.CLAIM_REJECTED,
+                "认领申请未通过", "您对「" + foundItem.getTitle() + "」的认领申请未通过",
+                Map.of("applicationId", applicationId, "foundItemId", foundItem.getId()));
+        
         // 查询完整信息
         ClaimApplication updatedApplication = claimApplicationRepository.findById(applicationId);
         return convertToDto(updatedApplication);
@@ -219,15 +233,10 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
         long totalCount = claimApplicationRepository.countByApplicantId(userId, status);
         
         // 转换为DTO
-        List<ClaimApplicationDto> applicationDtos = applications.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        
-        // 计算总页数
-        int totalPages = calculateTotalPages(totalCount, size);
+        List<ClaimApplicationDto> applicationDtos = convertToDtos(applications);
         
         // 构建分页DTO
-        return buildPageDto(applicationDtos, page, size, totalPages, totalCount);
+        return buildPageDto(applicationDtos, page, size, totalCount, offset + applications.size() < totalCount);
     }
 
     @Override
@@ -245,15 +254,10 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
         long totalCount = claimApplicationRepository.countByFoundItemOwnerId(userId, status);
         
         // 转换为DTO
-        List<ClaimApplicationDto> applicationDtos = applications.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        
-        // 计算总页数
-        int totalPages = calculateTotalPages(totalCount, size);
+        List<ClaimApplicationDto> applicationDtos = convertToDtos(applications);
         
         // 构建分页DTO
-        return buildPageDto(applicationDtos, page, size, totalPages, totalCount);
+        return buildPageDto(applicationDtos, page, size, totalCount, offset + applications.size() < totalCount);
     }
 
     @Override
@@ -271,15 +275,10 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
         long totalCount = claimApplicationRepository.countByFoundItemId(foundItemId);
         
         // 转换为DTO
-        List<ClaimApplicationDto> applicationDtos = applications.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        
-        // 计算总页数
-        int totalPages = calculateTotalPages(totalCount, size);
+        List<ClaimApplicationDto> applicationDtos = convertToDtos(applications);
         
         // 构建分页DTO
-        return buildPageDto(applicationDtos, page, size, totalPages, totalCount);
+        return buildPageDto(applicationDtos, page, size, totalCount, offset + applications.size() < totalCount);
     }
 
     @Override
@@ -290,7 +289,8 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
             String itemTitle, 
             String applicantName, 
             int page, 
-            int size) {
+            int size,
+            CountMode countMode) {
         // 验证分页参数
         validatePaginationParams(page, size);
         
@@ -317,24 +317,29 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
             }
         }
         
-        // 查询所有认领申请
+        // 查询所有认领申请，不统计总数时多取一条判断是否还有下一页
         List<ClaimApplication> applications = claimApplicationRepository.findAllWithFilters(
-                status, startDateTime, endDateTime, itemTitle, applicantName, offset, size);
+                status, startDateTime, endDateTime, itemTitle, applicantName, offset, countMode.fetchSize(size));
+        boolean hasMore = applications.size() > size;
+        if (hasMore) {
+            applications = applications.subList(0, size);
+        }
         
         // 统计总数
-        long totalCount = claimApplicationRepository.countWithFilters(
-                status, startDateTime, endDateTime, itemTitle, applicantName);
+        LocalDateTime countStart = startDateTime;
+        LocalDateTime countEnd = endDateTime;
+        Long totalCount = countService.count(countMode, "claims",
+                status + "|" + startDateTime + "|" + endDateTime + "|" + itemTitle + "|" + applicantName,
+                () -> claimApplicationRepository.countWithFilters(status, countStart, countEnd, itemTitle, applicantName));
+        if (totalCount != null) {
+            hasMore = offset + applications.size() < totalCount;
+        }
         
         // 转换为DTO
-        List<ClaimApplicationDto> applicationDtos = applications.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        
-        // 计算总页数
-        int totalPages = calculateTotalPages(totalCount, size);
+        List<ClaimApplicationDto> applicationDtos = convertToDtos(applications);
         
         // 构建分页DTO
-        return buildPageDto(applicationDtos, page, size, totalPages, totalCount);
+        return buildPageDto(applicationDtos, page, size, totalCount, hasMore);
     }
     
     @Override
@@ -345,13 +350,11 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
         
         // 如果认领申请状态为"已批准"并且对应的失物招领状态为"已认领"，需要将失物招领状态改回"待认领"
         if ("approved".equals(application.getStatus())) {
-            Optional<FoundItem> foundItemOptional = foundItemService.getFoundItemById(application.getFoundItemId());
+            Optional<FoundItem> foundItemOptional = foundItemRepository.findById(application.getFoundItemId());
             if (foundItemOptional.isPresent()) {
                 FoundItem foundItem = foundItemOptional.get();
                 if ("claimed".equals(foundItem.getStatus())) {
-                    foundItem.setStatus("pending");
-                    foundItem.setUpdatedAt(LocalDateTime.now());
-                    foundItemRepository.update(foundItem);
+                    foundItemService.updateClaimStatus(foundItem.getId(), "pending");
                     
                     log.info("删除已批准的认领申请，失物招领状态已更新为'待认领': 失物招领ID = {}", foundItem.getId());
                 }
@@ -400,12 +403,12 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
     /**
      * 计算总页数
      *
-     * @param totalCount 总记录数
+     * @param totalCount 总记录数，未统计时为null
      * @param pageSize   每页条数
-     * @return 总页数
+     * @return 总页数，未统计时为null
      */
-    private int calculateTotalPages(long totalCount, int pageSize) {
-        return (int) Math.ceil((double) totalCount / pageSize);
+    private Integer calculateTotalPages(Long totalCount, int pageSize) {
+        return totalCount == null ? null : (int) Math.ceil((double) totalCount / pageSize);
     }
 
     /**
@@ -414,20 +417,54 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
      * @param items       记录列表
      * @param page        当前页码
      * @param pageSize    每页条数
-     * @param totalPages  总页数
-     * @param totalItems  总记录数
+     * @param totalItems  总记录数，未统计时为null
+     * @param hasMore     是否还有下一页
      * @return 分页DTO
      */
-    private ClaimPageDto buildPageDto(List<ClaimApplicationDto> items, int page, int pageSize, int totalPages, long totalItems) {
+    private ClaimPageDto buildPageDto(List<ClaimApplicationDto> items, int page, int pageSize, Long totalItems, boolean hasMore) {
         return ClaimPageDto.builder()
                 .applications(items)
                 .currentPage(page)
                 .pageSize(pageSize)
-                .totalPages(totalPages)
+                .totalPages(calculateTotalPages(totalItems, pageSize))
                 .totalItems(totalItems)
+                .hasMore(hasMore)
                 .build();
     }
 
+    /**
+     * 批量将认领申请实体转换为DTO
+     * 封面图片由列表查询直接返回；查询结果中缺少失物招领信息的记录，通过一次IN查询批量补齐，不再逐行查询
+     *
+     * @param applications 认领申请实体列表
+     * @return 认领申请DTO列表
+     */
+    private List<ClaimApplicationDto> convertToDtos(List<ClaimApplication> applications) {
+        Set<Long> missingIds = applications.stream()
+                .filter(application -> application.getFoundItemTitle() == null && application.getFoundItemId() != null)
+                .map(ClaimApplication::getFoundItemId)
+                .collect(Collectors.toSet());
+        
+        if (!missingIds.isEmpty()) {
+            Map<Long, FoundItem> foundItems = foundItemRepository.findByIds(missingIds).stream()
+                    .collect(Collectors.toMap(FoundItem::getId, Function.identity()));
+            for (ClaimApplication application : applications) {
+                FoundItem foundItem = foundItems.get(application.getFoundItemId());
+                if (foundItem != null && application.getFoundItemTitle() == null) {
+                    application.setFoundItemTitle(foundItem.getTitle());
+                    application.setFoundItemOwnerId(foundItem.getUserId());
+                    application.setFoundItemOwnerName(foundItem.getUsername());
+                    List<String> images = foundItem.getImagesList();
+                    application.setFoundItemImage(images.isEmpty() ? null : images.get(0));
+                }
+            }
+        }
+        
+        return applications.stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 将认领申请实体转换为DTO
      *
@@ -435,22 +472,11 @@ public class ClaimApplicationServiceImpl implements ClaimApplicationService {
      * @return 认领申请DTO
      */
     private ClaimApplicationDto convertToDto(ClaimApplication application) {
-        // 获取失物招领图片（如果有）
-        String foundItemImage = null;
-        Optional<FoundItem> foundItemOptional = foundItemService.getFoundItemById(application.getFoundItemId());
-        if (foundItemOptional.isPresent()) {
-            FoundItem foundItem = foundItemOptional.get();
-            List<String> images = foundItem.getImagesListForSerialization();
-            if (images != null && !images.isEmpty()) {
-                foundItemImage = images.get(0);
-            }
-        }
-        
         return ClaimApplicationDto.builder()
                 .id(application.getId())
                 .foundItemId(application.getFoundItemId())
                 .foundItemTitle(application.getFoundItemTitle())
-                .foundItemImage(foundItemImage)
+                .foundItemImage(application.getFoundItemImage())
                 .applicantId(application.getApplicantId())
                 .applicantName(application.getApplicantName())
                 .applicantContact(application.getApplicantContact())
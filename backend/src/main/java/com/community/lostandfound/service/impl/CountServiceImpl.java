@@ -0,0 +1,94 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.dto.common.CountMode;
+import com.community.lostandfound.service.CountService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 分页总数服务实现
+ * CACHED方式的结果保存在本地内存，TTL较短，不随写操作主动失效；总数用于页码展示，允许短时间内的偏差
+ */
+@Slf4j
+@Service
+public class CountServiceImpl implements CountService {
+
+    @Value("${cache.count.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${cache.count.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+
+    private final Map<String, CacheCounter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public Long count(CountMode mode, String region, String filterKey, LongSupplier counter) {
+        if (mode == CountMode.NONE) {
+            return null;
+        }
+        if (mode == CountMode.EXACT) {
+            return counter.getAsLong();
+        }
+
+        CacheCounter stats = counters.computeIfAbsent(region, k -> new CacheCounter());
+        String key = region + "|" + filterKey;
+        long now = System.currentTimeMillis();
+        CachedCount cached = cache.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            stats.hits.increment();
+            return cached.value;
+        }
+
+        stats.misses.increment();
+        long value = counter.getAsLong();
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(e -> e.expiresAt <= now);
+            if (cache.size() >= maxSize) {
+                cache.clear();
+            }
+        }
+        cache.put(key, new CachedCount(value, now + ttl.toMillis()));
+        return value;
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new TreeMap<>();
+        counters.forEach((region, counter) -> {
+            long hits = counter.hits.sum();
+            long misses = counter.misses.sum();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("hits", hits);
+            entry.put("misses", misses);
+            entry.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+            stats.put(region, entry);
+        });
+        return stats;
+    }
+
+    private static class CachedCount {
+        private final long value;
+        private final long expiresAt;
+
+        private CachedCount(long value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class CacheCounter {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+}
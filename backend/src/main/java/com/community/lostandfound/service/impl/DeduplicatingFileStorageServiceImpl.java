@@ -0,0 +1,183 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.entity.FileBlob;
+import com.community.lostandfound.repository.FileBlobRepository;
+import com.community.lostandfound.repository.ImageVariantRepository;
+import com.community.lostandfound.service.FileReferenceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 去重本地文件存储服务实现
+ * 上传时边写边计算SHA-256，每份内容只在 {uploadDir}/blobs/{摘要前两位}/ 下保存一次并登记到file_blobs；
+ * 物品图片、用户头像的引用记录在file_references，引用全部解除且超过宽限期的内容由collectGarbage回收。
+ * 子目录参数在此实现中被忽略，文件地址的读取与访问规则与本地存储相同。
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "dedup")
+public class DeduplicatingFileStorageServiceImpl extends LocalFileStorageServiceImpl {
+
+    private static final String BLOB_DIRECTORY = "blobs";
+
+    private final FileBlobRepository fileBlobRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final FileReferenceService fileReferenceService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 上传后尚未被物品或头像引用的内容至少保留该时长
+    @Value("${file.storage.gc.grace-period:24h}")
+    private Duration gracePeriod;
+
+    @Value("${file.storage.gc.batch-size:500}")
+    private int gcBatchSize;
+
+    public DeduplicatingFileStorageServiceImpl(FileBlobRepository fileBlobRepository,
+                                               ImageVariantRepository imageVariantRepository,
+                                               FileReferenceService fileReferenceService,
+                                               PlatformTransactionManager transactionManager) {
+        this.fileBlobRepository = fileBlobRepository;
+        this.imageVariantRepository = imageVariantRepository;
+        this.fileReferenceService = fileReferenceService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 保存文件内容，相同内容只保存一份
+     * 
+     * @param input 文件内容
+     * @param filename 文件名，仅用于确定扩展名
+     * @param subdirectory 子目录（忽略）
+     * @return 内容的存储路径（例如: "uploads/blobs/ab/<sha256>.jpg"）
+     * @throws IOException 文件操作异常
+     */
+    @Override
+    public String storeFile(InputStream input, String filename, String subdirectory) throws IOException {
+        String safeFilename = StringUtils.cleanPath(filename);
+        if (safeFilename.contains("..")) {
+            throw new IOException("文件名包含非法字符：" + safeFilename);
+        }
+
+        Path blobRoot = Paths.get(uploadDir, BLOB_DIRECTORY).toAbsolutePath().normalize();
+        Files.createDirectories(blobRoot);
+
+        Path tempPath = Files.createTempFile(blobRoot, ".upload-", ".tmp");
+        try {
+            String digest = copyWithDigest(input, tempPath);
+            long size = Files.size(tempPath);
+            String path = uploadDir + "/" + BLOB_DIRECTORY + "/" + digest.substring(0, 2) + "/"
+                    + storedFilename(digest, safeFilename);
+
+            // 登记与落盘在同一事务中完成：登记语句锁定摘要对应的行，垃圾回收删除同一内容时会互相等待
+            return transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                fileBlobRepository.upsert(FileBlob.builder()
+                        .digest(digest)
+                        .path(path)
+                        .size(size)
+                        .createdAt(now)
+                        .lastStoredAt(now)
+                        .build());
+                // 相同内容此前以其他扩展名保存过时沿用已有路径
+                String storedPath = fileBlobRepository.findByDigest(digest).map(FileBlob::getPath).orElse(path);
+                Path targetPath = Paths.get(storedPath).toAbsolutePath().normalize();
+                try {
+                    if (Files.exists(targetPath)) {
+                        log.debug("文件内容已存在，复用: {}", targetPath);
+                    } else {
+                        Files.createDirectories(targetPath.getParent());
+                        moveIntoPlace(tempPath, targetPath);
+                        log.debug("保存文件内容到: {}", targetPath);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return storedPath;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * 仅当内容没有任何引用时才删除，避免误删其他物品共用的图片
+     * 
+     * @param filePath 文件路径
+     * @return 是否删除成功
+     */
+    @Override
+    public boolean deleteFile(String filePath) {
+        return fileBlobRepository.findByPath(filePath)
+                .map(blob -> delete(blob, LocalDateTime.now()))
+                .orElseGet(() -> super.deleteFile(filePath));
+    }
+
+    /**
+     * 回收没有引用的文件内容
+     * 图片变体本身没有引用记录，只要其原图仍然存在就保留；原图被回收时删除变体记录，变体内容在下一轮回收
+     *
+     * @return 回收的文件数
+     */
+    public int collectGarbage() {
+        fileReferenceService.pruneDanglingReferences();
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        int collected = 0;
+        for (FileBlob blob : fileBlobRepository.findUnreferenced(cutoff, gcBatchSize)) {
+            if (isVariantOfStoredImage(blob) || !delete(blob, cutoff)) {
+                continue;
+            }
+            imageVariantRepository.deleteByOriginalPath(ImageProcessingServiceImpl.storageKey(blob.getPath()));
+            collected++;
+        }
+        return collected;
+    }
+
+    private boolean delete(FileBlob blob, LocalDateTime cutoff) {
+        Boolean deleted = transactionTemplate.execute(status -> {
+            if (fileBlobRepository.deleteIfUnreferenced(blob.getDigest(), cutoff) == 0) {
+                return false;
+            }
+            // 在事务内删除文件，提交前并发上传相同内容的请求会等待行锁
+            try {
+                Files.deleteIfExists(Paths.get(blob.getPath()).toAbsolutePath().normalize());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        });
+        if (Boolean.TRUE.equals(deleted)) {
+            log.debug("已回收文件内容: {}", blob.getPath());
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isVariantOfStoredImage(FileBlob blob) {
+        List<String> originals = imageVariantRepository.findOriginalPathsByPath(blob.getPath());
+        for (String original : originals) {
+            String digest = FileReferenceServiceImpl.extractDigest(original);
+            if (digest != null && fileBlobRepository.findByDigest(digest).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
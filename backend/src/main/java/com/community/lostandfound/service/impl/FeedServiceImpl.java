@@ -0,0 +1,166 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.entity.Announcement;
+import com.community.lostandfound.entity.BaseItem;
+import com.community.lostandfound.entity.FeedEntry;
+import com.community.lostandfound.entity.Post;
+import com.community.lostandfound.repository.FeedRepository;
+import com.community.lostandfound.service.FeedService;
+import com.community.lostandfound.service.ImageProcessingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 首页动态服务实现
+ */
+@Slf4j
+@Service
+public class FeedServiceImpl implements FeedService {
+
+    private static final int SUMMARY_LENGTH = 200;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final FeedRepository feedRepository;
+    private final ImageProcessingService imageProcessingService;
+
+    public FeedServiceImpl(FeedRepository feedRepository, ImageProcessingService imageProcessingService) {
+        this.feedRepository = feedRepository;
+        this.imageProcessingService = imageProcessingService;
+    }
+
+    @Override
+    public void publishItem(String entryType, BaseItem item) {
+        List<String> images = item.getImagesList();
+        feedRepository.upsert(FeedEntry.builder()
+                .entryType(entryType)
+                .entryId(item.getId())
+                .title(item.getTitle())
+                .summary(summary(item.getDescription()))
+                .image(images.isEmpty() ? null : images.get(0))
+                .status(item.getStatus())
+                .userId(item.getUserId())
+                .createdAt(item.getCreatedAt())
+                .updatedAt(item.getUpdatedAt())
+                .build());
+    }
+
+    @Override
+    public void publishPost(Post post) {
+        feedRepository.upsert(FeedEntry.builder()
+                .entryType(POSTS)
+                .entryId(post.getId())
+                .title(post.getTitle())
+                .summary(summary(post.getContent()))
+                .userId(post.getUserId())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build());
+    }
+
+    @Override
+    public void publishAnnouncement(Announcement announcement) {
+        if (!"published".equals(announcement.getStatus())) {
+            remove(ANNOUNCEMENTS, announcement.getId());
+            return;
+        }
+        feedRepository.upsert(FeedEntry.builder()
+                .entryType(ANNOUNCEMENTS)
+                .entryId(announcement.getId())
+                .title(announcement.getTitle())
+                .summary(summary(announcement.getContent()))
+                .status(announcement.getStatus())
+                .userId(announcement.getAdminId())
+                .createdAt(announcement.getCreatedAt())
+                .updatedAt(announcement.getUpdatedAt())
+                .build());
+    }
+
+    @Override
+    public void remove(String entryType, Long entryId) {
+        feedRepository.deleteByEntry(entryType, entryId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getFeed(Collection<String> entryTypes, String cursor, int size) {
+        int pageSize = size < 1 ? 10 : Math.min(size, MAX_PAGE_SIZE);
+
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] parts = BaseItemServiceImpl.decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(parts[0]);
+            cursorId = Long.parseLong(parts[1]);
+        }
+
+        // 多取一条用于判断是否还有下一页
+        List<FeedEntry> entries = feedRepository.findAfterCursor(entryTypes, cursorCreatedAt, cursorId, pageSize + 1);
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            FeedEntry last = entries.get(entries.size() - 1);
+            nextCursor = BaseItemServiceImpl.encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        attachThumbnails(entries);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", entries);
+        result.put("pageSize", pageSize);
+        result.put("nextCursor", nextCursor);
+        result.put("hasMore", hasMore);
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public int reconcile() {
+        int repaired = feedRepository.deleteDangling();
+        repaired += feedRepository.insertMissingLostItems();
+        repaired += feedRepository.insertMissingFoundItems();
+        repaired += feedRepository.insertMissingPosts();
+        repaired += feedRepository.insertMissingAnnouncements();
+        repaired += feedRepository.updateStaleLostItems();
+        repaired += feedRepository.updateStaleFoundItems();
+        repaired += feedRepository.updateStalePosts();
+        repaired += feedRepository.updateStaleAnnouncements();
+        return repaired;
+    }
+
+    /**
+     * 为封面图片填充缩略图地址，整页一次批量查询
+     */
+    private void attachThumbnails(List<FeedEntry> entries) {
+        List<String> images = entries.stream()
+                .map(FeedEntry::getImage)
+                .filter(Objects::nonNull)
+                .toList();
+        if (images.isEmpty()) {
+            return;
+        }
+        Map<String, String> thumbnails = imageProcessingService.getThumbnailUrls(images);
+        for (FeedEntry entry : entries) {
+            if (entry.getImage() != null) {
+                entry.setThumbnail(thumbnails.getOrDefault(entry.getImage(), entry.getImage()));
+            }
+        }
+    }
+
+    private static String summary(String text) {
+        if (text == null) {
+            return null;
+        }
+        return text.length() > SUMMARY_LENGTH ? text.substring(0, SUMMARY_LENGTH) : text;
+    }
+}
@@ -0,0 +1,94 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.repository.FileReferenceRepository;
+import com.community.lostandfound.service.FileReferenceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 文件引用服务实现
+ * 从文件地址的内容寻址文件名中提取摘要，引用记录保存在file_references表
+ */
+@Slf4j
+@Service
+public class FileReferenceServiceImpl implements FileReferenceService {
+
+    private static final Pattern DIGEST_NAME = Pattern.compile("/([0-9a-f]{64})(\\.[A-Za-z0-9]+)?$");
+
+    // 引用方类型 -> 引用方所在表
+    private static final Map<String, String> OWNER_TABLES = Map.of(
+            "lost-items", "lost_items",
+            "found-items", "found_items",
+            AVATAR, "users");
+
+    private final FileReferenceRepository fileReferenceRepository;
+
+    public FileReferenceServiceImpl(FileReferenceRepository fileReferenceRepository) {
+        this.fileReferenceRepository = fileReferenceRepository;
+    }
+
+    @Override
+    public void replaceReferences(String ownerType, Long ownerId, Collection<String> fileUrls) {
+        if (ownerId == null) {
+            return;
+        }
+        fileReferenceRepository.deleteByOwner(ownerType, ownerId);
+        Set<String> digests = extractDigests(fileUrls);
+        if (!digests.isEmpty()) {
+            fileReferenceRepository.insertForExistingBlobs(ownerType, ownerId, digests);
+        }
+    }
+
+    @Override
+    public void removeReferences(String ownerType, Long ownerId) {
+        if (ownerId != null) {
+            fileReferenceRepository.deleteByOwner(ownerType, ownerId);
+        }
+    }
+
+    @Override
+    public int pruneDanglingReferences() {
+        int pruned = 0;
+        for (Map.Entry<String, String> owner : OWNER_TABLES.entrySet()) {
+            pruned += fileReferenceRepository.deleteDangling(owner.getKey(), owner.getValue());
+        }
+        if (pruned > 0) {
+            log.info("已清理 {} 条引用方不存在的文件引用", pruned);
+        }
+        return pruned;
+    }
+
+    /**
+     * 提取文件地址中的内容摘要，忽略非内容寻址的地址
+     */
+    static Set<String> extractDigests(Collection<String> fileUrls) {
+        Set<String> digests = new LinkedHashSet<>();
+        if (fileUrls == null) {
+            return digests;
+        }
+        for (String url : fileUrls) {
+            String digest = extractDigest(url);
+            if (digest != null) {
+                digests.add(digest);
+            }
+        }
+        return digests;
+    }
+
+    static String extractDigest(String url) {
+        if (url == null) {
+            return null;
+        }
+        // 去掉查询参数（如预签名地址的签名部分）
+        int query = url.indexOf('?');
+        Matcher matcher = DIGEST_NAME.matcher(query >= 0 ? url.substring(0, query) : url);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
@@ -1,11 +1,20 @@
 package com.community.lostandfound.service.impl;
 
+import com.community.lostandfound.dto.search.SearchPage;
 import com.community.lostandfound.entity.FoundItem;
 import com.community.lostandfound.exception.ResourceNotFoundException;
 import com.community.lostandfound.repository.FoundItemRepository;
 import com.community.lostandfound.service.FoundItemService;
-import lombok.RequiredArgsConstructor;
+import com.community.lostandfound.service.CountService;
+import com.community.lostandfound.service.FeedService;
+import com.community.lostandfound.service.FileReferenceService;
+import com.community.lostandfound.service.ImageProcessingService;
+import com.community.lostandfound.service.ItemCacheService;
+import com.community.lostandfound.service.MatchingService;
+import com.community.lostandfound.service.SearchService;
+import com.community.lostandfound.service.UserService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,130 +30,202 @@ import java.util.Set;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class FoundItemServiceImpl implements FoundItemService {
+public class FoundItemServiceImpl extends BaseItemServiceImpl<FoundItem> implements FoundItemService {
 
     private final FoundItemRepository foundItemRepository;
+    private final SearchService searchService;
     
     // 有效的状态值
-    private static final Set<String> VALID_STATUSES = new HashSet<>(Arrays.asList("pending", "claimed", "closed"));
+    private static final Set<String> VALID_STATUSES = new HashSet<>(Arrays.asList("pending", "processing", "claimed", "closed"));
+
+    @Autowired
+    public FoundItemServiceImpl(FoundItemRepository foundItemRepository, UserService userService,
+                                ItemCacheService itemCacheService, SearchService searchService,
+                                ImageProcessingService imageProcessingService,
+                                FileReferenceService fileReferenceService, FeedService feedService,
+                                CountService countService, MatchingService matchingService) {
+        super(userService, itemCacheService, imageProcessingService, fileReferenceService, feedService, countService,
+                matchingService);
+        this.foundItemRepository = foundItemRepository;
+        this.searchService = searchService;
+    }
 
     @Override
     @Transactional
-    public FoundItem createFoundItem(FoundItem foundItem) {
+    public FoundItem createItem(FoundItem foundItem, Long userId) {
         log.debug("创建失物招领: {}", foundItem.getTitle());
-        foundItemRepository.save(foundItem);
-        return foundItem;
+        return super.createItem(foundItem, userId);
     }
 
+    // 实现BaseItemServiceImpl的抽象方法
     @Override
-    public List<FoundItem> getAllFoundItems(String category, String status, String keyword, int offset, int size) {
+    protected String getCacheRegion() {
+        return "found-items";
+    }
+
+    @Override
+    protected Class<FoundItem> getItemClass() {
+        return FoundItem.class;
+    }
+
+    @Override
+    protected Optional<FoundItem> findById(Long id) {
+        log.debug("根据ID查询失物招领: {}", id);
+        return foundItemRepository.findById(id);
+    }
+
+    @Override
+    protected FoundItem save(FoundItem item) {
+        log.debug("保存失物招领: {}", item.getTitle());
+        foundItemRepository.save(item);
+        return item;
+    }
+
+    @Override
+    protected FoundItem update(FoundItem item) {
+        log.debug("更新失物招领: {}", item.getId());
+        foundItemRepository.update(item);
+        return item;
+    }
+
+    @Override
+    protected boolean delete(Long id) {
+        log.debug("删除失物招领: {}", id);
+        // 删除失败时直接抛出异常回滚事务，不能当作删除成功
+        foundItemRepository.deleteById(id);
+        return true;
+    }
+
+    @Override
+    protected List<FoundItem> findByUserIdAndStatus(Long userId, String status, int offset, int limit) {
+        log.debug("查询用户的失物招领列表, 用户ID: {}, 状态: {}, 偏移量: {}, 每页条数: {}", 
+                userId, status, offset, limit);
+        return foundItemRepository.findByUserIdAndStatus(userId, status, offset, limit);
+    }
+
+    @Override
+    protected long countByUserIdAndStatus(Long userId, String status) {
+        log.debug("统计用户的失物招领数量, 用户ID: {}, 状态: {}", userId, status);
+        return foundItemRepository.countByUserIdAndStatus(userId, status);
+    }
+
+    @Override
+    protected List<FoundItem> findAllWithFilters(String category, String status, String keyword, int offset, int limit) {
         log.debug("查询失物招领列表, 分类: {}, 状态: {}, 关键词: {}, 偏移量: {}, 每页条数: {}", 
-                category, status, keyword, offset, size);
-        return foundItemRepository.findAll(category, status, keyword, offset, size);
+                category, status, keyword, offset, limit);
+        return foundItemRepository.findAll(category, status, keyword, offset, limit);
     }
 
     @Override
-    public int countAllFoundItems(String category, String status, String keyword) {
+    protected long countWithFilters(String category, String status, String keyword) {
         log.debug("统计失物招领数量, 分类: {}, 状态: {}, 关键词: {}", category, status, keyword);
         return foundItemRepository.countAll(category, status, keyword);
     }
 
+    @Override
+    protected SearchPage<FoundItem> searchWithFilters(String category, String status, String keyword, int offset, int limit) {
+        log.debug("搜索失物招领, 分类: {}, 状态: {}, 关键词: {}, 偏移量: {}, 每页条数: {}", 
+                category, status, keyword, offset, limit);
+        return searchService.searchFoundItems(keyword, category, status, offset, limit);
+    }
+
+    @Override
+    protected List<FoundItem> findAfterCursor(String category, String status,
+                                         LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        log.debug("游标查询失物招领列表, 分类: {}, 状态: {}, 游标: {}/{}, 每页条数: {}", 
+                category, status, cursorCreatedAt, cursorId, limit);
+        return foundItemRepository.findAfterCursor(category, status, cursorCreatedAt, cursorId, limit);
+    }
+
+    // 兼容旧代码的方法实现
+
+    @Override
+    public FoundItem createFoundItem(FoundItem foundItem) {
+        log.debug("调用旧版createFoundItem方法，转发到新方法");
+        if (foundItem.getUserId() == null) {
+            throw new IllegalArgumentException("创建失物招领必须提供userId");
+        }
+        return createItem(foundItem, foundItem.getUserId());
+    }
+
+    @Override
+    public List<FoundItem> getAllFoundItems(String category, String status, String keyword, int offset, int size) {
+        log.debug("调用旧版getAllFoundItems方法，转发到新方法");
+        return findAllWithFilters(category, status, keyword, offset, size);
+    }
+
+    @Override
+    public int countAllFoundItems(String category, String status, String keyword) {
+        log.debug("调用旧版countAllFoundItems方法，转发到新方法");
+        return (int) countWithFilters(category, status, keyword);
+    }
+
     @Override
     public Optional<FoundItem> getFoundItemById(Long id) {
-        log.debug("根据ID查询失物招领: {}", id);
-        return foundItemRepository.findById(id);
+        log.debug("调用旧版getFoundItemById方法，转发到新方法");
+        return getItemById(id);
     }
 
     @Override
     @Transactional
     public FoundItem updateFoundItem(FoundItem foundItem, Long userId) {
-        log.debug("更新失物招领: {}", foundItem.getId());
-        
-        // 检查失物招领是否存在
-        Optional<FoundItem> existingItem = foundItemRepository.findById(foundItem.getId());
-        if (!existingItem.isPresent()) {
-            throw new ResourceNotFoundException("失物招领不存在: ID = " + foundItem.getId());
-        }
-        
-        // 检查是否是发布者
-        FoundItem item = existingItem.get();
-        if (!item.getUserId().equals(userId)) {
-            throw new IllegalArgumentException("无权修改此失物招领");
-        }
-        
-        // 保留原有的不可修改字段
-        foundItem.setUserId(item.getUserId());
-        foundItem.setCreatedAt(item.getCreatedAt());
-        
-        // 如果状态为空，保留原有状态值
-        if (foundItem.getStatus() == null) {
-            log.debug("前端未提供状态值，保留原有状态: {}", item.getStatus());
-            foundItem.setStatus(item.getStatus());
-        } else if (!VALID_STATUSES.contains(foundItem.getStatus())) {
-            // 如果提供了状态但不是有效值，使用原有状态
-            log.warn("提供的状态值无效: {}, 使用原有状态: {}", foundItem.getStatus(), item.getStatus());
-            foundItem.setStatus(item.getStatus());
+        log.debug("调用旧版updateFoundItem方法，转发到新方法");
+        FoundItem existing = requireOwnedItem(foundItem.getId(), userId, "无权修改此失物招领");
+        // 未提供状态或状态值无效时保留原有状态
+        if (foundItem.getStatus() == null || !VALID_STATUSES.contains(foundItem.getStatus())) {
+            if (foundItem.getStatus() != null) {
+                log.warn("提供的状态值无效: {}, 使用原有状态: {}", foundItem.getStatus(), existing.getStatus());
+            }
+            foundItem.setStatus(existing.getStatus());
         }
-        
-        // 更新失物招领
-        foundItemRepository.update(foundItem);
-        
-        return foundItem;
+        return updateItem(foundItem.getId(), foundItem, userId);
     }
     
     @Override
     @Transactional
     public FoundItem updateFoundItemStatus(Long id, String status, Long userId) {
-        log.debug("更新失物招领状态: ID={}, 新状态={}", id, status);
-        
-        // 验证状态值是否有效
+        log.debug("调用旧版updateFoundItemStatus方法，转发到新方法");
         if (!VALID_STATUSES.contains(status)) {
             throw new IllegalArgumentException("无效的状态值: " + status);
         }
-        
-        // 检查失物招领是否存在
-        Optional<FoundItem> existingItem = foundItemRepository.findById(id);
-        if (!existingItem.isPresent()) {
-            throw new ResourceNotFoundException("失物招领不存在: ID = " + id);
-        }
-        
-        // 检查是否是发布者
-        FoundItem item = existingItem.get();
-        if (!item.getUserId().equals(userId)) {
-            throw new IllegalArgumentException("无权修改此失物招领");
-        }
-        
-        // 更新状态
-        String updatedAt = LocalDateTime.now().toString();
-        foundItemRepository.updateStatus(id, status, updatedAt);
-        
-        // 返回更新后的物品
-        item.setStatus(status);
-        item.setUpdatedAt(LocalDateTime.now());
-        
-        return item;
+        FoundItem existing = requireOwnedItem(id, userId, "无权修改此失物招领");
+        return applyStatus(existing, status);
     }
 
     @Override
     @Transactional
     public void deleteFoundItem(Long id, Long userId) {
-        log.debug("删除失物招领: {}", id);
-        
-        // 检查失物招领是否存在
-        Optional<FoundItem> existingItem = foundItemRepository.findById(id);
-        if (!existingItem.isPresent()) {
-            throw new ResourceNotFoundException("失物招领不存在: ID = " + id);
+        log.debug("调用旧版deleteFoundItem方法，转发到新方法");
+        requireOwnedItem(id, userId, "无权删除此失物招领");
+        deleteItem(id, userId);
+    }
+
+    @Override
+    @Transactional
+    public FoundItem updateClaimStatus(Long id, String status) {
+        log.debug("认领流程更新失物招领状态, ID: {}, 状态: {}", id, status);
+        if (!VALID_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("无效的状态值: " + status);
         }
-        
-        // 检查是否是发布者
-        FoundItem item = existingItem.get();
-        if (!item.getUserId().equals(userId)) {
-            throw new IllegalArgumentException("无权删除此失物招领");
+        FoundItem existing = findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("失物招领不存在: ID = " + id));
+        return applyStatus(existing, status);
+    }
+
+    /**
+     * 从数据库读取失物招领并校验是否为发布者本人
+     * 旧版接口只允许发布者操作，管理员通过基类接口处理
+     *
+     * @throws ResourceNotFoundException 如果失物招领不存在
+     * @throws IllegalArgumentException 如果不是发布者
+     */
+    private FoundItem requireOwnedItem(Long id, Long userId, String message) {
+        FoundItem existing = findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("失物招领不存在: ID = " + id));
+        if (!existing.getUserId().equals(userId)) {
+            throw new IllegalArgumentException(message);
         }
-        
-        // 删除失物招领
-        foundItemRepository.deleteById(id);
+        return existing;
     }
 
     @Override
@@ -0,0 +1,107 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.dto.search.SearchPage;
+import com.community.lostandfound.entity.Announcement;
+import com.community.lostandfound.entity.FoundItem;
+import com.community.lostandfound.entity.LostItem;
+import com.community.lostandfound.entity.Post;
+import com.community.lostandfound.repository.AnnouncementRepository;
+import com.community.lostandfound.repository.FoundItemRepository;
+import com.community.lostandfound.repository.LostItemRepository;
+import com.community.lostandfound.repository.PostRepository;
+import com.community.lostandfound.repository.SearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 基于MySQL FULLTEXT索引（ngram分词）的搜索服务实现
+ * 使用布尔模式，每个搜索词作为短语必须出现，结果按相关度倒序。
+ * ngram索引无法匹配短于ngram_token_size的词（如单个汉字），此时退回LIKE查询。
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "search.engine", havingValue = "fulltext", matchIfMissing = true)
+public class FullTextSearchServiceImpl extends AbstractSearchService {
+    
+    private final SearchRepository searchRepository;
+    
+    // 需与MySQL服务端的ngram_token_size一致
+    @Value("${search.ngram-token-size:2}")
+    private int ngramTokenSize;
+    
+    public FullTextSearchServiceImpl(SearchRepository searchRepository,
+                                     LostItemRepository lostItemRepository,
+                                     FoundItemRepository foundItemRepository,
+                                     PostRepository postRepository,
+                                     AnnouncementRepository announcementRepository) {
+        super(lostItemRepository, foundItemRepository, postRepository, announcementRepository);
+        this.searchRepository = searchRepository;
+    }
+    
+    @Override
+    public SearchPage<LostItem> searchLostItems(String keyword, String category, String status, int offset, int limit) {
+        String query = toBooleanQuery(keyword);
+        if (query == null) {
+            return super.searchLostItems(keyword, category, status, offset, limit);
+        }
+        log.debug("全文搜索寻物启事: {}", query);
+        List<LostItem> items = searchRepository.searchLostItems(query, category, status, offset, limit);
+        long total = searchRepository.countLostItems(query, category, status);
+        return lostItemPage(keyword, items, total);
+    }
+    
+    @Override
+    public SearchPage<FoundItem> searchFoundItems(String keyword, String category, String status, int offset, int limit) {
+        String query = toBooleanQuery(keyword);
+        if (query == null) {
+            return super.searchFoundItems(keyword, category, status, offset, limit);
+        }
+        log.debug("全文搜索失物招领: {}", query);
+        List<FoundItem> items = searchRepository.searchFoundItems(query, category, status, offset, limit);
+        long total = searchRepository.countFoundItems(query, category, status);
+        return foundItemPage(keyword, items, total);
+    }
+    
+    @Override
+    public SearchPage<Post> searchPosts(String keyword, int offset, int limit) {
+        String query = toBooleanQuery(keyword);
+        if (query == null) {
+            return super.searchPosts(keyword, offset, limit);
+        }
+        log.debug("全文搜索帖子: {}", query);
+        List<Post> posts = searchRepository.searchPosts(query, offset, limit);
+        long total = searchRepository.countPosts(query);
+        return postPage(keyword, posts, total);
+    }
+    
+    @Override
+    public SearchPage<Announcement> searchPublishedAnnouncements(String keyword, int offset, int limit) {
+        String query = toBooleanQuery(keyword);
+        if (query == null) {
+            return super.searchPublishedAnnouncements(keyword, offset, limit);
+        }
+        log.debug("全文搜索公告: {}", query);
+        List<Announcement> announcements = searchRepository.searchPublishedAnnouncements(query, offset, limit);
+        long total = searchRepository.countPublishedAnnouncements(query);
+        return announcementPage(keyword, announcements, total);
+    }
+    
+    /**
+     * 将关键词转为布尔模式查询串，如 "黑色 钱包" -> +"黑色" +"钱包"
+     * @return 查询串；若存在索引无法匹配的短词则返回null，由调用方退回LIKE
+     */
+    private String toBooleanQuery(String keyword) {
+        List<String> terms = SearchHighlighter.terms(keyword);
+        if (terms.isEmpty() || terms.stream().anyMatch(term -> term.codePointCount(0, term.length()) < ngramTokenSize)) {
+            return null;
+        }
+        return terms.stream()
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+}
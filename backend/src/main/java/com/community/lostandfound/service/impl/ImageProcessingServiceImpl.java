@@ -0,0 +1,276 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.entity.ImageVariant;
+import com.community.lostandfound.repository.ImageVariantRepository;
+import com.community.lostandfound.service.FileStorageService;
+import com.community.lostandfound.service.ImageProcessingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 图片处理服务实现
+ * 使用JDK ImageIO缩放图片，生成JPEG缩略图(thumb)和中图(medium)；
+ * 若运行时存在WebP编码插件（ImageIO可找到webp写入器），同时生成WebP变体。
+ * 上传接口对外开放，解码前先从文件头读取尺寸，超过像素上限的图片不解码；
+ * 较大的图片按最大变体宽度隔行采样解码，避免整张原图占用内存
+ */
+@Slf4j
+@Service
+public class ImageProcessingServiceImpl implements ImageProcessingService {
+
+    public static final String THUMB = "thumb";
+    public static final String MEDIUM = "medium";
+
+    private static final String STORAGE_ROOT = "uploads/";
+    private static final Set<String> PROCESSABLE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "webp");
+
+    private final FileStorageService fileStorageService;
+    private final ImageVariantRepository imageVariantRepository;
+
+    @Value("${image.processing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${image.processing.thumbnail-width:320}")
+    private int thumbnailWidth;
+
+    @Value("${image.processing.medium-width:1024}")
+    private int mediumWidth;
+
+    @Value("${image.processing.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${image.processing.max-pixels:40000000}")
+    private long maxPixels;
+
+    public ImageProcessingServiceImpl(FileStorageService fileStorageService,
+                                      ImageVariantRepository imageVariantRepository) {
+        this.fileStorageService = fileStorageService;
+        this.imageVariantRepository = imageVariantRepository;
+    }
+
+    @Override
+    @Async("imageProcessingExecutor")
+    public void processImageAsync(String filePath) {
+        if (!enabled || filePath == null) {
+            return;
+        }
+        String extension = extension(filePath);
+        if (!PROCESSABLE_EXTENSIONS.contains(extension)) {
+            // GIF等格式缩放后会丢失动画，保留原图
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            DecodedImage decoded;
+            try (InputStream input = fileStorageService.loadFile(filePath)) {
+                decoded = decode(input, filePath);
+            }
+            if (decoded == null) {
+                return;
+            }
+            BufferedImage original = decoded.image;
+
+            Map<String, Integer> targets = new LinkedHashMap<>();
+            targets.put(THUMB, thumbnailWidth);
+            targets.put(MEDIUM, mediumWidth);
+            boolean webpSupported = ImageIO.getImageWritersByFormatName("webp").hasNext();
+
+            for (Map.Entry<String, Integer> target : targets.entrySet()) {
+                // 原图不大于目标宽度时不生成该变体，直接使用原图
+                if (decoded.sourceWidth <= target.getValue()) {
+                    continue;
+                }
+                BufferedImage resized = resize(original, target.getValue());
+                saveVariant(filePath, target.getKey(), resized, "jpeg");
+                if (webpSupported) {
+                    saveVariant(filePath, target.getKey() + "-webp", resized, "webp");
+                }
+            }
+            log.debug("图片变体生成完成: {}, 耗时{}ms", filePath, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("图片变体生成失败: {}", filePath, e);
+        }
+    }
+
+    @Override
+    public Map<String, String> getThumbnailUrls(Collection<String> imageUrls) {
+        Map<String, String> urlsByKey = new HashMap<>();
+        for (String url : imageUrls) {
+            if (url != null && !url.isEmpty()) {
+                urlsByKey.put(storageKey(url), url);
+            }
+        }
+        if (urlsByKey.isEmpty()) {
+            return Map.of();
+        }
+
+        return imageVariantRepository.findByOriginalPaths(urlsByKey.keySet(), THUMB).stream()
+                .collect(Collectors.toMap(
+                        variant -> urlsByKey.get(variant.getOriginalPath()),
+                        variant -> fileStorageService.getFileUrl(variant.getPath()),
+                        (a, b) -> a));
+    }
+
+    private void saveVariant(String filePath, String variant, BufferedImage image, String format) throws IOException {
+        byte[] bytes = encode(image, format);
+        String filename = baseName(filePath) + "_" + variant + ("webp".equals(format) ? ".webp" : ".jpg");
+        String variantPath;
+        try (InputStream input = new ByteArrayInputStream(bytes)) {
+            variantPath = fileStorageService.storeFile(input, filename, subdirectory(filePath) + "/variants");
+        }
+
+        imageVariantRepository.save(ImageVariant.builder()
+                .originalPath(storageKey(filePath))
+                .variant(variant)
+                .path(variantPath)
+                .format(format)
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .size((long) bytes.length)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 先读取图片头中的尺寸再解码：像素数超过上限时返回null；
+     * 宽度超过最大变体宽度的整数倍时按该倍数采样解码，解码结果宽度不小于最大变体宽度
+     */
+    private DecodedImage decode(InputStream input, String filePath) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+            Iterator<ImageReader> readers = imageInput == null ? null : ImageIO.getImageReaders(imageInput);
+            if (readers == null || !readers.hasNext()) {
+                log.warn("无法解码图片，跳过变体生成: {}", filePath);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("图片像素数超过上限({}x{} > {})，跳过变体生成: {}", width, height, maxPixels, filePath);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / Math.max(thumbnailWidth, mediumWidth));
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return new DecodedImage(reader.read(0, param), width);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 按宽度等比缩放，透明背景填充为白色以便输出JPEG
+     */
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, targetWidth, targetHeight);
+            g.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("没有可用的图片编码器: " + format);
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 将存储路径或访问URL统一为存储键（uploads/子目录/文件名），与getFileUrl的规范化规则一致
+     */
+    static String storageKey(String pathOrUrl) {
+        int index = pathOrUrl.indexOf(STORAGE_ROOT);
+        return index >= 0 ? pathOrUrl.substring(index) : pathOrUrl;
+    }
+
+    private static String subdirectory(String filePath) {
+        String key = storageKey(filePath);
+        String relative = key.startsWith(STORAGE_ROOT) ? key.substring(STORAGE_ROOT.length()) : key;
+        int slash = relative.lastIndexOf('/');
+        return slash > 0 ? relative.substring(0, slash) : "general";
+    }
+
+    private static String baseName(String filePath) {
+        String name = filePath.substring(filePath.lastIndexOf('/') + 1);
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private static String extension(String filePath) {
+        int dot = filePath.lastIndexOf('.');
+        return dot >= 0 ? filePath.substring(dot + 1).toLowerCase() : "";
+    }
+
+    /**
+     * 解码结果及原图宽度（采样解码时两者不同）
+     */
+    private static class DecodedImage {
+        private final BufferedImage image;
+        private final int sourceWidth;
+
+        private DecodedImage(BufferedImage image, int sourceWidth) {
+            this.image = image;
+            this.sourceWidth = sourceWidth;
+        }
+    }
+}
@@ -55,6 +55,7 @@ public class ItemCommentServiceImpl implements ItemCommentService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public ItemCommentPageDto getCommentsByItem(Long itemId, String itemType, int page, int size) {
         log.debug("查询物品评论列表, 物品ID: {}, 物品类型: {}, 页码: {}, 每页条数: {}", 
                 itemId, itemType, page, size);
@@ -0,0 +1,173 @@
+package com.community.lostandfound.service.impl;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 失物匹配的内存倒排索引（单侧：寻物启事或失物招领）
+ * 文本按中文二元组切分，召回时只访问与查询共享词项的文档；本类不做同步，由调用方加锁
+ */
+final class ItemMatchIndex {
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    /**
+     * 索引中的一个物品，只保留匹配所需的字段
+     */
+    static final class Doc {
+        final Long id;
+        // 发布者ID，用于推送匹配通知
+        final Long userId;
+        final String category;
+        final LocalDateTime date;
+        // 标题和描述的词项
+        final Set<String> textTokens;
+        // 地点的词项
+        final Set<String> locationTokens;
+
+        Doc(Long id, Long userId, String category, LocalDateTime date, Set<String> textTokens,
+            Set<String> locationTokens) {
+            this.id = id;
+            this.userId = userId;
+            this.category = category;
+            this.date = date;
+            this.textTokens = textTokens;
+            this.locationTokens = locationTokens;
+        }
+    }
+
+    void put(Doc doc) {
+        remove(doc.id);
+        docs.put(doc.id, doc);
+        addPostings(doc.id, doc.textTokens);
+        addPostings(doc.id, doc.locationTokens);
+    }
+
+    void remove(Long id) {
+        Doc old = docs.remove(id);
+        if (old == null) {
+            return;
+        }
+        removePostings(id, old.textTokens);
+        removePostings(id, old.locationTokens);
+    }
+
+    Doc get(Long id) {
+        return docs.get(id);
+    }
+
+    int size() {
+        return docs.size();
+    }
+
+    /**
+     * 按共享词项数统计候选文档
+     * 出现在超过maxPostingSize个文档中的词项区分度太低，不用于召回（仍参与打分）
+     *
+     * @param tokens 查询词项
+     * @param maxPostingSize 参与召回的词项最多对应的文档数
+     * @return 文档 -> 共享词项数
+     */
+    Map<Doc, Integer> candidates(Collection<String> tokens, int maxPostingSize) {
+        Map<Doc, Integer> hits = new HashMap<>();
+        for (String token : tokens) {
+            Set<Long> ids = postings.get(token);
+            if (ids == null || ids.size() > maxPostingSize) {
+                continue;
+            }
+            for (Long id : ids) {
+                hits.merge(docs.get(id), 1, Integer::sum);
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * 词项的逆文档频率，未出现过的词项最高
+     */
+    double idf(String token) {
+        Set<Long> ids = postings.get(token);
+        int df = ids == null ? 0 : ids.size();
+        return Math.log(1.0 + (docs.size() + 1.0) / (df + 1.0));
+    }
+
+    private void addPostings(Long id, Set<String> tokens) {
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removePostings(Long id, Set<String> tokens) {
+        for (String token : tokens) {
+            Set<Long> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * 切分词项：先做NFKC规范化（全角转半角）并转小写，
+     * 连续汉字切为相邻二元组（单个汉字保留为一元），连续字母数字作为一个词，长度不足2的丢弃
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder han = new StringBuilder();
+        StringBuilder word = new StringBuilder();
+        int i = 0;
+        while (i < normalized.length()) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.UnicodeScript.of(cp) == Character.UnicodeScript.HAN) {
+                flushWord(word, tokens);
+                han.appendCodePoint(cp);
+            } else if (Character.isLetterOrDigit(cp)) {
+                flushHan(han, tokens);
+                word.appendCodePoint(cp);
+            } else {
+                flushHan(han, tokens);
+                flushWord(word, tokens);
+            }
+        }
+        flushHan(han, tokens);
+        flushWord(word, tokens);
+        return tokens;
+    }
+
+    private static void flushHan(StringBuilder han, Set<String> tokens) {
+        if (han.length() == 0) {
+            return;
+        }
+        int[] cps = han.codePoints().toArray();
+        if (cps.length == 1) {
+            tokens.add(han.toString());
+        }
+        for (int i = 0; i + 1 < cps.length; i++) {
+            tokens.add(new String(cps, i, 2));
+        }
+        han.setLength(0);
+    }
+
+    private static void flushWord(StringBuilder word, Set<String> tokens) {
+        if (word.length() >= 2) {
+            tokens.add(word.toString());
+        }
+        word.setLength(0);
+    }
+}
@@ -0,0 +1,24 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.repository.AnnouncementRepository;
+import com.community.lostandfound.repository.FoundItemRepository;
+import com.community.lostandfound.repository.LostItemRepository;
+import com.community.lostandfound.repository.PostRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 基于LIKE的搜索服务实现
+ * 不依赖FULLTEXT索引，结果按时间倒序，适用于尚未创建全文索引的数据库
+ */
+@Service
+@ConditionalOnProperty(name = "search.engine", havingValue = "like")
+public class LikeSearchServiceImpl extends AbstractSearchService {
+    
+    public LikeSearchServiceImpl(LostItemRepository lostItemRepository,
+                                 FoundItemRepository foundItemRepository,
+                                 PostRepository postRepository,
+                                 AnnouncementRepository announcementRepository) {
+        super(lostItemRepository, foundItemRepository, postRepository, announcementRepository);
+    }
+}
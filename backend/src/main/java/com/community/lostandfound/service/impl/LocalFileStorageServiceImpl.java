@@ -3,16 +3,25 @@ package com.community.lostandfound.service.impl;
 import com.community.lostandfound.service.FileStorageService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
 
 /**
  * 本地文件存储服务实现
@@ -20,10 +29,11 @@ import java.nio.file.StandardCopyOption;
  */
 @Slf4j
 @Service
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
 public class LocalFileStorageServiceImpl implements FileStorageService {
 
     @Value("${file.upload.dir:uploads}")
-    private String uploadDir;
+    protected String uploadDir;
     
     @Value("${file.upload.base-url:#{null}}")
     private String baseUrl;
@@ -39,6 +49,23 @@ public class LocalFileStorageServiceImpl implements FileStorageService {
      */
     @Override
     public String storeFile(MultipartFile file, String filename, String subdirectory) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return storeFile(input, filename, subdirectory);
+        }
+    }
+
+    /**
+     * 将输入流保存到本地文件系统
+     * 文件以内容的SHA-256摘要命名，filename仅用于确定扩展名
+     * 
+     * @param input 文件内容
+     * @param filename 文件名
+     * @param subdirectory 子目录
+     * @return 保存后的文件路径
+     * @throws IOException 文件操作异常
+     */
+    @Override
+    public String storeFile(InputStream input, String filename, String subdirectory) throws IOException {
         // 如果子目录为null或空，则使用默认目录
         if (subdirectory == null || subdirectory.trim().isEmpty()) {
             subdirectory = "general";
@@ -59,16 +86,86 @@ public class LocalFileStorageServiceImpl implements FileStorageService {
             throw new IOException("文件名包含非法字符：" + safeFilename);
         }
         
-        // 文件完整路径
-        Path targetPath = dirPath.resolve(safeFilename);
-        
-        log.debug("保存文件到: {}", targetPath);
-        
-        // 将文件保存到目标路径
-        Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+        // 先写入同目录下的临时文件，边写边计算SHA-256
+        Path tempPath = Files.createTempFile(dirPath, ".upload-", ".tmp");
+        String storedFilename;
+        try {
+            String digest = copyWithDigest(input, tempPath);
+            
+            // 以内容摘要命名（保留原扩展名），相同内容得到相同URL，可被客户端和CDN永久缓存
+            storedFilename = storedFilename(digest, safeFilename);
+            Path targetPath = dirPath.resolve(storedFilename);
+            if (Files.exists(targetPath)) {
+                // 内容相同的文件已存在，直接复用
+                log.debug("文件内容已存在，复用: {}", targetPath);
+            } else {
+                moveIntoPlace(tempPath, targetPath);
+                log.debug("保存文件到: {}", targetPath);
+            }
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
         
-        // 返回相对路径 (例如: "uploads/avatars/filename.jpg")
-        return directory + "/" + safeFilename;
+        // 返回相对路径 (例如: "uploads/avatars/<sha256>.jpg")
+        return directory + "/" + storedFilename;
+    }
+
+    /**
+     * 将输入流写入目标文件，同时计算内容的SHA-256
+     * 
+     * @return 十六进制摘要
+     */
+    protected static String copyWithDigest(InputStream input, Path target) throws IOException {
+        MessageDigest messageDigest = newSha256();
+        try (DigestInputStream digestInput = new DigestInputStream(input, messageDigest)) {
+            Files.copy(digestInput, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    /**
+     * 内容寻址文件名：摘要 + 原文件扩展名
+     */
+    protected static String storedFilename(String digest, String filename) {
+        String extension = StringUtils.getFilenameExtension(filename);
+        return extension == null || extension.isEmpty()
+                ? digest
+                : digest + "." + extension.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 将临时文件原子地移动到目标位置；并发写入相同内容时保留已存在的文件
+     */
+    protected static void moveIntoPlace(Path tempPath, Path targetPath) throws IOException {
+        try {
+            Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (FileAlreadyExistsException e) {
+            // 并发上传了相同内容
+            log.debug("文件已由并发请求写入: {}", targetPath);
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * 打开本地文件的输入流
+     * 
+     * @param filePath 文件路径
+     * @return 文件输入流
+     * @throws IOException 文件不存在或读取失败
+     */
+    @Override
+    public InputStream loadFile(String filePath) throws IOException {
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        return Files.newInputStream(path);
     }
 
     /**
@@ -0,0 +1,82 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.service.RateLimiterService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 本地内存令牌桶限流实现，只对单个实例生效
+ * 桶的状态按键原子更新（ConcurrentHashMap.compute），不使用synchronized；
+ * 桶数量超过上限时先移除已恢复满的桶（与不存在等价），仍超限时清空
+ */
+@Service
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimiterServiceImpl implements RateLimiterService {
+
+    private final int maxSize;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public LocalRateLimiterServiceImpl(@Value("${rate-limit.local.max-size:100000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public long tryAcquire(String key, int capacity, Duration refillPeriod) {
+        long now = System.currentTimeMillis();
+        double rate = (double) capacity / Math.max(1, refillPeriod.toMillis());
+        // 只在新建桶时检查上限，已有的桶不会因其他键把数量撑满而被清空
+        if (buckets.size() >= maxSize && !buckets.containsKey(key)) {
+            evict(now);
+        }
+        long[] wait = new long[1];
+        buckets.compute(key, (k, bucket) -> {
+            Bucket current = bucket == null ? new Bucket(capacity, rate, now) : bucket.refill(now);
+            if (current.tokens >= 1) {
+                current.tokens -= 1;
+            } else {
+                wait[0] = (long) Math.ceil((1 - current.tokens) / current.rate);
+            }
+            return current;
+        });
+        return wait[0];
+    }
+
+    private void evict(long now) {
+        buckets.entrySet().removeIf(entry -> entry.getValue().refill(now).isFull());
+        if (buckets.size() >= maxSize) {
+            buckets.clear();
+        }
+    }
+
+    private static class Bucket {
+        private final int capacity;
+        private final double rate;
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(int capacity, double rate, long now) {
+            this.capacity = capacity;
+            this.rate = rate;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        private Bucket refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * rate);
+                refilledAt = now;
+            }
+            return this;
+        }
+
+        private boolean isFull() {
+            return tokens >= capacity;
+        }
+    }
+}
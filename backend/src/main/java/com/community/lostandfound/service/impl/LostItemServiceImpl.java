@@ -1,8 +1,16 @@
 package com.community.lostandfound.service.impl;
 
+import com.community.lostandfound.dto.search.SearchPage;
 import com.community.lostandfound.entity.LostItem;
 import com.community.lostandfound.exception.ResourceNotFoundException;
 import com.community.lostandfound.repository.LostItemRepository;
+import com.community.lostandfound.service.CountService;
+import com.community.lostandfound.service.FeedService;
+import com.community.lostandfound.service.FileReferenceService;
+import com.community.lostandfound.service.ImageProcessingService;
+import com.community.lostandfound.service.ItemCacheService;
+import com.community.lostandfound.service.MatchingService;
+import com.community.lostandfound.service.SearchService;
 import com.community.lostandfound.service.LostItemService;
 import com.community.lostandfound.service.UserService;
 import lombok.extern.slf4j.Slf4j;
@@ -25,14 +33,21 @@ import java.util.Set;
 public class LostItemServiceImpl extends BaseItemServiceImpl<LostItem> implements LostItemService {
 
     private final LostItemRepository lostItemRepository;
+    private final SearchService searchService;
     
     // 有效的状态值
     private static final Set<String> VALID_STATUSES = new HashSet<>(Arrays.asList("pending", "found", "closed"));
 
     @Autowired
-    public LostItemServiceImpl(LostItemRepository lostItemRepository, UserService userService) {
-        super(userService);
+    public LostItemServiceImpl(LostItemRepository lostItemRepository, UserService userService,
+                               ItemCacheService itemCacheService, SearchService searchService,
+                               ImageProcessingService imageProcessingService,
+                               FileReferenceService fileReferenceService, FeedService feedService,
+                               CountService countService, MatchingService matchingService) {
+        super(userService, itemCacheService, imageProcessingService, fileReferenceService, feedService, countService,
+                matchingService);
         this.lostItemRepository = lostItemRepository;
+        this.searchService = searchService;
     }
 
     @Override
@@ -56,6 +71,16 @@ public class LostItemServiceImpl extends BaseItemServiceImpl<LostItem> implement
     }
     
     // 实现BaseItemServiceImpl的抽象方法
+    @Override
+    protected String getCacheRegion() {
+        return "lost-items";
+    }
+
+    @Override
+    protected Class<LostItem> getItemClass() {
+        return LostItem.class;
+    }
+
     @Override
     protected Optional<LostItem> findById(Long id) {
         log.debug("根据ID查询寻物启事: {}", id);
@@ -79,34 +104,22 @@ public class LostItemServiceImpl extends BaseItemServiceImpl<LostItem> implement
     @Override
     protected boolean delete(Long id) {
         log.debug("删除寻物启事: {}", id);
-        try {
-            lostItemRepository.deleteById(id);
-            return true;
-        } catch (Exception e) {
-            log.error("删除寻物启事失败: {}", id, e);
-            return false;
-        }
+        // 删除失败时直接抛出异常回滚事务，不能当作删除成功
+        lostItemRepository.deleteById(id);
+        return true;
     }
 
     @Override
     protected List<LostItem> findByUserIdAndStatus(Long userId, String status, int offset, int limit) {
-        String keyword = null;
-        String category = null;
         log.debug("查询用户的寻物启事列表, 用户ID: {}, 状态: {}, 偏移量: {}, 每页条数: {}", 
                 userId, status, offset, limit);
-        
-        // 查询条件可以根据需要调整，这里简化处理
-        return lostItemRepository.findAll(category, status, keyword, offset, limit);
+        return lostItemRepository.findByUserIdAndStatus(userId, status, offset, limit);
     }
 
     @Override
     protected long countByUserIdAndStatus(Long userId, String status) {
-        String keyword = null;
-        String category = null;
         log.debug("统计用户的寻物启事数量, 用户ID: {}, 状态: {}", userId, status);
-        
-        // 查询条件可以根据需要调整，这里简化处理
-        return lostItemRepository.countAll(category, status, keyword);
+        return lostItemRepository.countByUserIdAndStatus(userId, status);
     }
 
     @Override
@@ -121,6 +134,21 @@ public class LostItemServiceImpl extends BaseItemServiceImpl<LostItem> implement
         log.debug("统计寻物启事数量, 分类: {}, 状态: {}, 关键词: {}", category, status, keyword);
         return lostItemRepository.countAll(category, status, keyword);
     }
+
+    @Override
+    protected SearchPage<LostItem> searchWithFilters(String category, String status, String keyword, int offset, int limit) {
+        log.debug("搜索寻物启事, 分类: {}, 状态: {}, 关键词: {}, 偏移量: {}, 每页条数: {}", 
+                category, status, keyword, offset, limit);
+        return searchService.searchLostItems(keyword, category, status, offset, limit);
+    }
+
+    @Override
+    protected List<LostItem> findAfterCursor(String category, String status,
+                                         LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        log.debug("游标查询寻物启事列表, 分类: {}, 状态: {}, 游标: {}/{}, 每页条数: {}", 
+                category, status, cursorCreatedAt, cursorId, limit);
+        return lostItemRepository.findAfterCursor(category, status, cursorCreatedAt, cursorId, limit);
+    }
     
     // 兼容旧代码的方法实现
     
@@ -0,0 +1,449 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.entity.BaseItem;
+import com.community.lostandfound.entity.FoundItem;
+import com.community.lostandfound.entity.ItemMatch;
+import com.community.lostandfound.entity.LostItem;
+import com.community.lostandfound.repository.ItemMatchRepository;
+import com.community.lostandfound.service.MatchingService;
+import com.community.lostandfound.service.NotificationService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 失物自动匹配服务实现
+ * 两侧索引只保存pending状态、时间在匹配窗口内的物品。候选先按分类和时间窗口剪枝，
+ * 得分 = 0.6 × IDF加权的文本相似度 + 0.25 × 地点重合度 + 0.15 × 时间接近度
+ */
+@Slf4j
+@Service
+public class MatchingServiceImpl implements MatchingService {
+
+    private static final double TEXT_WEIGHT = 0.6;
+    private static final double LOCATION_WEIGHT = 0.25;
+    private static final double TIME_WEIGHT = 0.15;
+
+    // 拾到时间允许早于丢失时间的容差（丢失时间通常是用户估计的）
+    private static final Duration EARLY_FOUND_TOLERANCE = Duration.ofDays(1);
+
+    private static final String PENDING = "pending";
+
+    private final ItemMatchRepository itemMatchRepository;
+    private final NotificationService notificationService;
+
+    @Value("${matching.enabled:true}")
+    private boolean enabled;
+
+    @Value("${matching.window:30d}")
+    private Duration window;
+
+    @Value("${matching.top-k:10}")
+    private int topK;
+
+    @Value("${matching.min-score:0.2}")
+    private double minScore;
+
+    @Value("${matching.max-candidates:500}")
+    private int maxCandidates;
+
+    @Value("${matching.max-posting-size:5000}")
+    private int maxPostingSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ItemMatchIndex lostIndex = new ItemMatchIndex();
+
+    private ItemMatchIndex foundIndex = new ItemMatchIndex();
+
+    // 重建期间的增量修改，换入新索引前重放，为null表示未在重建
+    private List<Consumer<ItemMatchIndex[]>> pendingReplay;
+
+    // 是否已完成过一次加载；首次加载时数据库中的匹配已由写入时计算，不重新打分
+    private boolean indexLoaded;
+
+    public MatchingServiceImpl(ItemMatchRepository itemMatchRepository, NotificationService notificationService,
+                               MeterRegistry meterRegistry) {
+        this.itemMatchRepository = itemMatchRepository;
+        this.notificationService = notificationService;
+        Gauge.builder("matching.index.size", this, service -> service.indexSize(LOST_ITEMS))
+                .description("失物匹配索引中的物品数")
+                .tag("side", LOST_ITEMS)
+                .register(meterRegistry);
+        Gauge.builder("matching.index.size", this, service -> service.indexSize(FOUND_ITEMS))
+                .description("失物匹配索引中的物品数")
+                .tag("side", FOUND_ITEMS)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void indexItem(String itemType, BaseItem item) {
+        if (!enabled || item == null || item.getId() == null) {
+            return;
+        }
+        boolean lost = isLost(itemType);
+        ItemMatchIndex.Doc doc = toDoc(item);
+        boolean open = PENDING.equals(item.getStatus());
+        afterCommit(() -> {
+            try {
+                if (!open) {
+                    mutate(lost, index -> index.remove(doc.id));
+                    return;
+                }
+                // 早于窗口的物品只与对侧已有物品匹配一次，不再进入索引
+                if (doc.date.isBefore(indexCutoff())) {
+                    mutate(lost, index -> index.remove(doc.id));
+                } else {
+                    mutate(lost, index -> index.put(doc));
+                }
+                persist(lost, item, findMatches(lost, doc));
+            } catch (Exception e) {
+                log.error("计算物品匹配失败, 类型: {}, ID: {}", itemType, doc.id, e);
+            }
+        });
+    }
+
+    @Override
+    public void removeItem(String itemType, Long itemId) {
+        boolean lost = isLost(itemType);
+        afterCommit(() -> {
+            try {
+                if (enabled) {
+                    mutate(lost, index -> index.remove(itemId));
+                }
+                if (lost) {
+                    itemMatchRepository.deleteByLostItemId(itemId);
+                } else {
+                    itemMatchRepository.deleteByFoundItemId(itemId);
+                }
+            } catch (Exception e) {
+                log.error("删除物品匹配失败, 类型: {}, ID: {}", itemType, itemId, e);
+            }
+        });
+    }
+
+    @Override
+    public List<ItemMatch> getMatchesForLostItem(Long lostItemId) {
+        return itemMatchRepository.findByLostItemId(lostItemId, topK);
+    }
+
+    @Override
+    public List<ItemMatch> getMatchesForFoundItem(Long foundItemId) {
+        return itemMatchRepository.findByFoundItemId(foundItemId, topK);
+    }
+
+    @Override
+    public int rebuildIndex() {
+        if (!enabled) {
+            return 0;
+        }
+        lock.writeLock().lock();
+        try {
+            pendingReplay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ItemMatchIndex[] rebuilt = {new ItemMatchIndex(), new ItemMatchIndex()};
+        List<LostItem> lostItems = List.of();
+        List<FoundItem> foundItems = List.of();
+        ItemMatchIndex previousLost = null;
+        ItemMatchIndex previousFound = null;
+        boolean loaded = false;
+        try {
+            LocalDateTime cutoff = indexCutoff();
+            lostItems = itemMatchRepository.findOpenLostItems(cutoff);
+            for (LostItem item : lostItems) {
+                rebuilt[0].put(toDoc(item));
+            }
+            foundItems = itemMatchRepository.findOpenFoundItems(cutoff);
+            for (FoundItem item : foundItems) {
+                rebuilt[1].put(toDoc(item));
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                // 加载失败时丢弃重建结果，但仍需结束重放记录
+                if (loaded) {
+                    pendingReplay.forEach(mutation -> mutation.accept(rebuilt));
+                    if (indexLoaded) {
+                        previousLost = lostIndex;
+                        previousFound = foundIndex;
+                    }
+                    lostIndex = rebuilt[0];
+                    foundIndex = rebuilt[1];
+                    indexLoaded = true;
+                }
+                pendingReplay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 本实例索引中原先没有（其他实例写入）或内容有变化的物品，在新索引中重新打分
+        int rescored = 0;
+        if (previousLost != null) {
+            rescored += rescoreChanged(true, lostItems, previousLost);
+            rescored += rescoreChanged(false, foundItems, previousFound);
+        }
+
+        int removed = itemMatchRepository.deleteDangling();
+        int size = indexSize(LOST_ITEMS) + indexSize(FOUND_ITEMS);
+        log.info("失物匹配索引重建完成，寻物启事 {} 条，失物招领 {} 条，重新匹配 {} 条，清理无效匹配 {} 条",
+                indexSize(LOST_ITEMS), indexSize(FOUND_ITEMS), rescored, removed);
+        return size;
+    }
+
+    /**
+     * 对重建前索引中不存在或匹配字段有变化的物品重新计算匹配
+     *
+     * @return 重新计算的物品数
+     */
+    private int rescoreChanged(boolean lost, List<? extends BaseItem> items, ItemMatchIndex previous) {
+        int rescored = 0;
+        for (BaseItem item : items) {
+            ItemMatchIndex.Doc doc = toDoc(item);
+            if (sameContent(previous.get(doc.id), doc)) {
+                continue;
+            }
+            try {
+                persist(lost, item, findMatches(lost, doc));
+                rescored++;
+            } catch (Exception e) {
+                log.error("重建时计算物品匹配失败, 类型: {}, ID: {}", lost ? LOST_ITEMS : FOUND_ITEMS, doc.id, e);
+            }
+        }
+        return rescored;
+    }
+
+    private static boolean sameContent(ItemMatchIndex.Doc a, ItemMatchIndex.Doc b) {
+        return a != null && b != null
+                && Objects.equals(a.category, b.category)
+                && Objects.equals(a.date, b.date)
+                && a.textTokens.equals(b.textTokens)
+                && a.locationTokens.equals(b.locationTokens);
+    }
+
+    /**
+     * 在对侧索引中召回并打分，返回得分最高的topK条
+     */
+    private List<ItemMatch> findMatches(boolean lost, ItemMatchIndex.Doc query) {
+        Set<String> tokens = new HashSet<>(query.textTokens);
+        tokens.addAll(query.locationTokens);
+        List<ItemMatch> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            ItemMatchIndex counterpart = lost ? foundIndex : lostIndex;
+            List<Map.Entry<ItemMatchIndex.Doc, Integer>> candidates = new ArrayList<>();
+            for (Map.Entry<ItemMatchIndex.Doc, Integer> entry : counterpart.candidates(tokens, maxPostingSize).entrySet()) {
+                ItemMatchIndex.Doc candidate = entry.getKey();
+                if (sameCategory(query, candidate) && withinWindow(lost ? query : candidate, lost ? candidate : query)) {
+                    candidates.add(entry);
+                }
+            }
+            // 候选过多时只对共享词项最多的部分打分
+            if (candidates.size() > maxCandidates) {
+                candidates.sort(Map.Entry.<ItemMatchIndex.Doc, Integer>comparingByValue().reversed());
+                candidates = candidates.subList(0, maxCandidates);
+            }
+
+            for (Map.Entry<ItemMatchIndex.Doc, Integer> entry : candidates) {
+                ItemMatchIndex.Doc candidate = entry.getKey();
+                double score = score(query, candidate, counterpart);
+                if (score >= minScore) {
+                    matches.add(ItemMatch.builder()
+                            .lostItemId(lost ? query.id : candidate.id)
+                            .foundItemId(lost ? candidate.id : query.id)
+                            .score(Math.round(score * 10000) / 10000.0)
+                            .build());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparing(ItemMatch::getScore).reversed());
+        return matches.size() > topK ? new ArrayList<>(matches.subList(0, topK)) : matches;
+    }
+
+    /**
+     * 写入匹配：本侧的匹配以本次计算结果为准；寻物启事一侧最多保留topK条，
+     * 新的失物招领挤进某条寻物启事的匹配后裁掉其得分最低的部分，并通知寻物启事的发布者
+     */
+    private void persist(boolean lost, BaseItem item, List<ItemMatch> matches) {
+        Long itemId = item.getId();
+        Set<Long> notified = new HashSet<>();
+        if (lost) {
+            itemMatchRepository.deleteByLostItemId(itemId);
+        } else {
+            // 修改失物招领时重新计算的匹配，已通知过的寻物启事不再重复通知
+            for (ItemMatch existing : itemMatchRepository.findByFoundItemId(itemId, topK)) {
+                notified.add(existing.getLostItemId());
+            }
+            itemMatchRepository.deleteByFoundItemId(itemId);
+        }
+        if (matches.isEmpty()) {
+            return;
+        }
+        itemMatchRepository.upsertBatch(matches);
+        if (!lost) {
+            for (ItemMatch match : matches) {
+                itemMatchRepository.pruneLostItem(match.getLostItemId(), topK);
+                if (!notified.contains(match.getLostItemId())) {
+                    notifyLostItemOwner(match, item.getTitle());
+                }
+            }
+        }
+        log.debug("物品匹配完成, 类型: {}, ID: {}, 匹配 {} 条", lost ? LOST_ITEMS : FOUND_ITEMS, itemId, matches.size());
+    }
+
+    private void notifyLostItemOwner(ItemMatch match, String foundItemTitle) {
+        Long ownerId;
+        lock.readLock().lock();
+        try {
+            ItemMatchIndex.Doc lostDoc = lostIndex.get(match.getLostItemId());
+            ownerId = lostDoc == null ? null : lostDoc.userId;
+        } finally {
+            lock.readLock().unlock();
+        }
+        notificationService.notifyUser(ownerId, NotificationService.MATCH_FOUND,
+                "寻物启事有新的匹配", "新发布的失物招领「" + foundItemTitle + "」可能是您丢失的物品",
+                Map.of("lostItemId", match.getLostItemId(), "foundItemId", match.getFoundItemId(),
+                        "score", match.getScore()));
+    }
+
+    private double score(ItemMatchIndex.Doc query, ItemMatchIndex.Doc candidate, ItemMatchIndex counterpart) {
+        // 文本：IDF加权的Dice系数，词频按对侧索引统计
+        double shared = 0;
+        double queryWeight = 0;
+        for (String token : query.textTokens) {
+            double idf = counterpart.idf(token);
+            queryWeight += idf;
+            if (candidate.textTokens.contains(token)) {
+                shared += idf;
+            }
+        }
+        double candidateWeight = 0;
+        for (String token : candidate.textTokens) {
+            candidateWeight += counterpart.idf(token);
+        }
+        double text = queryWeight + candidateWeight == 0 ? 0 : 2 * shared / (queryWeight + candidateWeight);
+
+        // 地点：重合词项占较短一方的比例
+        double location = 0;
+        if (!query.locationTokens.isEmpty() && !candidate.locationTokens.isEmpty()) {
+            long common = query.locationTokens.stream().filter(candidate.locationTokens::contains).count();
+            location = (double) common / Math.min(query.locationTokens.size(), candidate.locationTokens.size());
+        }
+
+        // 时间：相隔越久得分越低，到窗口边界为0
+        double days = Math.abs(Duration.between(query.date, candidate.date).toMinutes()) / (24.0 * 60);
+        double time = Math.max(0, 1 - days / Math.max(1, window.toDays()));
+
+        return TEXT_WEIGHT * text + LOCATION_WEIGHT * location + TIME_WEIGHT * time;
+    }
+
+    private static boolean sameCategory(ItemMatchIndex.Doc a, ItemMatchIndex.Doc b) {
+        if (a.category == null || a.category.isBlank() || b.category == null || b.category.isBlank()) {
+            return true;
+        }
+        return Objects.equals(a.category, b.category);
+    }
+
+    /**
+     * 拾到时间应在丢失时间之后的窗口内，允许少量提前
+     */
+    private boolean withinWindow(ItemMatchIndex.Doc lostDoc, ItemMatchIndex.Doc foundDoc) {
+        return !foundDoc.date.isBefore(lostDoc.date.minus(EARLY_FOUND_TOLERANCE))
+                && !foundDoc.date.isAfter(lostDoc.date.plus(window));
+    }
+
+    private LocalDateTime indexCutoff() {
+        return LocalDateTime.now().minus(window).minus(EARLY_FOUND_TOLERANCE);
+    }
+
+    private void mutate(boolean lost, Consumer<ItemMatchIndex> mutation) {
+        lock.writeLock().lock();
+        try {
+            mutation.accept(lost ? lostIndex : foundIndex);
+            if (pendingReplay != null) {
+                pendingReplay.add(indexes -> mutation.accept(lost ? indexes[0] : indexes[1]));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int indexSize(String itemType) {
+        lock.readLock().lock();
+        try {
+            return isLost(itemType) ? lostIndex.size() : foundIndex.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean isLost(String itemType) {
+        if (LOST_ITEMS.equals(itemType)) {
+            return true;
+        }
+        if (FOUND_ITEMS.equals(itemType)) {
+            return false;
+        }
+        throw new IllegalArgumentException("未知的物品类型: " + itemType);
+    }
+
+    private static ItemMatchIndex.Doc toDoc(BaseItem item) {
+        LocalDateTime date;
+        String location;
+        if (item instanceof LostItem lostItem) {
+            date = lostItem.getLostDate();
+            location = lostItem.getLostLocation();
+        } else if (item instanceof FoundItem foundItem) {
+            date = foundItem.getFoundDate();
+            location = foundItem.getFoundLocation();
+        } else {
+            throw new IllegalArgumentException("不支持的物品类型: " + item.getClass().getName());
+        }
+        if (date == null) {
+            date = item.getCreatedAt() != null ? item.getCreatedAt() : LocalDateTime.now();
+        }
+        String text = Objects.toString(item.getTitle(), "") + " " + Objects.toString(item.getDescription(), "");
+        return new ItemMatchIndex.Doc(item.getId(), item.getUserId(), item.getCategory(), date,
+                ItemMatchIndex.tokenize(text), ItemMatchIndex.tokenize(location));
+    }
+
+    /**
+     * 若当前处于事务中，则在事务提交后执行，避免回滚的物品进入索引
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
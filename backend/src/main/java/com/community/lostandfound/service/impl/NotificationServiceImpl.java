@@ -0,0 +1,191 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.dto.notification.NotificationEvent;
+import com.community.lostandfound.dto.notification.NotificationMessage;
+import com.community.lostandfound.service.NotificationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 推送通知服务实现
+ * 业务代码发布的通知先进入Spring本地事件总线，事务提交后：单实例直接推送给本实例的连接；
+ * 开启 notification.redis-enabled 时发布到Redis频道，由各实例（包括自己）的订阅者推送给各自的连接。
+ * SSE连接只登记在内存中，发送在专用线程池中执行，慢客户端不会阻塞业务线程
+ */
+@Slf4j
+@Service
+public class NotificationServiceImpl implements NotificationService {
+
+    // 每个心跳任务负责的用户数
+    private static final int HEARTBEAT_BATCH_SIZE = 200;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor notificationExecutor;
+
+    @Value("${notification.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${notification.sse.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${notification.sse.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${notification.sse.reconnect-time:5s}")
+    private Duration reconnectTime;
+
+    private final Map<Long, List<SseEmitter>> connections = new ConcurrentHashMap<>();
+
+    public NotificationServiceImpl(ApplicationEventPublisher eventPublisher, StringRedisTemplate redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Qualifier("notificationExecutor") TaskExecutor notificationExecutor,
+                                   MeterRegistry meterRegistry) {
+        this.eventPublisher = eventPublisher;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.notificationExecutor = notificationExecutor;
+        Gauge.builder("notification.sse.connections", connections,
+                        map -> map.values().stream().mapToInt(List::size).sum())
+                .description("本实例当前的SSE连接数")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> unregister(userId, emitter));
+        emitter.onTimeout(() -> unregister(userId, emitter));
+        emitter.onError(e -> unregister(userId, emitter));
+
+        // 同一用户多开页面时只保留最新的若干条连接
+        List<SseEmitter> evicted = new ArrayList<>();
+        List<SseEmitter> emitters = connections.compute(userId, (key, list) -> {
+            List<SseEmitter> current = list == null ? new CopyOnWriteArrayList<>() : list;
+            current.add(emitter);
+            while (current.size() > maxConnectionsPerUser) {
+                evicted.add(current.remove(0));
+            }
+            return current;
+        });
+        evicted.forEach(SseEmitter::complete);
+
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("connected")
+                    .reconnectTime(reconnectTime.toMillis())
+                    .data("ok"));
+        } catch (IOException e) {
+            unregister(userId, emitter);
+            emitter.completeWithError(e);
+        }
+        log.debug("用户建立通知连接, 用户ID: {}, 连接数: {}", userId, emitters.size());
+        return emitter;
+    }
+
+    @Override
+    public void notifyUser(Long userId, String type, String title, String content, Map<String, Object> data) {
+        if (userId == null) {
+            return;
+        }
+        NotificationMessage message = NotificationMessage.builder()
+                .type(type)
+                .title(title)
+                .content(content)
+                .data(data)
+                .createdAt(LocalDateTime.now())
+                .build();
+        eventPublisher.publishEvent(new NotificationEvent(userId, message));
+    }
+
+    /**
+     * 本地事件总线的监听者，事务提交后执行；不在事务中发布时立即执行
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotification(NotificationEvent event) {
+        if (redisEnabled) {
+            try {
+                redisTemplate.convertAndSend(REDIS_CHANNEL, objectMapper.writeValueAsString(event));
+                return;
+            } catch (Exception e) {
+                log.warn("通知发布到Redis失败，仅推送本实例的连接: {}", e.getMessage());
+            }
+        }
+        deliver(event);
+    }
+
+    @Override
+    public void deliver(NotificationEvent event) {
+        List<SseEmitter> emitters = connections.get(event.getUserId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        NotificationMessage message = event.getMessage();
+        notificationExecutor.execute(() -> {
+            for (SseEmitter emitter : emitters) {
+                send(event.getUserId(), emitter, SseEmitter.event()
+                        .name(message.getType())
+                        .data(message, MediaType.APPLICATION_JSON));
+            }
+        });
+    }
+
+    /**
+     * 定期发送注释行作为心跳，防止代理因空闲断开连接，并及时清理客户端已断开的连接
+     * 写出交给推送线程池按用户分批执行，慢客户端不会占住调度线程，批次数也不会占满推送队列
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval:25000}")
+    public void heartbeat() {
+        List<Map.Entry<Long, List<SseEmitter>>> entries = new ArrayList<>(connections.entrySet());
+        for (int from = 0; from < entries.size(); from += HEARTBEAT_BATCH_SIZE) {
+            List<Map.Entry<Long, List<SseEmitter>>> batch =
+                    entries.subList(from, Math.min(from + HEARTBEAT_BATCH_SIZE, entries.size()));
+            notificationExecutor.execute(() -> {
+                for (Map.Entry<Long, List<SseEmitter>> entry : batch) {
+                    for (SseEmitter emitter : entry.getValue()) {
+                        send(entry.getKey(), emitter, SseEmitter.event().comment("ping"));
+                    }
+                }
+            });
+        }
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 客户端已断开或连接已结束
+            unregister(userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unregister(Long userId, SseEmitter emitter) {
+        connections.computeIfPresent(userId, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -6,6 +6,7 @@ import com.community.lostandfound.dto.comment.CreatePostCommentRequest;
 import com.community.lostandfound.entity.PostComment;
 import com.community.lostandfound.exception.ResourceNotFoundException;
 import com.community.lostandfound.repository.PostCommentRepository;
+import com.community.lostandfound.repository.PostRepository;
 import com.community.lostandfound.service.PostCommentService;
 import com.community.lostandfound.service.PostService;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ import java.util.stream.Collectors;
 public class PostCommentServiceImpl implements PostCommentService {
     
     private final PostCommentRepository postCommentRepository;
+    private final PostRepository postRepository;
     private final PostService postService;
     
     @Override
@@ -46,6 +48,7 @@ public class PostCommentServiceImpl implements PostCommentService {
         comment.setUpdatedAt(LocalDateTime.now());
         
         postCommentRepository.save(comment);
+        postRepository.incrementCommentCount(request.getPostId(), 1);
         log.info("帖子评论创建成功: {}", comment.getId());
         
         return convertToDto(comment);
@@ -130,6 +133,7 @@ public class PostCommentServiceImpl implements PostCommentService {
         
         // 删除评论
         postCommentRepository.deleteById(id);
+        postRepository.incrementCommentCount(comment.getPostId(), -1);
         log.info("帖子评论删除成功: {}", id);
         
         return true;
@@ -1,9 +1,11 @@
 package com.community.lostandfound.service.impl;
 
+import com.community.lostandfound.dto.common.CountMode;
 import com.community.lostandfound.dto.common.PagedResponse;
 import com.community.lostandfound.dto.post.CreatePostRequest;
 import com.community.lostandfound.dto.post.PostResponse;
 import com.community.lostandfound.dto.post.UpdatePostRequest;
+import com.community.lostandfound.dto.search.SearchPage;
 import com.community.lostandfound.entity.Post;
 import com.community.lostandfound.entity.User;
 import com.community.lostandfound.exception.ResourceNotFoundException;
@@ -11,8 +13,12 @@ import com.community.lostandfound.exception.UnauthorizedException;
 import com.community.lostandfound.repository.PostCommentRepository;
 import com.community.lostandfound.repository.PostRepository;
 import com.community.lostandfound.repository.UserRepository;
+import com.community.lostandfound.service.CountService;
+import com.community.lostandfound.service.FeedService;
 import com.community.lostandfound.service.PostService;
+import com.community.lostandfound.service.SearchService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +29,7 @@ import java.util.stream.Collectors;
 /**
  * 论坛帖子服务实现
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
@@ -30,6 +37,9 @@ public class PostServiceImpl implements PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostCommentRepository postCommentRepository;
+    private final SearchService searchService;
+    private final FeedService feedService;
+    private final CountService countService;
 
     @Override
     @Transactional
@@ -47,8 +57,10 @@ public class PostServiceImpl implements PostService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
+        post.setCommentCount(0);
         postRepository.save(post);
-        return convertToPostResponse(post, 0);
+        feedService.publishPost(post);
+        return convertToPostResponse(post);
     }
 
     @Override
@@ -66,8 +78,8 @@ public class PostServiceImpl implements PostService {
         post.setUpdatedAt(LocalDateTime.now());
 
         postRepository.update(post);
-        int commentCount = postCommentRepository.countByPostId(postId);
-        return convertToPostResponse(post, commentCount);
+        feedService.publishPost(post);
+        return convertToPostResponse(post);
     }
 
     @Override
@@ -84,6 +96,7 @@ public class PostServiceImpl implements PostService {
         postCommentRepository.deleteByPostId(postId);
         // 删除帖子
         postRepository.deleteById(postId);
+        feedService.remove(FeedService.POSTS, postId);
     }
 
     @Override
@@ -91,55 +104,72 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("帖子不存在"));
 
-        int commentCount = postCommentRepository.countByPostId(postId);
-        return convertToPostResponse(post, commentCount);
+        return convertToPostResponse(post);
     }
 
     @Override
-    public PagedResponse<PostResponse> getAllPosts(int page, int size) {
+    @Transactional
+    public int reconcileCommentCounts() {
+        int repaired = postRepository.reconcileCommentCounts();
+        if (repaired > 0) {
+            log.warn("帖子评论数与实际不一致，已修复 {} 条帖子", repaired);
+        }
+        return repaired;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<PostResponse> getAllPosts(int page, int size, CountMode countMode) {
         int offset = page * size;
-        List<Post> posts = postRepository.findAllByOrderByCreatedAtDesc(offset, size);
-        int total = postRepository.countAll();
+        List<Post> posts = postRepository.findAllByOrderByCreatedAtDesc(offset, countMode.fetchSize(size));
+        boolean hasMore = posts.size() > size;
+        if (hasMore) {
+            posts = posts.subList(0, size);
+        }
+        Long total = countService.count(countMode, "posts", "all", postRepository::countAll);
+        if (total != null) {
+            hasMore = offset + posts.size() < total;
+        }
         
-        return createPagedResponse(posts, page, size, total);
+        return createPagedResponse(posts, page, size, total, hasMore);
     }
 
     @Override
     public PagedResponse<PostResponse> getUserPosts(Long userId, int page, int size) {
         int offset = page * size;
         List<Post> posts = postRepository.findByUserId(userId, offset, size);
-        int total = postRepository.countByUserId(userId);
+        long total = postRepository.countByUserId(userId);
         
-        return createPagedResponse(posts, page, size, total);
+        return createPagedResponse(posts, page, size, total, offset + posts.size() < total);
     }
 
     @Override
     public PagedResponse<PostResponse> searchPosts(String keyword, int page, int size) {
         int offset = page * size;
-        List<Post> posts = postRepository.findByTitleContainingOrContentContainingOrderByCreatedAtDesc(
-                keyword, offset, size);
-        int total = postRepository.countByKeyword(keyword);
+        SearchPage<Post> searchPage = searchService.searchPosts(keyword, offset, size);
         
-        return createPagedResponse(posts, page, size, total);
+        PagedResponse<PostResponse> response = createPagedResponse(searchPage.getItems(), page, size,
+                searchPage.getTotal(), offset + searchPage.getItems().size() < searchPage.getTotal());
+        response.getItems().forEach(post -> post.setHighlight(searchPage.getHighlights().get(post.getId())));
+        return response;
     }
 
-    private PagedResponse<PostResponse> createPagedResponse(List<Post> posts, int page, int size, long total) {
+    private PagedResponse<PostResponse> createPagedResponse(List<Post> posts, int page, int size, Long total,
+                                                            boolean hasMore) {
         List<PostResponse> postResponses = posts.stream()
-                .map(post -> {
-                    int commentCount = postCommentRepository.countByPostId(post.getId());
-                    return convertToPostResponse(post, commentCount);
-                })
+                .map(this::convertToPostResponse)
                 .collect(Collectors.toList());
 
         return PagedResponse.of(
                 postResponses,
                 page,
                 size,
-                total
+                total,
+                hasMore
         );
     }
 
-    private PostResponse convertToPostResponse(Post post, int commentCount) {
+    private PostResponse convertToPostResponse(Post post) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
@@ -149,7 +179,7 @@ public class PostServiceImpl implements PostService {
                 .userAvatar(post.getUserAvatar())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
-                .commentCount(commentCount)
+                .commentCount(post.getCommentCount() != null ? post.getCommentCount() : 0)
                 .build();
     }
 } 
\ No newline at end of file
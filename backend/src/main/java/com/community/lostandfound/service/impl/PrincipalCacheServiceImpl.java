@@ -0,0 +1,255 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.security.UserDetailsImpl;
+import com.community.lostandfound.service.PrincipalCacheService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 两级认证主体缓存实现
+ * 一级为本地内存缓存，TTL较短，多实例部署时其他实例的本地缓存最多在该时间内过期；
+ * 二级为可选的Redis缓存，由各实例共享，失效时直接删除。缓存内容不包含密码哈希。
+ * 本地缓存按LRU淘汰最久未访问的条目；锁定状态连同锁定结束时间一起缓存，每次读取时按当前时间判断。
+ */
+@Slf4j
+@Service
+public class PrincipalCacheServiceImpl implements PrincipalCacheService {
+
+    private static final String KEY_PREFIX = "laf:auth:principal:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${security.principal-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.principal-cache.local-ttl:30s}")
+    private Duration localTtl;
+
+    @Value("${security.principal-cache.local-max-size:10000}")
+    private int localMaxSize;
+
+    @Value("${security.principal-cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${security.principal-cache.redis-ttl:10m}")
+    private Duration redisTtl;
+
+    @Value("${security.principal-cache.failure-backoff:30s}")
+    private Duration failureBackoff;
+
+    // Redis故障后暂停访问的截止时间（毫秒时间戳）
+    private volatile long redisSuspendedUntil = 0L;
+
+    // 本地LRU缓存，超过local-max-size时淘汰最久未访问的条目
+    private Map<String, LocalEntry> localCache;
+
+    // 使用ReentrantLock而不是synchronized：虚拟线程在等待监视器时会占住载体线程
+    private final ReentrantLock localCacheLock = new ReentrantLock();
+
+    public PrincipalCacheServiceImpl(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void init() {
+        localCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > localMaxSize;
+            }
+        };
+    }
+
+    @Override
+    public UserDetailsImpl get(String username, Supplier<UserDetailsImpl> loader) {
+        if (!enabled || username == null) {
+            return loader.get();
+        }
+
+        LocalEntry entry = getLocal(username);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            return entry.principal.toUserDetails();
+        }
+
+        CachedPrincipal principal = readRedis(username);
+        if (principal == null) {
+            principal = CachedPrincipal.of(loader.get());
+            writeRedis(username, principal);
+        }
+        putLocal(username, principal);
+        return principal.toUserDetails();
+    }
+
+    @Override
+    public void evict(String... usernames) {
+        if (!enabled) {
+            return;
+        }
+        // 立即清除本地缓存，并在事务提交后再清除一次，防止提交前的并发请求把旧数据写回
+        evictNow(usernames);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(usernames);
+                }
+            });
+        }
+    }
+
+    private void evictNow(String... usernames) {
+        for (String username : usernames) {
+            if (username == null) {
+                continue;
+            }
+            removeLocal(username);
+            if (isRedisAvailable()) {
+                try {
+                    redisTemplate.delete(KEY_PREFIX + username);
+                } catch (RuntimeException e) {
+                    onRedisFailure("清除认证主体缓存", e);
+                }
+            }
+            log.debug("已失效认证主体缓存: {}", username);
+        }
+    }
+
+    private LocalEntry getLocal(String username) {
+        localCacheLock.lock();
+        try {
+            return localCache.get(username);
+        } finally {
+            localCacheLock.unlock();
+        }
+    }
+
+    private void putLocal(String username, CachedPrincipal principal) {
+        LocalEntry entry = new LocalEntry(principal, System.currentTimeMillis() + localTtl.toMillis());
+        localCacheLock.lock();
+        try {
+            localCache.put(username, entry);
+        } finally {
+            localCacheLock.unlock();
+        }
+    }
+
+    private void removeLocal(String username) {
+        localCacheLock.lock();
+        try {
+            localCache.remove(username);
+        } finally {
+            localCacheLock.unlock();
+        }
+    }
+
+    private CachedPrincipal readRedis(String username) {
+        if (!isRedisAvailable()) {
+            return null;
+        }
+        try {
+            String cached = redisTemplate.opsForValue().get(KEY_PREFIX + username);
+            return cached == null ? null : objectMapper.readValue(cached, CachedPrincipal.class);
+        } catch (JsonProcessingException e) {
+            log.warn("认证主体缓存反序列化失败，重新加载: {}", username, e);
+            return null;
+        } catch (RuntimeException e) {
+            onRedisFailure("读取认证主体缓存", e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String username, CachedPrincipal principal) {
+        if (!isRedisAvailable()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + username, objectMapper.writeValueAsString(principal), redisTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("认证主体缓存序列化失败: {}", username, e);
+        } catch (RuntimeException e) {
+            onRedisFailure("写入认证主体缓存", e);
+        }
+    }
+
+    private boolean isRedisAvailable() {
+        return redisEnabled && System.currentTimeMillis() >= redisSuspendedUntil;
+    }
+
+    private void onRedisFailure(String action, RuntimeException e) {
+        redisSuspendedUntil = System.currentTimeMillis() + failureBackoff.toMillis();
+        log.warn("{}失败，{}秒内只使用本地缓存: {}", action, failureBackoff.toSeconds(), e.getMessage());
+    }
+
+    private static class LocalEntry {
+        private final CachedPrincipal principal;
+        private final long expiresAt;
+
+        private LocalEntry(CachedPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 缓存中保存的主体信息，只包含认证需要的字段
+     * locked为加载时的锁定状态，lockEndTime为锁定结束时间（永久锁定时为null），锁定到期后无需等待缓存过期
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CachedPrincipal {
+        private Long id;
+        private String username;
+        private String email;
+        private String role;
+        private boolean locked;
+        private LocalDateTime lockEndTime;
+
+        static CachedPrincipal of(UserDetailsImpl userDetails) {
+            boolean locked = !userDetails.isAccountNonLocked();
+            return new CachedPrincipal(userDetails.getId(), userDetails.getUsername(), userDetails.getEmail(),
+                    userDetails.getRole(), locked, locked ? userDetails.getLockEndTime() : null);
+        }
+
+        /**
+         * 按给定时间判断是否仍处于锁定状态
+         */
+        boolean lockedAt(LocalDateTime now) {
+            return locked && (lockEndTime == null || lockEndTime.isAfter(now));
+        }
+
+        UserDetailsImpl toUserDetails() {
+            boolean lockedNow = lockedAt(LocalDateTime.now());
+            return UserDetailsImpl.builder()
+                    .id(id)
+                    .username(username)
+                    .email(email)
+                    .role(role)
+                    .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase())))
+                    .locked(lockedNow)
+                    .lockEndTime(lockedNow ? lockEndTime : null)
+                    .build();
+        }
+    }
+}
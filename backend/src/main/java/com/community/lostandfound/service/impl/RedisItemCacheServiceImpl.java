@@ -0,0 +1,242 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.config.ReplicaRoutingDataSource;
+import com.community.lostandfound.service.ItemCacheService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 基于Redis的物品缓存服务实现
+ * 详情按 laf:item:{region}:{id} 缓存；列表键中带有区域版本号，写操作只需递增版本号即可让旧列表全部失效，
+ * 旧键由TTL自然过期。Redis不可用时自动降级为直接查询数据库，并在一段时间内跳过Redis访问。
+ * 启用从库时，列表缓存未命中后在主库上加载再写入缓存；不写缓存的降级查询仍按正常路由读从库。
+ */
+@Slf4j
+@Service
+public class RedisItemCacheServiceImpl implements ItemCacheService {
+
+    private static final String KEY_PREFIX = "laf:item:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${cache.item.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.item.detail-ttl:10m}")
+    private Duration detailTtl;
+
+    @Value("${cache.item.list-ttl:60s}")
+    private Duration listTtl;
+
+    @Value("${cache.item.failure-backoff:30s}")
+    private Duration failureBackoff;
+
+    // Redis故障后暂停访问的截止时间（毫秒时间戳）
+    private volatile long suspendedUntil = 0L;
+
+    private final Map<String, CacheCounter> counters = new ConcurrentHashMap<>();
+
+    public RedisItemCacheServiceImpl(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public <T> Optional<T> getItem(String region, Long id, Class<T> type, Supplier<Optional<T>> loader) {
+        if (!isAvailable() || id == null) {
+            return loader.get();
+        }
+
+        CacheCounter counter = counter(region + ":detail");
+        String key = itemKey(region, id);
+        String cached = read(key, counter);
+        if (cached != null) {
+            try {
+                T item = objectMapper.readValue(cached, type);
+                counter.hits.increment();
+                return Optional.of(item);
+            } catch (JsonProcessingException e) {
+                log.warn("物品缓存反序列化失败，重新加载: {}", key, e);
+            }
+        }
+
+        counter.misses.increment();
+        Optional<T> loaded = loader.get();
+        loaded.ifPresent(item -> write(key, item, detailTtl, counter));
+        return loaded;
+    }
+
+    @Override
+    public <T> Map<String, Object> getPage(String region, String pageKey, Class<T> type,
+                                           Supplier<Map<String, Object>> loader) {
+        if (!isAvailable()) {
+            return loader.get();
+        }
+
+        CacheCounter counter = counter(region + ":list");
+        String version = read(versionKey(region), counter);
+        String key = pageKey(region, version == null ? "0" : version, pageKey);
+        String cached = read(key, counter);
+        if (cached != null) {
+            try {
+                Map<String, Object> page = objectMapper.readValue(cached, new TypeReference<LinkedHashMap<String, Object>>() {});
+                JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, type);
+                page.put("items", objectMapper.convertValue(page.get("items"), listType));
+                counter.hits.increment();
+                return page;
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                log.warn("列表缓存反序列化失败，重新加载: {}", key, e);
+            }
+        }
+
+        counter.misses.increment();
+        // 要写入缓存的列表从主库读取：写操作提交后版本号已递增，若从库尚未同步，
+        // 旧数据会以新版本号缓存list-ttl之久，比从库延迟本身更长
+        Map<String, Object> loaded = ReplicaRoutingDataSource.onPrimary(loader);
+        write(key, loaded, listTtl, counter);
+        return loaded;
+    }
+
+    @Override
+    public void evictItem(String region, Long id) {
+        afterCommit(() -> {
+            if (!isAvailable()) {
+                return;
+            }
+            try {
+                redisTemplate.delete(itemKey(region, id));
+                redisTemplate.opsForValue().increment(versionKey(region));
+                log.debug("已失效物品缓存: {}:{}", region, id);
+            } catch (RuntimeException e) {
+                onFailure("失效物品缓存", e);
+            }
+        });
+    }
+
+    @Override
+    public void evictPages(String region) {
+        afterCommit(() -> {
+            if (!isAvailable()) {
+                return;
+            }
+            try {
+                redisTemplate.opsForValue().increment(versionKey(region));
+                log.debug("已失效列表缓存: {}", region);
+            } catch (RuntimeException e) {
+                onFailure("失效列表缓存", e);
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new TreeMap<>();
+        counters.forEach((name, counter) -> {
+            long hits = counter.hits.sum();
+            long misses = counter.misses.sum();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("hits", hits);
+            entry.put("misses", misses);
+            entry.put("errors", counter.errors.sum());
+            entry.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+            stats.put(name, entry);
+        });
+        return stats;
+    }
+
+    /**
+     * 若当前处于事务中，则在事务提交后执行，避免其他请求在提交前把旧数据重新写回缓存
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private String read(String key, CacheCounter counter) {
+        if (!isAvailable()) {
+            return null;
+        }
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            counter.errors.increment();
+            onFailure("读取缓存", e);
+            return null;
+        }
+    }
+
+    private void write(String key, Object value, Duration ttl, CacheCounter counter) {
+        if (!isAvailable()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("缓存序列化失败: {}", key, e);
+        } catch (RuntimeException e) {
+            counter.errors.increment();
+            onFailure("写入缓存", e);
+        }
+    }
+
+    private boolean isAvailable() {
+        return enabled && System.currentTimeMillis() >= suspendedUntil;
+    }
+
+    private void onFailure(String action, RuntimeException e) {
+        suspendedUntil = System.currentTimeMillis() + failureBackoff.toMillis();
+        log.warn("{}失败，{}秒内直接访问数据库: {}", action, failureBackoff.toSeconds(), e.getMessage());
+    }
+
+    private CacheCounter counter(String name) {
+        return counters.computeIfAbsent(name, k -> new CacheCounter());
+    }
+
+    private static String itemKey(String region, Long id) {
+        return KEY_PREFIX + region + ":" + id;
+    }
+
+    private static String versionKey(String region) {
+        return KEY_PREFIX + region + ":list-version";
+    }
+
+    private static String pageKey(String region, String version, String pageKey) {
+        String digest = DigestUtils.md5DigestAsHex(pageKey.getBytes(StandardCharsets.UTF_8));
+        return KEY_PREFIX + region + ":list:" + version + ":" + digest;
+    }
+
+    private static class CacheCounter {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+    }
+}
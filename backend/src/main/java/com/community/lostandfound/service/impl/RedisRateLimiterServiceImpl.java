@@ -0,0 +1,82 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.service.RateLimiterService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 基于Redis的令牌桶限流实现，多实例共享同一组桶
+ * 取令牌由一个Lua脚本原子完成，时间取Redis服务器时钟，避免各实例时钟不一致；
+ * 桶在恢复满所需的时间后过期。Redis不可用时在一段时间内退回本实例内存限流
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "redis")
+public class RedisRateLimiterServiceImpl implements RateLimiterService {
+
+    private static final String KEY_PREFIX = "laf:ratelimit:";
+
+    private static final RedisScript<Long> TOKEN_BUCKET = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1])\n"
+            + "local rate = tonumber(ARGV[2])\n"
+            + "local time = redis.call('TIME')\n"
+            + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)\n"
+            + "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')\n"
+            + "local tokens = tonumber(state[1])\n"
+            + "local ts = tonumber(state[2])\n"
+            + "if tokens == nil or ts == nil then\n"
+            + "  tokens = capacity\n"
+            + "  ts = now\n"
+            + "end\n"
+            + "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)\n"
+            + "local wait = 0\n"
+            + "if tokens >= 1 then\n"
+            + "  tokens = tokens - 1\n"
+            + "else\n"
+            + "  wait = math.ceil((1 - tokens) / rate)\n"
+            + "end\n"
+            + "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)\n"
+            + "redis.call('PEXPIRE', KEYS[1], math.max(1000, math.ceil(capacity / rate)))\n"
+            + "return wait",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final LocalRateLimiterServiceImpl fallback;
+
+    @Value("${rate-limit.redis.failure-backoff:30s}")
+    private Duration failureBackoff;
+
+    // Redis故障后暂停访问的截止时间（毫秒时间戳）
+    private volatile long suspendedUntil = 0L;
+
+    public RedisRateLimiterServiceImpl(StringRedisTemplate redisTemplate,
+                                       @Value("${rate-limit.local.max-size:100000}") int localMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = new LocalRateLimiterServiceImpl(localMaxSize);
+    }
+
+    @Override
+    public long tryAcquire(String key, int capacity, Duration refillPeriod) {
+        if (System.currentTimeMillis() >= suspendedUntil) {
+            try {
+                double rate = (double) capacity / Math.max(1, refillPeriod.toMillis());
+                Long wait = redisTemplate.execute(TOKEN_BUCKET, List.of(KEY_PREFIX + key),
+                        String.valueOf(capacity), String.valueOf(rate));
+                return wait == null ? 0L : wait;
+            } catch (Exception e) {
+                suspendedUntil = System.currentTimeMillis() + failureBackoff.toMillis();
+                log.warn("Redis限流失败，{}秒内使用本实例内存限流: {}", failureBackoff.toSeconds(), e.getMessage());
+            }
+        }
+        return fallback.tryAcquire(key, capacity, refillPeriod);
+    }
+}
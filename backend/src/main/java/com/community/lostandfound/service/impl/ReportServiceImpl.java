@@ -1,5 +1,6 @@
 package com.community.lostandfound.service.impl;
 
+import com.community.lostandfound.dto.common.CountMode;
 import com.community.lostandfound.dto.report.ReportDto;
 import com.community.lostandfound.dto.report.ReportPageDto;
 import com.community.lostandfound.dto.report.ReportRequest;
@@ -19,6 +20,12 @@ import com.community.lostandfound.repository.LostItemRepository;
 import com.community.lostandfound.repository.PostCommentRepository;
 import com.community.lostandfound.repository.PostRepository;
 import com.community.lostandfound.repository.ReportRepository;
+import com.community.lostandfound.repository.UserRepository;
+import com.community.lostandfound.service.CountService;
+import com.community.lostandfound.service.BaseItemService;
+import com.community.lostandfound.service.FeedService;
+import com.community.lostandfound.service.FoundItemService;
+import com.community.lostandfound.service.LostItemService;
 import com.community.lostandfound.service.ReportService;
 import com.community.lostandfound.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +34,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,11 +52,16 @@ public class ReportServiceImpl implements ReportService {
 
     private final ReportRepository reportRepository;
     private final UserService userService;
+    private final UserRepository userRepository;
     private final LostItemRepository lostItemRepository;
     private final FoundItemRepository foundItemRepository;
     private final ItemCommentRepository itemCommentRepository;
     private final PostCommentRepository postCommentRepository;
     private final PostRepository postRepository;
+    private final FeedService feedService;
+    private final CountService countService;
+    private final LostItemService lostItemService;
+    private final FoundItemService foundItemService;
 
     @Override
     @Transactional
@@ -143,42 +163,50 @@ public class ReportServiceImpl implements ReportService {
         Report report = reportRepository.findById(reportId)
                 .orElseThrow(() -> new ResourceNotFoundException("举报不存在"));
         
-        return enrichWithReportContent(enrichReportDto(convertToDto(report)));
+        return convertToDtos(List.of(report)).get(0);
     }
 
     @Override
-    public ReportPageDto getReports(Integer page, Integer size, Report.ReportStatus status, Report.ReportType type) {
+    @Transactional(readOnly = true)
+    public ReportPageDto getReports(Integer page, Integer size, Report.ReportStatus status, Report.ReportType type,
+                                    CountMode countMode) {
         // 计算分页偏移量
         page = page < 1 ? 0 : page - 1;
         int offset = page * size;
+        // 不统计总数时多取一条判断是否还有下一页
+        int limit = countMode.fetchSize(size);
         
         List<Report> reports;
-        long totalItems;
+        LongSupplier counter;
         
         // 根据查询条件获取相应的数据
         if (status != null && type != null) {
-            reports = reportRepository.findByStatusAndReportType(status, type, offset, size);
-            totalItems = reportRepository.countByStatusAndReportType(status, type);
+            reports = reportRepository.findByStatusAndReportType(status, type, offset, limit);
+            counter = () -> reportRepository.countByStatusAndReportType(status, type);
         } else if (status != null) {
-            reports = reportRepository.findByStatus(status, offset, size);
-            totalItems = reportRepository.countByStatus(status);
+            reports = reportRepository.findByStatus(status, offset, limit);
+            counter = () -> reportRepository.countByStatus(status);
         } else if (type != null) {
-            reports = reportRepository.findByReportType(type, offset, size);
-            totalItems = reportRepository.countByReportType(type);
+            reports = reportRepository.findByReportType(type, offset, limit);
+            counter = () -> reportRepository.countByReportType(type);
         } else {
-            reports = reportRepository.findAll(offset, size);
-            totalItems = reportRepository.count();
+            reports = reportRepository.findAll(offset, limit);
+            counter = reportRepository::count;
+        }
+        boolean hasMore = reports.size() > size;
+        if (hasMore) {
+            reports = reports.subList(0, size);
+        }
+        Long totalItems = countService.count(countMode, "reports", status + "|" + type, counter);
+        if (totalItems != null) {
+            hasMore = offset + reports.size() < totalItems;
         }
         
         // 转换为DTO列表
-        List<ReportDto> reportDtos = reports.stream()
-                .map(this::convertToDto)
-                .map(this::enrichReportDto)
-                .map(this::enrichWithReportContent)
-                .collect(Collectors.toList());
+        List<ReportDto> reportDtos = convertToDtos(reports);
         
         // 计算总页数
-        int totalPages = (int) Math.ceil((double) totalItems / size);
+        Integer totalPages = totalItems == null ? null : (int) Math.ceil((double) totalItems / size);
         
         // 获取待处理举报数量
         long pendingCount = reportRepository.countByStatus(Report.ReportStatus.PENDING);
@@ -187,6 +215,7 @@ public class ReportServiceImpl implements ReportService {
                 .reports(reportDtos)
                 .totalItems(totalItems)
                 .totalPages(totalPages)
+                .hasMore(hasMore)
                 .currentPage(page + 1)
                 .pageSize(size)
                 .pendingReportsCount(pendingCount)
@@ -221,7 +250,7 @@ public class ReportServiceImpl implements ReportService {
             switch (resolution.getActionType()) {
                 case CONTENT_DELETE:
                     // 根据举报类型删除内容
-                    deleteReportedContent(report);
+                    deleteReportedContent(report, adminId);
                     break;
                     
                 case USER_WARNING:
@@ -252,7 +281,7 @@ public class ReportServiceImpl implements ReportService {
         
         // 更新举报
         reportRepository.update(report);
-        return enrichWithReportContent(enrichReportDto(convertToDto(report)));
+        return convertToDtos(List.of(report)).get(0);
     }
 
     @Override
@@ -260,22 +289,14 @@ public class ReportServiceImpl implements ReportService {
         // 获取用户的前100条举报记录
         List<Report> reports = reportRepository.findByReporterId(reporterId, 0, 100);
         
-        return reports.stream()
-                .map(this::convertToDto)
-                .map(this::enrichReportDto)
-                .map(this::enrichWithReportContent)
-                .collect(Collectors.toList());
+        return convertToDtos(reports);
     }
 
     @Override
     public List<ReportDto> getReportsByItem(Report.ReportType type, Long itemId) {
         List<Report> reports = reportRepository.findByReportTypeAndReportedItemId(type, itemId);
         
-        return reports.stream()
-                .map(this::convertToDto)
-                .map(this::enrichReportDto)
-                .map(this::enrichWithReportContent)
-                .collect(Collectors.toList());
+        return convertToDtos(reports);
     }
 
     @Override
@@ -325,11 +346,7 @@ public class ReportServiceImpl implements ReportService {
         List<Report> reports = reportRepository.findByFilters(reportStatus, reportType, start, end, offset, size);
         
         // 转换并丰富DTO
-        return reports.stream()
-                .map(this::convertToDto)
-                .map(this::enrichReportDto)
-                .map(this::enrichWithReportContent)  // 添加举报内容字段
-                .collect(Collectors.toList());
+        return convertToDtos(reports);
     }
     
     @Override
@@ -367,15 +384,16 @@ public class ReportServiceImpl implements ReportService {
     
     /**
      * 根据举报内容类型删除对应的内容
+     * 物品通过物品服务删除，与用户删除走同一路径：同时清理图片引用、首页动态、匹配索引和缓存
      */
-    private void deleteReportedContent(Report report) {
+    private void deleteReportedContent(Report report, Long adminId) {
         switch (report.getReportType()) {
             case LOST_ITEM:
-                lostItemRepository.deleteById(report.getReportedItemId());
+                deleteReportedItem(lostItemService, report.getReportedItemId(), adminId);
                 break;
                 
             case FOUND_ITEM:
-                foundItemRepository.deleteById(report.getReportedItemId());
+                deleteReportedItem(foundItemService, report.getReportedItemId(), adminId);
                 break;
                 
             case COMMENT:
@@ -395,6 +413,7 @@ public class ReportServiceImpl implements ReportService {
                 
             case POST:
                 postRepository.deleteById(report.getReportedItemId());
+                feedService.remove(FeedService.POSTS, report.getReportedItemId());
                 break;
                 
             default:
@@ -402,6 +421,17 @@ public class ReportServiceImpl implements ReportService {
         }
     }
     
+    /**
+     * 删除被举报的物品，物品已被发布者自行删除时跳过
+     */
+    private void deleteReportedItem(BaseItemService<?> itemService, Long itemId, Long adminId) {
+        try {
+            itemService.deleteItem(itemId, adminId);
+        } catch (ResourceNotFoundException e) {
+            log.info("被举报物品已不存在，跳过删除，ID: {}", itemId);
+        }
+    }
+    
     /**
      * 锁定用户
      */
@@ -434,155 +464,135 @@ public class ReportServiceImpl implements ReportService {
     }
     
     /**
-     * 为ReportDto添加关联数据
+     * 批量将Report实体转换为ReportDto并填充关联数据
+     * 先收集整页举报涉及的用户ID和各类型内容ID，每类用一次IN查询加载，再在内存中组装，
+     * 避免逐条举报查询用户、物品、评论和帖子
      */
-    private ReportDto enrichReportDto(ReportDto dto) {
-        try {
-            // 添加用户名
-            User reporter = userService.getUserById(dto.getReporterId())
-                    .orElseThrow(() -> new ResourceNotFoundException("举报人不存在"));
-            dto.setReporterUsername(reporter.getUsername());
-            
-            User reportedUser = userService.getUserById(dto.getReportedUserId())
-                    .orElseThrow(() -> new ResourceNotFoundException("被举报人不存在"));
-            dto.setReportedUsername(reportedUser.getUsername());
-            
-            // 添加处理管理员用户名
-            if (dto.getResolvedByAdminId() != null) {
-                User admin = userService.getUserById(dto.getResolvedByAdminId())
-                        .orElseThrow(() -> new ResourceNotFoundException("处理管理员不存在"));
-                dto.setResolvedByAdminUsername(admin.getUsername());
-            }
-            
-            // 添加被举报内容标题
-            String title = "";
-            switch (dto.getReportType()) {
-                case LOST_ITEM:
-                    LostItem lostItem = lostItemRepository.findById(dto.getReportedItemId()).orElse(null);
-                    if (lostItem != null) {
-                        title = lostItem.getTitle();
-                    }
-                    break;
-                    
-                case FOUND_ITEM:
-                    FoundItem foundItem = foundItemRepository.findById(dto.getReportedItemId()).orElse(null);
-                    if (foundItem != null) {
-                        title = foundItem.getTitle();
-                    }
-                    break;
-                    
-                case COMMENT:
-                    title = "留言ID: " + dto.getReportedItemId();
-                    break;
-                    
-                case POST:
-                    Post post = postRepository.findById(dto.getReportedItemId()).orElse(null);
-                    if (post != null) {
-                        title = post.getTitle();
-                    } else {
-                        title = "帖子ID: " + dto.getReportedItemId() + " (已删除)";
-                    }
-                    break;
-                    
-                default:
-                    break;
-            }
-            
-            dto.setReportedItemTitle(title);
-            
-        } catch (Exception e) {
-            log.error("填充举报DTO失败", e);
+    private List<ReportDto> convertToDtos(List<Report> reports) {
+        if (reports.isEmpty()) {
+            return new ArrayList<>();
         }
         
-        return dto;
-    }
-    
-    /**
-     * 添加举报内容的实际内容
-     */
-    private ReportDto enrichWithReportContent(ReportDto dto) {
-        if (dto == null) {
-            return null;
+        // 收集需要加载的ID
+        Set<Long> userIds = new HashSet<>();
+        Map<Report.ReportType, Set<Long>> itemIds = new EnumMap<>(Report.ReportType.class);
+        for (Report report : reports) {
+            addIfPresent(userIds, report.getReporterId());
+            addIfPresent(userIds, report.getReportedUserId());
+            addIfPresent(userIds, report.getResolvedByAdminId());
+            if (report.getReportType() != null && report.getReportedItemId() != null) {
+                itemIds.computeIfAbsent(report.getReportType(), k -> new HashSet<>()).add(report.getReportedItemId());
+            }
         }
         
-        try {
-            log.debug("为举报ID={}, 类型={}, 内容ID={} 获取实际内容", 
-                dto.getId(), dto.getReportType(), dto.getReportedItemId());
-                
-            // 根据举报类型获取实际内容
-            String content = "";
-            switch (dto.getReportType()) {
-                case COMMENT:
-                    // 尝试从ItemComment获取内容
-                    ItemComment itemComment = itemCommentRepository.findById(dto.getReportedItemId()).orElse(null);
-                    if (itemComment != null) {
-                        content = itemComment.getContent();
-                        log.debug("从ItemComment获取内容成功: {}", content);
-                    } else {
-                        // 尝试从PostComment获取内容
-                        PostComment postComment = postCommentRepository.findById(dto.getReportedItemId()).orElse(null);
-                        if (postComment != null) {
-                            content = postComment.getContent();
-                            log.debug("从PostComment获取内容成功: {}", content);
+        // 每类数据一次批量查询
+        Map<Long, String> usernames = userIds.isEmpty() ? Map.of() : userRepository.findUsernamesByIds(userIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getUsername));
+        Map<Long, LostItem> lostItems = loadByIds(itemIds.get(Report.ReportType.LOST_ITEM),
+                lostItemRepository::findByIds, LostItem::getId);
+        Map<Long, FoundItem> foundItems = loadByIds(itemIds.get(Report.ReportType.FOUND_ITEM),
+                foundItemRepository::findByIds, FoundItem::getId);
+        Map<Long, Post> posts = loadByIds(itemIds.get(Report.ReportType.POST),
+                postRepository::findByIds, Post::getId);
+        Map<Long, ItemComment> itemComments = loadByIds(itemIds.get(Report.ReportType.COMMENT),
+                itemCommentRepository::findByIds, ItemComment::getId);
+        
+        // 物品留言中找不到的评论ID再到帖子评论中查找
+        Set<Long> postCommentIds = itemIds.getOrDefault(Report.ReportType.COMMENT, Set.of()).stream()
+                .filter(id -> !itemComments.containsKey(id))
+                .collect(Collectors.toSet());
+        Map<Long, PostComment> postComments = loadByIds(postCommentIds,
+                postCommentRepository::findByIds, PostComment::getId);
+        
+        // 在内存中组装DTO
+        List<ReportDto> dtos = new ArrayList<>(reports.size());
+        for (Report report : reports) {
+            ReportDto dto = convertToDto(report);
+            dto.setReporterUsername(usernames.get(dto.getReporterId()));
+            dto.setReportedUsername(usernames.get(dto.getReportedUserId()));
+            if (dto.getResolvedByAdminId() != null) {
+                dto.setResolvedByAdminUsername(usernames.get(dto.getResolvedByAdminId()));
+            }
+            
+            Long itemId = dto.getReportedItemId();
+            String title = "";
+            String content = null;
+            if (dto.getReportType() != null) {
+                switch (dto.getReportType()) {
+                    case LOST_ITEM:
+                        LostItem lostItem = lostItems.get(itemId);
+                        if (lostItem != null) {
+                            title = lostItem.getTitle();
+                            content = lostItem.getDescription();
+                        }
+                        break;
+                        
+                    case FOUND_ITEM:
+                        FoundItem foundItem = foundItems.get(itemId);
+                        if (foundItem != null) {
+                            title = foundItem.getTitle();
+                            content = foundItem.getDescription();
+                        }
+                        break;
+                        
+                    case COMMENT:
+                        title = "留言ID: " + itemId;
+                        ItemComment itemComment = itemComments.get(itemId);
+                        if (itemComment != null) {
+                            content = itemComment.getContent();
                         } else {
-                            log.warn("无法找到评论内容, 评论ID: {}", dto.getReportedItemId());
+                            PostComment postComment = postComments.get(itemId);
+                            if (postComment != null) {
+                                content = postComment.getContent();
+                            }
                         }
-                    }
-                    break;
-                    
-                case LOST_ITEM:
-                    LostItem lostItem = lostItemRepository.findById(dto.getReportedItemId()).orElse(null);
-                    if (lostItem != null) {
-                        content = lostItem.getDescription();
-                        log.debug("从LostItem获取内容成功: {}", content);
-                    } else {
-                        log.warn("无法找到寻物启事内容, 寻物启事ID: {}", dto.getReportedItemId());
-                    }
-                    break;
-                    
-                case FOUND_ITEM:
-                    FoundItem foundItem = foundItemRepository.findById(dto.getReportedItemId()).orElse(null);
-                    if (foundItem != null) {
-                        content = foundItem.getDescription();
-                        log.debug("从FoundItem获取内容成功: {}", content);
-                    } else {
-                        log.warn("无法找到失物招领内容, 失物招领ID: {}", dto.getReportedItemId());
-                    }
-                    break;
-                    
-                case POST:
-                    Post post = postRepository.findById(dto.getReportedItemId()).orElse(null);
-                    if (post != null) {
-                        content = post.getContent();
-                        log.debug("从Post获取内容成功: {}", content);
-                    } else {
-                        log.warn("无法找到帖子内容, 帖子ID: {}", dto.getReportedItemId());
-                    }
-                    break;
-                    
-                default:
-                    log.warn("不支持的举报类型: {}", dto.getReportType());
-                    break;
+                        break;
+                        
+                    case POST:
+                        Post post = posts.get(itemId);
+                        if (post != null) {
+                            title = post.getTitle();
+                            content = post.getContent();
+                        } else {
+                            title = "帖子ID: " + itemId + " (已删除)";
+                        }
+                        break;
+                        
+                    default:
+                        break;
+                }
             }
+            dto.setReportedItemTitle(title);
             
-            // 设置内容并记录日志
             if (content != null && !content.isEmpty()) {
                 dto.setReportedItemContent(content);
-                
-                // 限制日志输出内容长度
-                String logContent = content.length() > 50 ? content.substring(0, 47) + "..." : content;
-                log.debug("设置举报内容成功, 内容: {}", logContent);
             } else {
-                log.warn("获取到的内容为空");
+                log.debug("举报内容不可用: 举报ID={}, 类型={}, 内容ID={}", dto.getId(), dto.getReportType(), itemId);
                 // 设置一个默认消息，防止前端显示为null
                 dto.setReportedItemContent("(内容不可用)");
             }
-        } catch (Exception e) {
-            log.error("获取举报内容失败: {}", e.getMessage(), e);
-            // 设置一个默认消息，防止前端显示为null
-            dto.setReportedItemContent("(获取内容时出错)");
+            
+            dtos.add(dto);
         }
         
-        return dto;
+        return dtos;
+    }
+    
+    private static void addIfPresent(Set<Long> ids, Long id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+    
+    /**
+     * 按ID集合批量加载并建立ID索引，集合为空时不访问数据库
+     */
+    private static <T> Map<Long, T> loadByIds(Set<Long> ids, Function<Collection<Long>, List<T>> loader,
+                                              Function<T, Long> idGetter) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        return loader.apply(ids).stream()
+                .collect(Collectors.toMap(idGetter, Function.identity(), (a, b) -> a));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,286 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.service.FileStorageService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * S3兼容对象存储服务实现（file.storage.type=s3）
+ * 对象键与本地存储的相对路径一致（uploads/子目录/SHA-256.扩展名），多个后端实例共享同一存储桶。
+ * 上传按分片流式写入，内存中最多保留一个分片；文件内容由浏览器通过预签名地址直接从存储读取。
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+public class S3FileStorageServiceImpl implements FileStorageService {
+
+    private static final String KEY_ROOT = "uploads/";
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    // S3要求除最后一个分片外每个分片不小于5MB
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+
+    @Value("${file.storage.s3.bucket:lost-and-found}")
+    private String bucket;
+
+    @Value("${file.storage.s3.part-size:8388608}")
+    private int partSize;
+
+    @Value("${file.storage.s3.presign-ttl:1h}")
+    private Duration presignTtl;
+
+    @Value("${file.storage.s3.auto-create-bucket:false}")
+    private boolean autoCreateBucket;
+
+    @Value("${file.upload.base-url:#{null}}")
+    private String baseUrl;
+
+    public S3FileStorageServiceImpl(S3Client s3Client, S3Presigner s3Presigner) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+    }
+
+    @PostConstruct
+    public void init() {
+        partSize = Math.max(partSize, MIN_PART_SIZE);
+        if (!autoCreateBucket) {
+            return;
+        }
+        try {
+            s3Client.headBucket(b -> b.bucket(bucket));
+        } catch (NoSuchBucketException e) {
+            log.info("存储桶不存在，创建: {}", bucket);
+            s3Client.createBucket(b -> b.bucket(bucket));
+        } catch (S3Exception e) {
+            if (e.statusCode() != 404) {
+                throw e;
+            }
+            log.info("存储桶不存在，创建: {}", bucket);
+            s3Client.createBucket(b -> b.bucket(bucket));
+        }
+    }
+
+    @Override
+    public String storeFile(MultipartFile file, String filename, String subdirectory) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return storeFile(input, filename, subdirectory);
+        }
+    }
+
+    /**
+     * 将输入流上传到存储桶
+     * 不超过一个分片的文件直接上传到内容寻址的对象键；更大的文件先分片上传到临时键，
+     * 摘要计算完成后在服务端复制到最终对象键
+     * 
+     * @param input 文件内容
+     * @param filename 文件名，仅用于确定扩展名和Content-Type
+     * @param subdirectory 子目录
+     * @return 对象键（例如: "uploads/avatars/<sha256>.jpg"）
+     * @throws IOException 读取输入或上传失败
+     */
+    @Override
+    public String storeFile(InputStream input, String filename, String subdirectory) throws IOException {
+        if (subdirectory == null || subdirectory.trim().isEmpty()) {
+            subdirectory = "general";
+        }
+        String safeFilename = StringUtils.cleanPath(filename);
+        if (safeFilename.contains("..") || subdirectory.contains("..")) {
+            throw new IOException("文件名包含非法字符：" + safeFilename);
+        }
+        String contentType = MediaTypeFactory.getMediaType(safeFilename)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        String directory = KEY_ROOT + subdirectory + "/";
+
+        MessageDigest digest = newSha256();
+        byte[] firstPart = input.readNBytes(partSize);
+        digest.update(firstPart);
+
+        try {
+            if (firstPart.length < partSize) {
+                String key = directory + LocalFileStorageServiceImpl.storedFilename(
+                        HexFormat.of().formatHex(digest.digest()), safeFilename);
+                if (!exists(key)) {
+                    s3Client.putObject(b -> b.bucket(bucket).key(key)
+                                    .contentType(contentType)
+                                    .cacheControl(IMMUTABLE_CACHE_CONTROL),
+                            requestBody(firstPart));
+                }
+                log.debug("文件已上传到存储桶: {}", key);
+                return key;
+            }
+
+            String tempKey = directory + ".upload-" + UUID.randomUUID();
+            uploadMultipart(tempKey, contentType, input, firstPart, digest);
+            String key = directory + LocalFileStorageServiceImpl.storedFilename(
+                    HexFormat.of().formatHex(digest.digest()), safeFilename);
+            try {
+                if (!exists(key)) {
+                    s3Client.copyObject(b -> b.sourceBucket(bucket).sourceKey(tempKey)
+                            .destinationBucket(bucket).destinationKey(key));
+                }
+            } finally {
+                s3Client.deleteObject(b -> b.bucket(bucket).key(tempKey));
+            }
+            log.debug("文件已分片上传到存储桶: {}", key);
+            return key;
+        } catch (SdkException e) {
+            throw new IOException("上传文件到对象存储失败: " + safeFilename, e);
+        }
+    }
+
+    /**
+     * 分片上传，firstPart为已读取的第一个分片，之后逐个分片读取输入流，失败时中止上传
+     */
+    private void uploadMultipart(String key, String contentType, InputStream input,
+                                 byte[] firstPart, MessageDigest digest) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(b -> b.bucket(bucket).key(key)
+                .contentType(contentType)
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)).uploadId();
+        List<CompletedPart> parts = new ArrayList<>();
+        try {
+            byte[] part = firstPart;
+            int partNumber = 1;
+            while (part.length > 0) {
+                int number = partNumber;
+                int size = part.length;
+                String eTag = s3Client.uploadPart(b -> b.bucket(bucket).key(key)
+                                .uploadId(uploadId).partNumber(number).contentLength((long) size),
+                        requestBody(part)).eTag();
+                parts.add(CompletedPart.builder().partNumber(number).eTag(eTag).build());
+
+                partNumber++;
+                part = input.readNBytes(partSize);
+                digest.update(part);
+            }
+            s3Client.completeMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(m -> m.parts(parts)));
+        } catch (IOException | RuntimeException e) {
+            try {
+                s3Client.abortMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId));
+            } catch (SdkException abortError) {
+                log.warn("中止分片上传失败: {}", key, abortError);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream loadFile(String filePath) throws IOException {
+        String key = objectKey(filePath);
+        try {
+            return s3Client.getObject(b -> b.bucket(bucket).key(key));
+        } catch (NoSuchKeyException e) {
+            throw new FileNotFoundException(key);
+        } catch (SdkException e) {
+            throw new IOException("读取对象失败: " + key, e);
+        }
+    }
+
+    /**
+     * 返回经由本服务的稳定地址，该地址会被保存到物品图片、用户头像中；
+     * 访问时由上传文件控制器重定向到预签名地址
+     */
+    @Override
+    public String getFileUrl(String filePath) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            log.warn("无效的文件路径");
+            return "";
+        }
+        String key = objectKey(filePath);
+        if (baseUrl != null && !baseUrl.trim().isEmpty()) {
+            return (baseUrl.endsWith("/") ? baseUrl : baseUrl + "/") + key;
+        }
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/" + key)
+                .toUriString();
+    }
+
+    /**
+     * 生成有时效的预签名GET地址，浏览器直接从对象存储下载
+     */
+    @Override
+    public Optional<String> getDirectDownloadUrl(String filePath) {
+        String key = objectKey(filePath);
+        return Optional.of(s3Presigner.presignGetObject(p -> p.signatureDuration(presignTtl)
+                .getObjectRequest(b -> b.bucket(bucket).key(key))).url().toString());
+    }
+
+    @Override
+    public boolean deleteFile(String filePath) {
+        String key = objectKey(filePath);
+        try {
+            s3Client.deleteObject(b -> b.bucket(bucket).key(key));
+            return true;
+        } catch (SdkException e) {
+            log.error("删除对象失败: {}", key, e);
+            return false;
+        }
+    }
+
+    private static RequestBody requestBody(byte[] bytes) {
+        // 直接包装数组，避免RequestBody.fromBytes再复制一份
+        return RequestBody.fromInputStream(new ByteArrayInputStream(bytes), bytes.length);
+    }
+
+    private boolean exists(String key) {
+        try {
+            s3Client.headObject(b -> b.bucket(bucket).key(key));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 将存储路径或访问URL统一为对象键（uploads/子目录/文件名）
+     */
+    private static String objectKey(String pathOrUrl) {
+        String key = ImageProcessingServiceImpl.storageKey(pathOrUrl);
+        int query = key.indexOf('?');
+        return query >= 0 ? key.substring(0, query) : key;
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
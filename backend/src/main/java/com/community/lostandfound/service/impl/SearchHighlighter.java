@@ -0,0 +1,116 @@
+package com.community.lostandfound.service.impl;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 搜索关键词切分与高亮片段生成
+ */
+final class SearchHighlighter {
+    
+    // 片段长度（字符数）
+    private static final int SNIPPET_LENGTH = 80;
+    
+    // 片段中关键词之前保留的上下文长度
+    private static final int LEADING_CONTEXT = 20;
+    
+    private SearchHighlighter() {
+    }
+    
+    /**
+     * 将关键词按空白切分为小写搜索词，去除MySQL布尔模式运算符
+     */
+    static List<String> terms(String keyword) {
+        List<String> terms = new ArrayList<>();
+        if (keyword == null) {
+            return terms;
+        }
+        for (String raw : keyword.trim().split("\\s+")) {
+            String term = raw.replaceAll("[+\\-<>()~*\"@]", "").toLowerCase(Locale.ROOT);
+            if (!term.isEmpty() && !terms.contains(term)) {
+                terms.add(term);
+            }
+        }
+        // 长词优先匹配，避免短词截断长词的高亮
+        terms.sort(Comparator.comparingInt(String::length).reversed());
+        return terms;
+    }
+    
+    /**
+     * 从第一个包含搜索词的字段中截取片段并标记关键词
+     * 若所有字段都不包含搜索词，则返回第一个非空字段的开头部分
+     *
+     * @param terms  搜索词
+     * @param fields 按优先级排列的候选字段
+     * @return HTML转义后的片段，关键词以&lt;em&gt;包裹
+     */
+    static String highlight(List<String> terms, String... fields) {
+        String fallback = null;
+        for (String field : fields) {
+            if (field == null || field.isEmpty()) {
+                continue;
+            }
+            if (fallback == null) {
+                fallback = field;
+            }
+            String lower = lowerCase(field);
+            int first = terms.stream()
+                    .mapToInt(lower::indexOf)
+                    .filter(i -> i >= 0)
+                    .min()
+                    .orElse(-1);
+            if (first >= 0) {
+                int start = Math.max(0, first - LEADING_CONTEXT);
+                int end = Math.min(field.length(), start + SNIPPET_LENGTH);
+                return mark(field.substring(start, end), terms, start > 0, end < field.length());
+            }
+        }
+        if (fallback == null) {
+            return null;
+        }
+        int end = Math.min(fallback.length(), SNIPPET_LENGTH);
+        return mark(fallback.substring(0, end), terms, false, end < fallback.length());
+    }
+    
+    /**
+     * 小写化后长度变化的极少数字符（如土耳其语İ）无法按位置对齐，此时按原文匹配
+     */
+    private static String lowerCase(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        return lower.length() == text.length() ? lower : text;
+    }
+    
+    private static String mark(String window, List<String> terms, boolean leadingEllipsis, boolean trailingEllipsis) {
+        String lower = lowerCase(window);
+        StringBuilder out = new StringBuilder(window.length() + 16);
+        if (leadingEllipsis) {
+            out.append("…");
+        }
+        int plainStart = 0;
+        int i = 0;
+        while (i < window.length()) {
+            final int pos = i;
+            String matched = terms.stream()
+                    .filter(term -> lower.startsWith(term, pos))
+                    .findFirst()
+                    .orElse(null);
+            if (matched == null) {
+                i++;
+                continue;
+            }
+            out.append(HtmlUtils.htmlEscape(window.substring(plainStart, i)));
+            out.append("<em>").append(HtmlUtils.htmlEscape(window.substring(i, i + matched.length()))).append("</em>");
+            i += matched.length();
+            plainStart = i;
+        }
+        out.append(HtmlUtils.htmlEscape(window.substring(plainStart)));
+        if (trailingEllipsis) {
+            out.append("…");
+        }
+        return out.toString();
+    }
+}
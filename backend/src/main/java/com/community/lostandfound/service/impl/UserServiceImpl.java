@@ -3,6 +3,8 @@ package com.community.lostandfound.service.impl;
 import com.community.lostandfound.entity.User;
 import com.community.lostandfound.exception.ResourceNotFoundException;
 import com.community.lostandfound.repository.UserRepository;
+import com.community.lostandfound.service.FileReferenceService;
+import com.community.lostandfound.service.PrincipalCacheService;
 import com.community.lostandfound.service.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,8 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Slf4j
@@ -26,14 +29,20 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JdbcTemplate jdbcTemplate;
+    private final PrincipalCacheService principalCacheService;
+    private final FileReferenceService fileReferenceService;
 
     @Autowired
     public UserServiceImpl(UserRepository userRepository, 
                           @Lazy PasswordEncoder passwordEncoder,
-                          JdbcTemplate jdbcTemplate) {
+                          JdbcTemplate jdbcTemplate,
+                          PrincipalCacheService principalCacheService,
+                          FileReferenceService fileReferenceService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jdbcTemplate = jdbcTemplate;
+        this.principalCacheService = principalCacheService;
+        this.fileReferenceService = fileReferenceService;
     }
 
     @Override
@@ -76,6 +85,9 @@ public class UserServiceImpl implements UserService {
             
             // Save user
             userRepository.save(user);
+            if (user.getAvatar() != null) {
+                fileReferenceService.replaceReferences(FileReferenceService.AVATAR, user.getId(), List.of(user.getAvatar()));
+            }
             
             return user;
         } catch (DataAccessException e) {
@@ -112,6 +124,15 @@ public class UserServiceImpl implements UserService {
         // Set update timestamp
         user.setUpdatedAt(LocalDateTime.now());
         
+        // 锁定状态、角色或用户名可能变化，使认证主体缓存失效
+        principalCacheService.evict(existingUser.getUsername(), user.getUsername());
+        
+        // 头像变化时更新文件引用，旧头像不再被引用后由文件回收任务删除
+        if (!Objects.equals(existingUser.getAvatar(), user.getAvatar())) {
+            fileReferenceService.replaceReferences(FileReferenceService.AVATAR, user.getId(),
+                    user.getAvatar() == null ? List.of() : List.of(user.getAvatar()));
+        }
+        
         try {
             // Update user
             userRepository.update(user);
@@ -191,8 +212,14 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public List<User> getUsersByRoles(Collection<String> roles, int page, int size) {
+        int offset = (page - 1) * size;
+        return userRepository.findByRoles(roles, offset, size);
+    }
+
+    @Override
+    public int countUsersByRoles(Collection<String> roles) {
+        return userRepository.countByRoles(roles);
     }
 
     @Override
@@ -209,11 +236,12 @@ public class UserServiceImpl implements UserService {
     @Transactional
     public void deleteUser(Long id) {
         // Check if user exists
-        if (!userRepository.findById(id).isPresent()) {
-            throw new ResourceNotFoundException("User", "id", id);
-        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         
         userRepository.deleteById(id);
+        fileReferenceService.removeReferences(FileReferenceService.AVATAR, id);
+        principalCacheService.evict(user.getUsername());
     }
 
     @Override
@@ -226,6 +254,7 @@ public class UserServiceImpl implements UserService {
         user.setUpdatedAt(LocalDateTime.now());
         
         userRepository.update(user);
+        principalCacheService.evict(user.getUsername());
         
         return user;
     }
@@ -240,6 +269,7 @@ public class UserServiceImpl implements UserService {
         user.setUpdatedAt(LocalDateTime.now());
         
         userRepository.update(user);
+        principalCacheService.evict(user.getUsername());
         
         return user;
     }
@@ -254,6 +284,7 @@ public class UserServiceImpl implements UserService {
         user.setUpdatedAt(LocalDateTime.now());
         
         userRepository.update(user);
+        principalCacheService.evict(user.getUsername());
         
         return user;
     }
@@ -293,50 +324,12 @@ public class UserServiceImpl implements UserService {
         return userRepository.countWithFilters(search, role, isLocked, startDate, endDate);
     }
 
-    @Override
-    public void checkUsersTableStructure() {
-        try {
-            // 检查users表结构
-            List<Map<String, Object>> columns = jdbcTemplate.queryForList(
-                "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = 'users'"
-            );
-            
-            log.info("数据库users表结构:");
-            for (Map<String, Object> column : columns) {
-                log.info("列名: {}", column.get("COLUMN_NAME"));
-            }
-            
-            // 检查是否有real_name列
-            boolean hasRealNameColumn = columns.stream()
-                .anyMatch(col -> "real_name".equalsIgnoreCase(String.valueOf(col.get("COLUMN_NAME"))));
-            
-            if (!hasRealNameColumn) {
-                log.warn("数据库中没有real_name列，这可能导致实体映射失败");
-                
-                // 检查是否有realname列（没有下划线）
-                boolean hasRealnameColumn = columns.stream()
-                    .anyMatch(col -> "realname".equalsIgnoreCase(String.valueOf(col.get("COLUMN_NAME"))));
-                
-                if (hasRealnameColumn) {
-                    log.info("数据库中有realname列（没有下划线），应调整实体映射");
-                } else {
-                    log.warn("数据库中没有任何形式的realname列，考虑添加此列");
-                }
-            }
-        } catch (Exception e) {
-            log.error("检查数据库结构失败: {}", e.getMessage());
-        }
-    }
-
     @Override
     @Transactional
     public User createUserWithMinimalFields(User user) {
         try {
             log.info("尝试使用最小字段集创建用户: {}", user.getUsername());
             
-            // 先检查表结构
-            checkUsersTableStructure();
-            
             // 构建SQL，只使用基本字段
             StringBuilder sql = new StringBuilder("INSERT INTO users(username, email, password, role");
             StringBuilder values = new StringBuilder("VALUES(?, ?, ?, ?");
@@ -0,0 +1,4 @@
+-- 举报列表只按状态筛选（findByStatus，管理后台默认的“待处理”列表）时，
+-- idx_status_type_created_at 的第二列 report_type 未指定，无法按 created_at 顺序读取而退化为filesort
+ALTER TABLE `reports`
+  ADD KEY `idx_status_created_at` (`status`, `created_at`);
@@ -0,0 +1,3 @@
+-- 管理后台按角色分页查询用户（findByRoles/countByRoles、findWithFilters的role条件），
+-- 避免每次扫描整张用户表；二级索引隐含主键id，单个角色时可按 ORDER BY id 顺序读取
+ALTER TABLE `users` ADD KEY `idx_role` (`role`);
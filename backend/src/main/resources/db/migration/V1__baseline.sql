@@ -1,20 +1,14 @@
--- 数据库初始化脚本
+-- 基线结构：与原 db/init.sql 创建的结构一致，各功能新增的表和字段见后续版本
 -- 基于实体类设计的SQL脚本 (无外键约束)
+-- 已有数据库启动时按此版本建立基线（spring.flyway.baseline-on-migrate），不会重复执行
 
 -- 设置字符集和排序规则
 SET NAMES utf8mb4;
 SET FOREIGN_KEY_CHECKS = 0;
 
--- 创建数据库（如果不存在）
-CREATE DATABASE IF NOT EXISTS `lost` CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
-
--- 使用数据库
-USE `lost`;
-
 -- ----------------------------
 -- 用户表
 -- ----------------------------
-DROP TABLE IF EXISTS `users`;
 CREATE TABLE IF NOT EXISTS `users` (
   `id` bigint NOT NULL AUTO_INCREMENT,
   `username` varchar(50) NOT NULL,
@@ -38,7 +32,6 @@ CREATE TABLE IF NOT EXISTS `users` (
 -- ----------------------------
 -- 寻物启事表
 -- ----------------------------
-DROP TABLE IF EXISTS `lost_items`;
 CREATE TABLE IF NOT EXISTS `lost_items` (
   `id` bigint NOT NULL AUTO_INCREMENT,
   `title` varchar(100) NOT NULL,
@@ -62,7 +55,6 @@ CREATE TABLE IF NOT EXISTS `lost_items` (
 -- ----------------------------
 -- 失物招领表
 -- ----------------------------
-DROP TABLE IF EXISTS `found_items`;
 CREATE TABLE IF NOT EXISTS `found_items` (
   `id` bigint NOT NULL AUTO_INCREMENT,
   `title` varchar(100) NOT NULL,
@@ -87,7 +79,6 @@ CREATE TABLE IF NOT EXISTS `found_items` (
 -- ----------------------------
 -- 认领申请表
 -- ----------------------------
-DROP TABLE IF EXISTS `claim_applications`;
 CREATE TABLE IF NOT EXISTS `claim_applications` (
   `id` bigint NOT NULL AUTO_INCREMENT,
   `found_item_id` bigint NOT NULL,
@@ -106,7 +97,6 @@ CREATE TABLE IF NOT EXISTS `claim_applications` (
 -- ----------------------------
 -- 物品评论表 (替代旧的comments表)
 -- ----------------------------
-DROP TABLE IF EXISTS `item_comments`;
 CREATE TABLE IF NOT EXISTS `item_comments` (
   `id` bigint NOT NULL AUTO_INCREMENT,
   `content` text NOT NULL,
@@ -123,7 +113,6 @@ CREATE TABLE IF NOT EXISTS `item_comments` (
 -- ----------------------------
 -- 帖子评论表 (替代旧的comments表中的帖子评论)
 -- ----------------------------
-DROP TABLE IF EXISTS `post_comments`;
 CREATE TABLE IF NOT EXISTS `post_comments` (
   `id` bigint NOT NULL AUTO_INCREMENT,
   `content` text NOT NULL,
@@ -139,7 +128,6 @@ CREATE TABLE IF NOT EXISTS `post_comments` (
 -- ----------------------------
 -- 公告表
 -- ----------------------------
-DROP TABLE IF EXISTS `announcements`;
 CREATE TABLE IF NOT EXISTS `announcements` (
   `id` bigint NOT NULL AUTO_INCREMENT,
   `title` varchar(100) NOT NULL,
@@ -156,7 +144,6 @@ CREATE TABLE IF NOT EXISTS `announcements` (
 -- ----------------------------
 -- 论坛帖子表
 -- ----------------------------
-DROP TABLE IF EXISTS `posts`;
 CREATE TABLE IF NOT EXISTS `posts` (
   `id` bigint NOT NULL AUTO_INCREMENT,
   `title` varchar(100) NOT NULL,
@@ -173,7 +160,6 @@ CREATE TABLE IF NOT EXISTS `posts` (
 -- ----------------------------
 -- 举报表
 -- ----------------------------
-DROP TABLE IF EXISTS `reports`;
 CREATE TABLE IF NOT EXISTS `reports` (
   `id` bigint NOT NULL AUTO_INCREMENT,
   `report_type` varchar(20) NOT NULL COMMENT '举报类型: LOST_ITEM, FOUND_ITEM, COMMENT, POST',
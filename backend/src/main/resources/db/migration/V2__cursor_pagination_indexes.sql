@@ -0,0 +1,3 @@
+-- 物品列表游标分页：按 (created_at, id) 倒序读取，WHERE (created_at, id) < 游标
+ALTER TABLE `lost_items` ADD KEY `idx_created_at_id` (`created_at`, `id`) COMMENT '游标分页';
+ALTER TABLE `found_items` ADD KEY `idx_created_at_id` (`created_at`, `id`) COMMENT '游标分页';
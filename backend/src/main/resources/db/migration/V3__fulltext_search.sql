@@ -0,0 +1,6 @@
+-- 搜索服务的全文索引（ngram分词，支持中文）
+-- 大表建索引耗时较长，可先将 search.engine 设置为 like，迁移完成后再切换回 fulltext
+ALTER TABLE `lost_items` ADD FULLTEXT KEY `ft_search` (`title`, `description`, `lost_location`) WITH PARSER ngram;
+ALTER TABLE `found_items` ADD FULLTEXT KEY `ft_search` (`title`, `description`, `found_location`) WITH PARSER ngram;
+ALTER TABLE `posts` ADD FULLTEXT KEY `ft_search` (`title`, `content`) WITH PARSER ngram;
+ALTER TABLE `announcements` ADD FULLTEXT KEY `ft_search` (`title`, `content`) WITH PARSER ngram;
@@ -0,0 +1,7 @@
+-- 为帖子添加冗余评论数，避免列表页逐条COUNT评论
+ALTER TABLE `posts` ADD COLUMN `comment_count` int NOT NULL DEFAULT 0 COMMENT '评论数量' AFTER `user_avatar`;
+
+-- 回填现有帖子的评论数（保留原更新时间）
+UPDATE `posts` p
+LEFT JOIN (SELECT `post_id`, COUNT(*) AS cnt FROM `post_comments` GROUP BY `post_id`) c ON c.`post_id` = p.`id`
+SET p.`comment_count` = COALESCE(c.cnt, 0), p.`updated_at` = p.`updated_at`;
@@ -0,0 +1,14 @@
+-- 上传图片的缩略图等变体，由图片处理服务异步生成
+CREATE TABLE IF NOT EXISTS `image_variants` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `original_path` varchar(255) NOT NULL COMMENT '原图存储键: uploads/子目录/文件名',
+  `variant` varchar(20) NOT NULL COMMENT '变体: thumb, medium, thumb-webp, medium-webp',
+  `path` varchar(255) NOT NULL COMMENT '变体文件存储路径',
+  `format` varchar(10) NOT NULL COMMENT '图片格式: jpeg, webp',
+  `width` int NOT NULL,
+  `height` int NOT NULL,
+  `size` bigint NOT NULL COMMENT '文件大小（字节）',
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_original_variant` (`original_path`, `variant`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='上传图片的缩略图等变体';
@@ -0,0 +1,23 @@
+-- 去重文件存储：按内容摘要保存文件，并记录物品图片、用户头像对文件的引用
+CREATE TABLE IF NOT EXISTS `file_blobs` (
+  `digest` char(64) NOT NULL COMMENT '内容的SHA-256摘要',
+  `path` varchar(255) NOT NULL COMMENT '文件存储路径',
+  `size` bigint NOT NULL COMMENT '文件大小（字节）',
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `last_stored_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP COMMENT '最近一次上传时间，回收宽限期从此开始',
+  PRIMARY KEY (`digest`),
+  UNIQUE KEY `uk_path` (`path`),
+  KEY `idx_last_stored_at` (`last_stored_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='去重存储的文件内容';
+
+CREATE TABLE IF NOT EXISTS `file_references` (
+  `digest` char(64) NOT NULL COMMENT '引用的文件内容摘要',
+  `owner_type` varchar(20) NOT NULL COMMENT '引用方类型: lost-items, found-items, avatar',
+  `owner_id` bigint NOT NULL COMMENT '引用方ID',
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`owner_type`, `owner_id`, `digest`),
+  KEY `idx_digest` (`digest`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='物品图片、用户头像对文件内容的引用';
+
+-- 文件回收时按变体路径查询原图
+ALTER TABLE `image_variants` ADD KEY `idx_path` (`path`);
@@ -0,0 +1,43 @@
+-- 首页动态时间线，并回填现有的寻物启事、失物招领、帖子和已发布公告
+CREATE TABLE IF NOT EXISTS `feed_entries` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `entry_type` varchar(20) NOT NULL COMMENT '来源类型: lost-items, found-items, posts, announcements',
+  `entry_id` bigint NOT NULL COMMENT '来源记录ID',
+  `title` varchar(100) NOT NULL,
+  `summary` varchar(255) DEFAULT NULL COMMENT '描述或正文的前200字',
+  `image` varchar(255) DEFAULT NULL COMMENT '封面图片',
+  `status` varchar(20) DEFAULT NULL COMMENT '来源记录状态',
+  `user_id` bigint DEFAULT NULL COMMENT '发布者ID',
+  `username` varchar(50) DEFAULT NULL COMMENT '发布者用户名',
+  `created_at` timestamp NOT NULL COMMENT '来源记录创建时间',
+  `updated_at` timestamp NULL DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_entry` (`entry_type`, `entry_id`),
+  KEY `idx_created_at_id` (`created_at`, `id`),
+  KEY `idx_type_created_at_id` (`entry_type`, `created_at`, `id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='首页动态时间线';
+
+INSERT IGNORE INTO `feed_entries`(entry_type, entry_id, title, summary, image, status, user_id, username, created_at, updated_at)
+SELECT 'lost-items', t.id, t.title, LEFT(t.description, 200),
+  CASE WHEN JSON_VALID(t.images)
+    THEN CASE WHEN JSON_TYPE(t.images) = 'ARRAY' THEN JSON_UNQUOTE(JSON_EXTRACT(t.images, '$[0]')) END
+  END,
+  t.status, t.user_id, u.username, t.created_at, t.updated_at
+FROM `lost_items` t JOIN `users` u ON t.user_id = u.id;
+
+INSERT IGNORE INTO `feed_entries`(entry_type, entry_id, title, summary, image, status, user_id, username, created_at, updated_at)
+SELECT 'found-items', t.id, t.title, LEFT(t.description, 200),
+  CASE WHEN JSON_VALID(t.images)
+    THEN CASE WHEN JSON_TYPE(t.images) = 'ARRAY' THEN JSON_UNQUOTE(JSON_EXTRACT(t.images, '$[0]')) END
+  END,
+  t.status, t.user_id, u.username, t.created_at, t.updated_at
+FROM `found_items` t JOIN `users` u ON t.user_id = u.id;
+
+INSERT IGNORE INTO `feed_entries`(entry_type, entry_id, title, summary, image, status, user_id, username, created_at, updated_at)
+SELECT 'posts', t.id, t.title, LEFT(t.content, 200), NULL, NULL, t.user_id, u.username, t.created_at, t.updated_at
+FROM `posts` t JOIN `users` u ON t.user_id = u.id;
+
+INSERT IGNORE INTO `feed_entries`(entry_type, entry_id, title, summary, image, status, user_id, username, created_at, updated_at)
+SELECT 'announcements', t.id, t.title, LEFT(t.content, 200), NULL, t.status, t.admin_id, u.username, t.created_at, t.updated_at
+FROM `announcements` t LEFT JOIN `users` u ON t.admin_id = u.id
+WHERE t.status = 'published';
@@ -0,0 +1,95 @@
+-- 按各Mapper查询的筛选条件和排序字段建立组合索引，使列表查询按索引顺序读取并在LIMIT处停止，避免filesort
+-- 被组合索引前缀覆盖的单列索引一并删除，减少写入时的索引维护
+
+-- ----------------------------
+-- 寻物启事 / 失物招领
+-- findAll/findAfterCursor: [category] [status] ORDER BY created_at DESC, id DESC
+-- findByUserId: user_id ORDER BY created_at DESC
+-- ----------------------------
+ALTER TABLE `lost_items`
+  ADD KEY `idx_category_status_created_at` (`category`, `status`, `created_at`, `id`),
+  ADD KEY `idx_category_created_at` (`category`, `created_at`, `id`),
+  ADD KEY `idx_status_created_at` (`status`, `created_at`, `id`),
+  ADD KEY `idx_user_id_created_at` (`user_id`, `created_at`),
+  DROP KEY `idx_category`,
+  DROP KEY `idx_status`,
+  DROP KEY `idx_user_id`;
+
+ALTER TABLE `found_items`
+  ADD KEY `idx_category_status_created_at` (`category`, `status`, `created_at`, `id`),
+  ADD KEY `idx_category_created_at` (`category`, `created_at`, `id`),
+  ADD KEY `idx_status_created_at` (`status`, `created_at`, `id`),
+  ADD KEY `idx_user_id_created_at` (`user_id`, `created_at`),
+  DROP KEY `idx_category`,
+  DROP KEY `idx_status`,
+  DROP KEY `idx_user_id`;
+
+-- ----------------------------
+-- 认领申请
+-- existsByFoundItemIdAndApplicantId(AndStatusIn): found_item_id + applicant_id + status
+-- findByFoundItemId: found_item_id ORDER BY created_at DESC
+-- findByApplicantId: applicant_id [status] ORDER BY created_at DESC
+-- findAllWithFilters（管理员）: [status] [created_at范围] ORDER BY created_at DESC
+-- ----------------------------
+ALTER TABLE `claim_applications`
+  ADD KEY `idx_found_item_applicant_status` (`found_item_id`, `applicant_id`, `status`),
+  ADD KEY `idx_found_item_created_at` (`found_item_id`, `created_at`),
+  ADD KEY `idx_applicant_created_at` (`applicant_id`, `created_at`),
+  ADD KEY `idx_status_created_at` (`status`, `created_at`),
+  ADD KEY `idx_created_at` (`created_at`),
+  DROP KEY `idx_found_item_id`,
+  DROP KEY `idx_applicant_id`,
+  DROP KEY `idx_status`;
+
+-- ----------------------------
+-- 评论
+-- findByItemIdAndType: item_id + item_type ORDER BY created_at DESC
+-- findByPostId: post_id ORDER BY created_at DESC
+-- findByUserId: user_id ORDER BY created_at DESC
+-- ----------------------------
+ALTER TABLE `item_comments`
+  ADD KEY `idx_item_type_created_at` (`item_id`, `item_type`, `created_at`),
+  ADD KEY `idx_user_id_created_at` (`user_id`, `created_at`),
+  DROP KEY `idx_item_id_type`,
+  DROP KEY `idx_user_id`;
+
+ALTER TABLE `post_comments`
+  ADD KEY `idx_post_id_created_at` (`post_id`, `created_at`),
+  ADD KEY `idx_user_id_created_at` (`user_id`, `created_at`),
+  DROP KEY `idx_post_id`,
+  DROP KEY `idx_user_id`;
+
+-- ----------------------------
+-- 论坛帖子
+-- findAllByOrderByCreatedAtDesc: ORDER BY created_at DESC
+-- findByUserId: user_id ORDER BY created_at DESC
+-- ----------------------------
+ALTER TABLE `posts`
+  ADD KEY `idx_created_at` (`created_at`),
+  ADD KEY `idx_user_id_created_at` (`user_id`, `created_at`),
+  DROP KEY `idx_user_id`;
+
+-- ----------------------------
+-- 公告，列表均按 updated_at 倒序
+-- findPublished: status = 'published'
+-- findByAdminId: admin_id
+-- findAll（管理员）: 无固定条件
+-- ----------------------------
+ALTER TABLE `announcements`
+  ADD KEY `idx_status_updated_at` (`status`, `updated_at`),
+  ADD KEY `idx_admin_id_updated_at` (`admin_id`, `updated_at`),
+  ADD KEY `idx_updated_at` (`updated_at`),
+  DROP KEY `idx_status`,
+  DROP KEY `idx_admin_id`;
+
+-- ----------------------------
+-- 举报，列表均按 created_at 倒序
+-- findByStatusAndReportType / findByStatus / findByReportType / findAll / findByReporterId
+-- ----------------------------
+ALTER TABLE `reports`
+  ADD KEY `idx_status_type_created_at` (`status`, `report_type`, `created_at`),
+  ADD KEY `idx_type_created_at` (`report_type`, `created_at`),
+  ADD KEY `idx_reporter_created_at` (`reporter_id`, `created_at`),
+  ADD KEY `idx_created_at` (`created_at`),
+  DROP KEY `idx_status`,
+  DROP KEY `idx_reporter_id`;
@@ -0,0 +1,14 @@
+-- 寻物启事与失物招领的自动匹配结果
+-- 物品发布/修改时由匹配服务在内存倒排索引中召回对侧候选并打分，每个物品保留得分最高的若干条
+-- 查询某一侧的匹配时按 (物品ID, score) 索引顺序读取
+
+CREATE TABLE IF NOT EXISTS `item_matches` (
+  `lost_item_id` bigint NOT NULL COMMENT '寻物启事ID',
+  `found_item_id` bigint NOT NULL COMMENT '失物招领ID',
+  `score` double NOT NULL COMMENT '匹配得分 0~1',
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `updated_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`lost_item_id`, `found_item_id`),
+  KEY `idx_lost_score` (`lost_item_id`, `score`),
+  KEY `idx_found_score` (`found_item_id`, `score`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='失物自动匹配结果';
@@ -0,0 +1,118 @@
+package com.community.lostandfound.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 列表热点查询执行计划回归测试
+ * 在MySQL容器中执行全部迁移，用压测种子脚本写入小规模数据后，逐条执行 db/explain_hot_queries.sql 中的EXPLAIN，
+ * 任一查询出现 Using filesort 或全表扫描（type = ALL）即失败。没有Docker时跳过。
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ExplainHotQueriesTest {
+
+    private static final Path EXPLAIN_SCRIPT = Path.of("..", "db", "explain_hot_queries.sql");
+    private static final Path SEED_SCRIPT = Path.of("..", "loadtest", "seed", "seed.sql");
+
+    // 数据量需足以让优化器按真实分布选择索引，同时控制在数十秒内写完
+    private static final String SEED_SCALE = "SET @users = 2000, @lost_items = 20000, @found_items = 20000, "
+            + "@claims = 5000, @item_comments = 20000, @posts = 5000, @post_comments = 10000, @reports = 5000;";
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("lost")
+            .withCopyFileToContainer(MountableFile.forHostPath(SEED_SCRIPT), "/seed.sql");
+
+    @BeforeAll
+    static void migrateAndSeed() throws Exception {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        // 种子脚本使用DELIMITER和存储过程，交给容器内的mysql客户端执行
+        ExecResult seeded = MYSQL.execInContainer("sh", "-c",
+                "{ echo '" + SEED_SCALE + "'; cat /seed.sql; } | mysql -uroot -p" + MYSQL.getPassword() + " lost");
+        assertThat(seeded.getExitCode()).as("种子数据写入失败: %s", seeded.getStderr()).isZero();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            // 种子脚本不生成公告
+            statement.executeUpdate("INSERT INTO announcements(title, content, admin_id, status, created_at, updated_at) "
+                    + "SELECT CONCAT('公告', u.id), '内容', 1 + u.id % 20, IF(u.id % 5 = 0, 'draft', 'published'), "
+                    + "NOW() - INTERVAL u.id HOUR, NOW() - INTERVAL u.id HOUR FROM users u WHERE u.id <= 500");
+            statement.execute("ANALYZE TABLE announcements");
+        }
+    }
+
+    @Test
+    void hotQueriesUseIndexesWithoutFilesort() throws Exception {
+        List<String> problems = new ArrayList<>();
+        List<String> queries = explainStatements();
+        assertThat(queries).isNotEmpty();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (String query : queries) {
+                try (ResultSet plan = statement.executeQuery(query)) {
+                    while (plan.next()) {
+                        String table = plan.getString("table");
+                        String type = plan.getString("type");
+                        String extra = plan.getString("Extra");
+                        if ("ALL".equals(type)) {
+                            problems.add("全表扫描 " + table + ": " + query);
+                        }
+                        if (extra != null && extra.contains("Using filesort")) {
+                            problems.add("filesort " + table + ": " + query);
+                        }
+                    }
+                }
+            }
+        }
+
+        assertThat(problems).as("执行计划退化").isEmpty();
+    }
+
+    /**
+     * 读取脚本中的EXPLAIN语句，忽略注释和USE语句
+     */
+    private static List<String> explainStatements() throws IOException {
+        StringBuilder sql = new StringBuilder();
+        for (String line : Files.readAllLines(EXPLAIN_SCRIPT, StandardCharsets.UTF_8)) {
+            if (!line.trim().startsWith("--")) {
+                sql.append(line).append('\n');
+            }
+        }
+        List<String> statements = new ArrayList<>();
+        for (String statement : sql.toString().split(";")) {
+            String trimmed = statement.trim();
+            if (trimmed.toUpperCase().startsWith("EXPLAIN")) {
+                statements.add(trimmed);
+            }
+        }
+        return statements;
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+    }
+}
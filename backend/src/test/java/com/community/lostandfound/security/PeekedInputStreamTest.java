@@ -0,0 +1,127 @@
+package com.community.lostandfound.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 限流过滤器预读请求体后的输入流测试
+ */
+class PeekedInputStreamTest {
+
+    /**
+     * 模拟容器的输入流，记录注册的ReadListener
+     */
+    private static class FakeInputStream extends ServletInputStream {
+        private final ByteArrayInputStream data;
+        private ReadListener listener;
+
+        private FakeInputStream(String data) {
+            this.data = new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int read() {
+            return data.read();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return data.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            this.listener = readListener;
+        }
+    }
+
+    private static RateLimitFilter.PeekedInputStream peeked(String head, FakeInputStream rest) {
+        return new RateLimitFilter.PeekedInputStream(head.getBytes(StandardCharsets.UTF_8), rest);
+    }
+
+    /**
+     * 按ReadListener约定读取：isReady为true时读取，直到读完
+     */
+    private static class CollectingListener implements ReadListener {
+        private final ServletInputStream input;
+        private final ByteArrayOutputStream collected = new ByteArrayOutputStream();
+        private boolean allDataRead;
+
+        private CollectingListener(ServletInputStream input) {
+            this.input = input;
+        }
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            byte[] buffer = new byte[4];
+            while (input.isReady() && !input.isFinished()) {
+                int n = input.read(buffer);
+                if (n < 0) {
+                    break;
+                }
+                collected.write(buffer, 0, n);
+            }
+        }
+
+        @Override
+        public void onAllDataRead() {
+            allDataRead = true;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            throw new AssertionError(t);
+        }
+    }
+
+    @Test
+    void readsPeekedPrefixThenOriginalStream() throws IOException {
+        FakeInputStream rest = new FakeInputStream("\"secret\"}");
+        RateLimitFilter.PeekedInputStream input = peeked("{\"password\":", rest);
+
+        assertThat(input.isFinished()).isFalse();
+        assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"password\":\"secret\"}");
+        assertThat(input.isFinished()).isTrue();
+    }
+
+    @Test
+    void readListenerSeesPrefixWhenOriginalHasMoreData() throws IOException {
+        FakeInputStream rest = new FakeInputStream("world");
+        RateLimitFilter.PeekedInputStream input = peeked("hello ", rest);
+        CollectingListener listener = new CollectingListener(input);
+
+        input.setReadListener(listener);
+        rest.listener.onDataAvailable();
+        rest.listener.onAllDataRead();
+
+        assertThat(listener.collected.toString(StandardCharsets.UTF_8)).isEqualTo("hello world");
+        assertThat(listener.allDataRead).isTrue();
+    }
+
+    @Test
+    void readListenerSeesPrefixWhenOriginalIsAlreadyDrained() throws IOException {
+        FakeInputStream rest = new FakeInputStream("");
+        RateLimitFilter.PeekedInputStream input = peeked("{\"username\":\"alice\"}", rest);
+        CollectingListener listener = new CollectingListener(input);
+
+        input.setReadListener(listener);
+        // 原始流已读完，容器只回调onAllDataRead
+        rest.listener.onAllDataRead();
+
+        assertThat(listener.collected.toString(StandardCharsets.UTF_8)).isEqualTo("{\"username\":\"alice\"}");
+        assertThat(listener.allDataRead).isTrue();
+    }
+}
@@ -0,0 +1,120 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.dto.claim.ClaimApplicationDto;
+import com.community.lostandfound.dto.claim.ClaimRequestDto;
+import com.community.lostandfound.entity.ClaimApplication;
+import com.community.lostandfound.entity.FoundItem;
+import com.community.lostandfound.exception.BadRequestException;
+import com.community.lostandfound.repository.ClaimApplicationRepository;
+import com.community.lostandfound.repository.FoundItemRepository;
+import com.community.lostandfound.service.CountService;
+import com.community.lostandfound.service.FoundItemService;
+import com.community.lostandfound.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 认领申请服务测试：失物招领状态必须从数据库读取，并经过失物招领服务的缓存和动态钩子
+ */
+@ExtendWith(MockitoExtension.class)
+class ClaimApplicationServiceImplTest {
+
+    private static final long FOUND_ITEM_ID = 1L;
+    private static final long OWNER_ID = 7L;
+    private static final long APPLICANT_ID = 8L;
+    private static final long APPLICATION_ID = 100L;
+
+    @Mock private ClaimApplicationRepository claimApplicationRepository;
+    @Mock private FoundItemRepository foundItemRepository;
+    @Mock private FoundItemService foundItemService;
+    @Mock private CountService countService;
+    @Mock private NotificationService notificationService;
+
+    private ClaimApplicationServiceImpl service;
+
+    /**
+     * 模拟数据库中的失物招领记录
+     */
+    private FoundItem row;
+
+    @BeforeEach
+    void setUp() {
+        service = new ClaimApplicationServiceImpl(claimApplicationRepository, foundItemRepository, foundItemService,
+                countService, notificationService);
+
+        row = new FoundItem();
+        row.setId(FOUND_ITEM_ID);
+        row.setUserId(OWNER_ID);
+        row.setTitle("黑色钱包");
+        row.setStatus("pending");
+        when(foundItemRepository.findById(FOUND_ITEM_ID)).thenReturn(Optional.of(row));
+        // 失物招领服务更新的是数据库中的记录
+        when(foundItemService.updateClaimStatus(anyLong(), any())).thenAnswer(invocation -> {
+            row.setStatus(invocation.getArgument(1));
+            return row;
+        });
+    }
+
+    private ClaimApplication createApplication() {
+        ClaimApplication[] saved = new ClaimApplication[1];
+        when(claimApplicationRepository.save(any())).thenAnswer(invocation -> {
+            saved[0] = invocation.getArgument(0);
+            saved[0].setId(APPLICATION_ID);
+            return 1;
+        });
+        when(claimApplicationRepository.findById(APPLICATION_ID)).thenAnswer(invocation -> saved[0]);
+
+        ClaimRequestDto request = new ClaimRequestDto();
+        request.setDescription("钱包里有一张学生证");
+        service.createClaimApplication(FOUND_ITEM_ID, request, APPLICANT_ID);
+        return saved[0];
+    }
+
+    @Test
+    void createThenApproveSeesProcessingStatus() {
+        createApplication();
+        verify(foundItemService).updateClaimStatus(FOUND_ITEM_ID, "processing");
+
+        ClaimApplicationDto approved = service.approveClaimApplication(APPLICATION_ID, OWNER_ID);
+
+        assertThat(approved.getStatus()).isEqualTo("approved");
+        assertThat(row.getStatus()).isEqualTo("claimed");
+        verify(foundItemService).updateClaimStatus(FOUND_ITEM_ID, "claimed");
+        // 写路径不读取缓存，也不绕过失物招领服务直接整行更新
+        verify(foundItemService, never()).getFoundItemById(anyLong());
+        verify(foundItemRepository, never()).update(any());
+    }
+
+    @Test
+    void secondClaimantIsRejectedWhileFirstIsProcessing() {
+        createApplication();
+
+        ClaimRequestDto request = new ClaimRequestDto();
+        request.setDescription("这是我的钱包");
+        assertThatThrownBy(() -> service.createClaimApplication(FOUND_ITEM_ID, request, 9L))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectReturnsFoundItemToPending() {
+        createApplication();
+
+        service.rejectClaimApplication(APPLICATION_ID, OWNER_ID);
+
+        assertThat(row.getStatus()).isEqualTo("pending");
+        verify(foundItemService).updateClaimStatus(FOUND_ITEM_ID, "pending");
+    }
+}
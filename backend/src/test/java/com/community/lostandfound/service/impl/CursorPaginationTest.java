@@ -0,0 +1,124 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.entity.FoundItem;
+import com.community.lostandfound.exception.BadRequestException;
+import com.community.lostandfound.repository.FoundItemRepository;
+import com.community.lostandfound.service.CountService;
+import com.community.lostandfound.service.FeedService;
+import com.community.lostandfound.service.FileReferenceService;
+import com.community.lostandfound.service.ImageProcessingService;
+import com.community.lostandfound.service.ItemCacheService;
+import com.community.lostandfound.service.MatchingService;
+import com.community.lostandfound.service.SearchService;
+import com.community.lostandfound.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 物品列表游标分页测试：游标编解码和翻页
+ */
+@ExtendWith(MockitoExtension.class)
+class CursorPaginationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+
+    @Mock private FoundItemRepository foundItemRepository;
+    @Mock private UserService userService;
+    @Mock private ItemCacheService itemCacheService;
+    @Mock private SearchService searchService;
+    @Mock private ImageProcessingService imageProcessingService;
+    @Mock private FileReferenceService fileReferenceService;
+    @Mock private FeedService feedService;
+    @Mock private CountService countService;
+    @Mock private MatchingService matchingService;
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void cursorRoundTrips() {
+        String cursor = BaseItemServiceImpl.encodeCursor(BASE.withNano(123_000_000), 42L);
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(BaseItemServiceImpl.decodeCursor(cursor)).containsExactly("2024-05-01T12:30:15.123", "42");
+    }
+
+    @Test
+    void malformedCursorsAreBadRequests() {
+        for (String cursor : List.of("%%%", base64("2024-05-01T12:30:15"), base64("not-a-date|1"),
+                base64("2024-05-01T12:30:15|abc"), base64("2024-05-01T12:30:15|1|2"))) {
+            assertThatThrownBy(() -> BaseItemServiceImpl.decodeCursor(cursor))
+                    .as(cursor)
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void nextPageStartsAfterLastItemOfPreviousPage() {
+        FoundItemServiceImpl service = new FoundItemServiceImpl(foundItemRepository, userService, itemCacheService,
+                searchService, imageProcessingService, fileReferenceService, feedService, countService, matchingService);
+        when(itemCacheService.getPage(eq("found-items"), anyString(), eq(FoundItem.class), any()))
+                .thenAnswer(invocation -> ((Supplier<Map<String, Object>>) invocation.getArgument(3)).get());
+
+        List<FoundItem> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            FoundItem item = new FoundItem();
+            item.setId(30L - i);
+            item.setCreatedAt(BASE.minusMinutes(i));
+            rows.add(item);
+        }
+        when(foundItemRepository.findAfterCursor(null, "pending", null, null, 3)).thenReturn(rows);
+
+        Map<String, Object> first = service.getItemsByCursor(null, "pending", null, null, 2);
+        assertThat((List<FoundItem>) first.get("items")).extracting(FoundItem::getId).containsExactly(30L, 29L);
+        assertThat(first.get("hasMore")).isEqualTo(true);
+
+        when(foundItemRepository.findAfterCursor(null, "pending", BASE.minusMinutes(1), 29L, 3))
+                .thenReturn(rows.subList(2, 3));
+        Map<String, Object> second = service.getItemsByCursor(null, "pending", null, (String) first.get("nextCursor"), 2);
+        assertThat((List<FoundItem>) second.get("items")).extracting(FoundItem::getId).containsExactly(28L);
+        assertThat(second.get("hasMore")).isEqualTo(false);
+        assertThat(second.get("nextCursor")).isNull();
+    }
+
+    @Test
+    void keywordWithCursorIsRejected() {
+        FoundItemServiceImpl service = new FoundItemServiceImpl(foundItemRepository, userService, itemCacheService,
+                searchService, imageProcessingService, fileReferenceService, feedService, countService, matchingService);
+
+        // 关键词搜索按相关度排序，只能走搜索服务的页码分页
+        assertThatThrownBy(() -> service.getItemsByCursor(null, null, "钱包", "", 10))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(foundItemRepository, itemCacheService, searchService);
+    }
+
+    @Test
+    void invalidCursorIsRejectedBeforeQuerying() {
+        FoundItemServiceImpl service = new FoundItemServiceImpl(foundItemRepository, userService, itemCacheService,
+                searchService, imageProcessingService, fileReferenceService, feedService, countService, matchingService);
+
+        assertThatThrownBy(() -> service.getItemsByCursor(null, null, null, "bm9wZQ", 10))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(foundItemRepository, itemCacheService);
+    }
+}
@@ -0,0 +1,129 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.entity.FeedEntry;
+import com.community.lostandfound.exception.BadRequestException;
+import com.community.lostandfound.repository.FeedRepository;
+import com.community.lostandfound.service.FeedService;
+import com.community.lostandfound.service.ImageProcessingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 首页动态游标分页与校对测试
+ */
+@ExtendWith(MockitoExtension.class)
+class FeedServiceImplTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 12, 0);
+    private static final List<String> TYPES = List.of(FeedService.LOST_ITEMS, FeedService.POSTS);
+
+    @Mock private FeedRepository feedRepository;
+    @Mock private ImageProcessingService imageProcessingService;
+
+    private FeedServiceImpl feedService;
+
+    @BeforeEach
+    void setUp() {
+        feedService = new FeedServiceImpl(feedRepository, imageProcessingService);
+    }
+
+    private static List<FeedEntry> entries(int count) {
+        List<FeedEntry> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entries.add(FeedEntry.builder()
+                    .id(100L - i)
+                    .entryType(FeedService.POSTS)
+                    .entryId((long) i)
+                    .title("帖子" + i)
+                    .createdAt(BASE.minusMinutes(i))
+                    .build());
+        }
+        return entries;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void firstPageFetchesOneExtraRowAndReturnsCursorOfLastEntry() {
+        when(feedRepository.findAfterCursor(TYPES, null, null, 4)).thenReturn(entries(4));
+
+        Map<String, Object> page = feedService.getFeed(TYPES, null, 3);
+
+        List<FeedEntry> items = (List<FeedEntry>) page.get("items");
+        assertThat(items).extracting(FeedEntry::getId).containsExactly(100L, 99L, 98L);
+        assertThat(page.get("hasMore")).isEqualTo(true);
+        assertThat(page.get("nextCursor")).isEqualTo(BaseItemServiceImpl.encodeCursor(BASE.minusMinutes(2), 98L));
+    }
+
+    @Test
+    void nextPageContinuesAfterCursor() {
+        String cursor = BaseItemServiceImpl.encodeCursor(BASE.minusMinutes(2), 98L);
+        when(feedRepository.findAfterCursor(TYPES, BASE.minusMinutes(2), 98L, 4)).thenReturn(entries(2));
+
+        Map<String, Object> page = feedService.getFeed(TYPES, cursor, 3);
+
+        assertThat(page.get("hasMore")).isEqualTo(false);
+        assertThat(page.get("nextCursor")).isNull();
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        when(feedRepository.findAfterCursor(any(), isNull(), isNull(), anyInt())).thenReturn(List.of());
+
+        assertThat(feedService.getFeed(TYPES, null, 0).get("pageSize")).isEqualTo(10);
+        assertThat(feedService.getFeed(TYPES, "", 500).get("pageSize")).isEqualTo(50);
+        verify(feedRepository).findAfterCursor(TYPES, null, null, 11);
+        verify(feedRepository).findAfterCursor(TYPES, null, null, 51);
+    }
+
+    @Test
+    void malformedCursorIsRejectedBeforeQuerying() {
+        assertThatThrownBy(() -> feedService.getFeed(TYPES, "not-a-cursor", 10))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(feedRepository);
+    }
+
+    @Test
+    void coverImagesUseThumbnailsWhenAvailable() {
+        List<FeedEntry> found = entries(2);
+        found.get(0).setImage("/api/uploads/items/a.jpg");
+        found.get(1).setImage("/api/uploads/items/b.jpg");
+        when(feedRepository.findAfterCursor(eq(TYPES), isNull(), isNull(), anyInt())).thenReturn(found);
+        when(imageProcessingService.getThumbnailUrls(List.of("/api/uploads/items/a.jpg", "/api/uploads/items/b.jpg")))
+                .thenReturn(Map.of("/api/uploads/items/a.jpg", "/api/uploads/items/variants/a_thumb.jpg"));
+
+        feedService.getFeed(TYPES, null, 10);
+
+        assertThat(found.get(0).getThumbnail()).isEqualTo("/api/uploads/items/variants/a_thumb.jpg");
+        assertThat(found.get(1).getThumbnail()).isEqualTo("/api/uploads/items/b.jpg");
+    }
+
+    @Test
+    void reconcileAlsoRepairsStaleEntries() {
+        when(feedRepository.deleteDangling()).thenReturn(1);
+        when(feedRepository.insertMissingLostItems()).thenReturn(2);
+        when(feedRepository.updateStaleLostItems()).thenReturn(3);
+        when(feedRepository.updateStaleFoundItems()).thenReturn(4);
+
+        assertThat(feedService.reconcile()).isEqualTo(10);
+        verify(feedRepository).updateStalePosts();
+        verify(feedRepository).updateStaleAnnouncements();
+    }
+}
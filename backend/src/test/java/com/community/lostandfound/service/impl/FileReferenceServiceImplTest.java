@@ -0,0 +1,90 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.repository.FileReferenceRepository;
+import com.community.lostandfound.service.FileReferenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 文件引用记录测试：回收任务只删除没有引用的文件，引用记录必须随引用方的写操作同步
+ */
+@ExtendWith(MockitoExtension.class)
+class FileReferenceServiceImplTest {
+
+    private static final String DIGEST_A = "a".repeat(64);
+    private static final String DIGEST_B = "0123456789abcdef".repeat(4);
+
+    @Mock private FileReferenceRepository fileReferenceRepository;
+
+    private FileReferenceServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FileReferenceServiceImpl(fileReferenceRepository);
+    }
+
+    @Test
+    void extractsDigestFromContentAddressedUrls() {
+        assertThat(FileReferenceServiceImpl.extractDigest("http://host/api/uploads/items/" + DIGEST_A + ".jpg"))
+                .isEqualTo(DIGEST_A);
+        assertThat(FileReferenceServiceImpl.extractDigest("https://bucket.s3/uploads/items/" + DIGEST_B
+                + ".png?X-Amz-Signature=abc")).isEqualTo(DIGEST_B);
+        assertThat(FileReferenceServiceImpl.extractDigest("/api/uploads/avatars/avatar_1_123.jpg")).isNull();
+        assertThat(FileReferenceServiceImpl.extractDigest(null)).isNull();
+    }
+
+    @Test
+    void replaceReferencesDeletesOldRowsBeforeInserting() {
+        service.replaceReferences("lost-items", 3L, Arrays.asList(
+                "/api/uploads/items/" + DIGEST_A + ".jpg",
+                "/api/uploads/items/" + DIGEST_A + ".jpg",
+                "/api/uploads/items/legacy.jpg",
+                null));
+
+        var order = inOrder(fileReferenceRepository);
+        order.verify(fileReferenceRepository).deleteByOwner("lost-items", 3L);
+        order.verify(fileReferenceRepository).insertForExistingBlobs("lost-items", 3L, Set.of(DIGEST_A));
+    }
+
+    @Test
+    void replaceReferencesWithoutImagesOnlyClearsOwner() {
+        service.replaceReferences(FileReferenceService.AVATAR, 5L, List.of());
+
+        verify(fileReferenceRepository).deleteByOwner(FileReferenceService.AVATAR, 5L);
+        verify(fileReferenceRepository, never()).insertForExistingBlobs(anyString(), anyLong(), any());
+    }
+
+    @Test
+    void unsavedOwnerIsIgnored() {
+        service.replaceReferences("found-items", null, List.of("/api/uploads/items/" + DIGEST_A + ".jpg"));
+        service.removeReferences("found-items", null);
+
+        verifyNoInteractions(fileReferenceRepository);
+    }
+
+    @Test
+    void pruneChecksEveryOwnerTable() {
+        when(fileReferenceRepository.deleteDangling("lost-items", "lost_items")).thenReturn(2);
+        when(fileReferenceRepository.deleteDangling("found-items", "found_items")).thenReturn(1);
+        when(fileReferenceRepository.deleteDangling(FileReferenceService.AVATAR, "users")).thenReturn(0);
+
+        assertThat(service.pruneDanglingReferences()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,165 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.entity.FoundItem;
+import com.community.lostandfound.repository.FoundItemRepository;
+import com.community.lostandfound.service.CountService;
+import com.community.lostandfound.service.FeedService;
+import com.community.lostandfound.service.FileReferenceService;
+import com.community.lostandfound.service.ImageProcessingService;
+import com.community.lostandfound.service.ItemCacheService;
+import com.community.lostandfound.service.MatchingService;
+import com.community.lostandfound.service.SearchService;
+import com.community.lostandfound.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 失物招领服务测试：旧版写接口必须经过基类的图片引用、首页动态、匹配索引和缓存钩子
+ */
+@ExtendWith(MockitoExtension.class)
+class FoundItemServiceImplTest {
+
+    private static final String REGION = "found-items";
+    private static final long OWNER_ID = 7L;
+
+    @Mock private FoundItemRepository foundItemRepository;
+    @Mock private UserService userService;
+    @Mock private ItemCacheService itemCacheService;
+    @Mock private SearchService searchService;
+    @Mock private ImageProcessingService imageProcessingService;
+    @Mock private FileReferenceService fileReferenceService;
+    @Mock private FeedService feedService;
+    @Mock private CountService countService;
+    @Mock private MatchingService matchingService;
+
+    private FoundItemServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FoundItemServiceImpl(foundItemRepository, userService, itemCacheService, searchService,
+                imageProcessingService, fileReferenceService, feedService, countService, matchingService);
+    }
+
+    private FoundItem existingItem() {
+        FoundItem item = new FoundItem();
+        item.setId(1L);
+        item.setUserId(OWNER_ID);
+        item.setTitle("黑色钱包");
+        item.setStatus("pending");
+        item.setImages("[\"/api/uploads/a.jpg\"]");
+        return item;
+    }
+
+    @Test
+    void updateFoundItemReplacesReferencesAndEvictsCache() {
+        when(foundItemRepository.findById(1L)).thenReturn(Optional.of(existingItem()));
+
+        FoundItem changes = existingItem();
+        changes.setImages("[\"/api/uploads/b.jpg\"]");
+        FoundItem updated = service.updateFoundItem(changes, OWNER_ID);
+
+        verify(foundItemRepository).update(updated);
+        verify(fileReferenceService).replaceReferences(REGION, 1L, List.of("/api/uploads/b.jpg"));
+        verify(feedService).publishItem(REGION, updated);
+        verify(matchingService).indexItem(REGION, updated);
+        verify(itemCacheService).evictItem(REGION, 1L);
+    }
+
+    @Test
+    void updateFoundItemKeepsExistingStatusWhenInvalid() {
+        when(foundItemRepository.findById(1L)).thenReturn(Optional.of(existingItem()));
+
+        FoundItem changes = existingItem();
+        changes.setStatus("unknown");
+        FoundItem updated = service.updateFoundItem(changes, OWNER_ID);
+
+        assertThat(updated.getStatus()).isEqualTo("pending");
+    }
+
+    @Test
+    void updateFoundItemStatusPublishesAndEvicts() {
+        when(foundItemRepository.findById(1L)).thenReturn(Optional.of(existingItem()));
+
+        FoundItem updated = service.updateFoundItemStatus(1L, "claimed", OWNER_ID);
+
+        assertThat(updated.getStatus()).isEqualTo("claimed");
+        verify(feedService).publishItem(REGION, updated);
+        verify(matchingService).indexItem(REGION, updated);
+        verify(itemCacheService).evictItem(REGION, 1L);
+    }
+
+    @Test
+    void claimStatusChangeReadsDatabaseAndEvicts() {
+        when(foundItemRepository.findById(1L)).thenReturn(Optional.of(existingItem()));
+
+        FoundItem updated = service.updateClaimStatus(1L, "processing");
+
+        assertThat(updated.getStatus()).isEqualTo("processing");
+        verify(foundItemRepository).update(updated);
+        verify(feedService).publishItem(REGION, updated);
+        verify(matchingService).indexItem(REGION, updated);
+        verify(itemCacheService).evictItem(REGION, 1L);
+        verify(itemCacheService, never()).getItem(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    void updateFoundItemStatusRejectsUnknownStatus() {
+        assertThatThrownBy(() -> service.updateFoundItemStatus(1L, "lost", OWNER_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(foundItemRepository);
+    }
+
+    @Test
+    void deleteFoundItemRemovesReferencesFeedAndIndex() {
+        when(foundItemRepository.findById(1L)).thenReturn(Optional.of(existingItem()));
+
+        service.deleteFoundItem(1L, OWNER_ID);
+
+        verify(foundItemRepository).deleteById(1L);
+        verify(fileReferenceService).removeReferences(REGION, 1L);
+        verify(feedService).remove(REGION, 1L);
+        verify(matchingService).removeItem(REGION, 1L);
+        verify(itemCacheService).evictItem(REGION, 1L);
+    }
+
+    @Test
+    void deleteFoundItemFailureIsNotReportedAsSuccess() {
+        when(foundItemRepository.findById(1L)).thenReturn(Optional.of(existingItem()));
+        doThrow(new IllegalStateException("lock wait timeout")).when(foundItemRepository).deleteById(1L);
+
+        assertThatThrownBy(() -> service.deleteFoundItem(1L, OWNER_ID))
+                .isInstanceOf(IllegalStateException.class);
+        verify(fileReferenceService, never()).removeReferences(any(), anyLong());
+        verify(itemCacheService, never()).evictItem(eq(REGION), anyLong());
+    }
+
+    @Test
+    void deleteFoundItemByOtherUserIsRejected() {
+        when(foundItemRepository.findById(1L)).thenReturn(Optional.of(existingItem()));
+
+        // 旧版接口只允许发布者删除，管理员也不例外
+        assertThatThrownBy(() -> service.deleteFoundItem(1L, 99L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userService);
+        verify(foundItemRepository, never()).deleteById(anyLong());
+        verify(fileReferenceService, never()).removeReferences(any(), anyLong());
+        verify(itemCacheService, never()).evictItem(eq(REGION), anyLong());
+    }
+}
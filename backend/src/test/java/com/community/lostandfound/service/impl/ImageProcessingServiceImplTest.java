@@ -0,0 +1,92 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.entity.ImageVariant;
+import com.community.lostandfound.repository.ImageVariantRepository;
+import com.community.lostandfound.service.FileStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 图片变体生成测试：像素上限与采样解码
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageProcessingServiceImplTest {
+
+    private static final String PATH = "uploads/items/photo.png";
+
+    @Mock private FileStorageService fileStorageService;
+    @Mock private ImageVariantRepository imageVariantRepository;
+
+    private ImageProcessingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImageProcessingServiceImpl(fileStorageService, imageVariantRepository);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "thumbnailWidth", 320);
+        ReflectionTestUtils.setField(service, "mediumWidth", 1024);
+        ReflectionTestUtils.setField(service, "jpegQuality", 0.8f);
+        ReflectionTestUtils.setField(service, "maxPixels", 4_000_000L);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+        return output.toByteArray();
+    }
+
+    @Test
+    void imageAboveMaxPixelsIsNotDecoded() throws IOException {
+        when(fileStorageService.loadFile(PATH)).thenReturn(new ByteArrayInputStream(png(4000, 1001)));
+
+        service.processImageAsync(PATH);
+
+        verify(fileStorageService, never()).storeFile(any(InputStream.class), anyString(), anyString());
+        verify(imageVariantRepository, never()).save(any());
+    }
+
+    @Test
+    void largeImageIsSubsampledAndStillProducesBothVariants() throws IOException {
+        when(fileStorageService.loadFile(PATH)).thenReturn(new ByteArrayInputStream(png(3000, 1000)));
+        when(fileStorageService.storeFile(any(InputStream.class), anyString(), anyString()))
+                .thenAnswer(invocation -> "uploads/items/variants/" + invocation.getArgument(1));
+
+        service.processImageAsync(PATH);
+
+        ArgumentCaptor<ImageVariant> variants = ArgumentCaptor.forClass(ImageVariant.class);
+        verify(imageVariantRepository, times(2)).save(variants.capture());
+        List<ImageVariant> saved = variants.getAllValues();
+        assertThat(saved).extracting(ImageVariant::getVariant).containsExactly("thumb", "medium");
+        assertThat(saved).extracting(ImageVariant::getWidth).containsExactly(320, 1024);
+    }
+
+    @Test
+    void smallImageKeepsOriginal() throws IOException {
+        when(fileStorageService.loadFile(PATH)).thenReturn(new ByteArrayInputStream(png(200, 100)));
+
+        service.processImageAsync(PATH);
+
+        verify(imageVariantRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,62 @@
+package com.community.lostandfound.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 本地令牌桶限流测试
+ */
+class LocalRateLimiterServiceImplTest {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    @Test
+    void allowsBurstUpToCapacityThenReportsWait() {
+        LocalRateLimiterServiceImpl limiter = new LocalRateLimiterServiceImpl(100);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("auth:ip:1.2.3.4", 5, HOUR)).isZero();
+        }
+        // 每个令牌恢复需要 1小时 / 5 = 12分钟
+        long wait = limiter.tryAcquire("auth:ip:1.2.3.4", 5, HOUR);
+        assertThat(wait).isBetween(Duration.ofMinutes(11).toMillis(), Duration.ofMinutes(12).toMillis());
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        LocalRateLimiterServiceImpl limiter = new LocalRateLimiterServiceImpl(100);
+
+        assertThat(limiter.tryAcquire("auth:user:alice", 1, HOUR)).isZero();
+        assertThat(limiter.tryAcquire("auth:user:alice", 1, HOUR)).isPositive();
+        assertThat(limiter.tryAcquire("auth:user:bob", 1, HOUR)).isZero();
+    }
+
+    @Test
+    void tokensRefillOverTime() throws InterruptedException {
+        LocalRateLimiterServiceImpl limiter = new LocalRateLimiterServiceImpl(100);
+        Duration period = Duration.ofMillis(100);
+
+        assertThat(limiter.tryAcquire("api:ip:1", 2, period)).isZero();
+        assertThat(limiter.tryAcquire("api:ip:1", 2, period)).isZero();
+        assertThat(limiter.tryAcquire("api:ip:1", 2, period)).isPositive();
+
+        Thread.sleep(150);
+        assertThat(limiter.tryAcquire("api:ip:1", 2, period)).isZero();
+    }
+
+    @Test
+    void exceedingMaxSizeDropsOnlyFullBucketsFirst() throws InterruptedException {
+        LocalRateLimiterServiceImpl limiter = new LocalRateLimiterServiceImpl(2);
+
+        // 用完令牌的桶不能因为桶数量超限被移除，否则相当于重置了限流
+        assertThat(limiter.tryAcquire("drained", 1, HOUR)).isZero();
+        assertThat(limiter.tryAcquire("refilled", 1, Duration.ofMillis(1))).isZero();
+        Thread.sleep(10);
+        assertThat(limiter.tryAcquire("third", 2, HOUR)).isZero();
+
+        assertThat(limiter.tryAcquire("drained", 1, HOUR)).isPositive();
+    }
+}
@@ -0,0 +1,175 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.entity.FoundItem;
+import com.community.lostandfound.entity.ItemMatch;
+import com.community.lostandfound.entity.LostItem;
+import com.community.lostandfound.repository.ItemMatchRepository;
+import com.community.lostandfound.service.MatchingService;
+import com.community.lostandfound.service.NotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 失物匹配打分与索引重建测试
+ */
+@ExtendWith(MockitoExtension.class)
+class MatchingServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().withNano(0);
+
+    @Mock private ItemMatchRepository itemMatchRepository;
+    @Mock private NotificationService notificationService;
+
+    private MatchingServiceImpl matchingService;
+
+    @BeforeEach
+    void setUp() {
+        matchingService = new MatchingServiceImpl(itemMatchRepository, notificationService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(matchingService, "enabled", true);
+        ReflectionTestUtils.setField(matchingService, "window", Duration.ofDays(30));
+        ReflectionTestUtils.setField(matchingService, "topK", 10);
+        ReflectionTestUtils.setField(matchingService, "minScore", 0.2);
+        ReflectionTestUtils.setField(matchingService, "maxCandidates", 500);
+        ReflectionTestUtils.setField(matchingService, "maxPostingSize", 5000);
+    }
+
+    private static LostItem lost(long id, String title, String category, String location, LocalDateTime date) {
+        LostItem item = new LostItem();
+        item.setId(id);
+        item.setUserId(100 + id);
+        item.setTitle(title);
+        item.setCategory(category);
+        item.setLostLocation(location);
+        item.setLostDate(date);
+        item.setStatus("pending");
+        return item;
+    }
+
+    private static FoundItem found(long id, String title, String category, String location, LocalDateTime date) {
+        FoundItem item = new FoundItem();
+        item.setId(id);
+        item.setUserId(200 + id);
+        item.setTitle(title);
+        item.setCategory(category);
+        item.setFoundLocation(location);
+        item.setFoundDate(date);
+        item.setStatus("pending");
+        return item;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ItemMatch> savedMatches() {
+        ArgumentCaptor<List<ItemMatch>> captor = ArgumentCaptor.forClass(List.class);
+        verify(itemMatchRepository).upsertBatch(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void tokenizeSplitsChineseIntoBigramsAndKeepsWords() {
+        assertThat(ItemMatchIndex.tokenize("黑色钱包 iPhone13，Ａ"))
+                .containsExactly("黑色", "色钱", "钱包", "iphone13");
+        assertThat(ItemMatchIndex.tokenize("伞")).containsExactly("伞");
+        assertThat(ItemMatchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void similarFoundItemMatchesAndNotifiesLostItemOwner() {
+        matchingService.indexItem(MatchingService.LOST_ITEMS,
+                lost(1, "黑色皮质钱包", "钱包", "3号楼电梯", NOW.minusDays(2)));
+        matchingService.indexItem(MatchingService.LOST_ITEMS,
+                lost(2, "蓝色雨伞", "其他", "小区东门", NOW.minusDays(2)));
+
+        matchingService.indexItem(MatchingService.FOUND_ITEMS,
+                found(10, "捡到黑色钱包", "钱包", "3号楼电梯口", NOW.minusDays(1)));
+
+        List<ItemMatch> matches = savedMatches();
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).getLostItemId()).isEqualTo(1L);
+        assertThat(matches.get(0).getFoundItemId()).isEqualTo(10L);
+        assertThat(matches.get(0).getScore()).isBetween(0.2, 1.0);
+        verify(itemMatchRepository).pruneLostItem(1L, 10);
+        verify(notificationService).notifyUser(eq(101L), eq(NotificationService.MATCH_FOUND), anyString(), anyString(), anyMap());
+    }
+
+    @Test
+    void closerItemScoresHigher() {
+        matchingService.indexItem(MatchingService.FOUND_ITEMS,
+                found(10, "黑色钱包", "钱包", "3号楼电梯", NOW.minusDays(1)));
+        matchingService.indexItem(MatchingService.FOUND_ITEMS,
+                found(11, "黑色钱包", "钱包", "地下车库", NOW.minusDays(1).plusDays(20)));
+
+        matchingService.indexItem(MatchingService.LOST_ITEMS,
+                lost(1, "黑色钱包", "钱包", "3号楼电梯", NOW.minusDays(2)));
+
+        List<ItemMatch> matches = savedMatches();
+        assertThat(matches).extracting(ItemMatch::getFoundItemId).containsExactly(10L, 11L);
+        assertThat(matches.get(0).getScore()).isGreaterThan(matches.get(1).getScore());
+    }
+
+    @Test
+    void differentCategoryOrFoundBeforeLostIsNotMatched() {
+        matchingService.indexItem(MatchingService.FOUND_ITEMS,
+                found(10, "黑色钱包", "证件", "3号楼电梯", NOW.minusDays(1)));
+        matchingService.indexItem(MatchingService.FOUND_ITEMS,
+                found(11, "黑色钱包", "钱包", "3号楼电梯", NOW.minusDays(10)));
+
+        matchingService.indexItem(MatchingService.LOST_ITEMS,
+                lost(1, "黑色钱包", "钱包", "3号楼电梯", NOW.minusDays(2)));
+
+        verify(itemMatchRepository, never()).upsertBatch(any());
+    }
+
+    @Test
+    void closedItemIsRemovedFromIndex() {
+        LostItem item = lost(1, "黑色钱包", "钱包", "3号楼电梯", NOW.minusDays(2));
+        matchingService.indexItem(MatchingService.LOST_ITEMS, item);
+        item.setStatus("closed");
+        matchingService.indexItem(MatchingService.LOST_ITEMS, item);
+
+        matchingService.indexItem(MatchingService.FOUND_ITEMS,
+                found(10, "黑色钱包", "钱包", "3号楼电梯", NOW.minusDays(1)));
+
+        verify(itemMatchRepository, never()).upsertBatch(any());
+    }
+
+    @Test
+    void rebuildRescoresItemsWrittenByOtherInstances() {
+        LostItem lostItem = lost(1, "黑色钱包", "钱包", "3号楼电梯", NOW.minusDays(2));
+        FoundItem foundItem = found(10, "捡到黑色钱包", "钱包", "3号楼电梯", NOW.minusDays(1));
+
+        // 首次加载只建立索引，不重新打分
+        when(itemMatchRepository.findOpenLostItems(any())).thenReturn(List.of(lostItem));
+        when(itemMatchRepository.findOpenFoundItems(any())).thenReturn(List.of());
+        assertThat(matchingService.rebuildIndex()).isEqualTo(1);
+        verify(itemMatchRepository, never()).upsertBatch(any());
+
+        // 失物招领由其他实例写入，下一次重建时与本实例已有的寻物启事匹配
+        when(itemMatchRepository.findOpenFoundItems(any())).thenReturn(List.of(foundItem));
+        assertThat(matchingService.rebuildIndex()).isEqualTo(2);
+
+        List<ItemMatch> matches = savedMatches();
+        assertThat(matches).extracting(ItemMatch::getLostItemId).containsExactly(1L);
+        assertThat(matches).extracting(ItemMatch::getFoundItemId).containsExactly(10L);
+        // 未变化的寻物启事不重新计算
+        verify(itemMatchRepository, never()).deleteByLostItemId(1L);
+    }
+}
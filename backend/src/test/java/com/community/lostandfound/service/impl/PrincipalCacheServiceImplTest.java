@@ -0,0 +1,109 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.security.UserDetailsImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 认证主体缓存测试：锁定到期判断和本地LRU淘汰
+ */
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheServiceImplTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+
+    private PrincipalCacheServiceImpl cacheService;
+
+    private final Map<String, Integer> loads = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new PrincipalCacheServiceImpl(redisTemplate, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(cacheService, "enabled", true);
+        ReflectionTestUtils.setField(cacheService, "localTtl", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(cacheService, "localMaxSize", 2);
+        ReflectionTestUtils.setField(cacheService, "redisEnabled", false);
+        cacheService.init();
+    }
+
+    private UserDetailsImpl load(String username) {
+        loads.merge(username, 1, Integer::sum);
+        return UserDetailsImpl.builder().id(1L).username(username).role("resident").build();
+    }
+
+    private UserDetailsImpl get(String username) {
+        return cacheService.get(username, () -> load(username));
+    }
+
+    @Test
+    void temporaryLockIsEvaluatedOnEachRead() {
+        LocalDateTime now = LocalDateTime.now();
+        UserDetailsImpl locked = UserDetailsImpl.builder().id(1L).username("alice").role("resident")
+                .locked(true).lockEndTime(now.plusMinutes(5)).build();
+
+        PrincipalCacheServiceImpl.CachedPrincipal principal = PrincipalCacheServiceImpl.CachedPrincipal.of(locked);
+
+        assertThat(principal.lockedAt(now)).isTrue();
+        assertThat(principal.lockedAt(now.plusMinutes(6))).isFalse();
+        assertThat(principal.toUserDetails().isAccountNonLocked()).isFalse();
+    }
+
+    @Test
+    void expiredLockIsNotServedFromCache() {
+        PrincipalCacheServiceImpl.CachedPrincipal principal = new PrincipalCacheServiceImpl.CachedPrincipal(
+                1L, "alice", null, "resident", true, LocalDateTime.now().minusSeconds(1));
+
+        assertThat(principal.toUserDetails().isAccountNonLocked()).isTrue();
+    }
+
+    @Test
+    void permanentLockStaysLocked() {
+        UserDetailsImpl locked = UserDetailsImpl.builder().id(1L).username("alice").role("resident")
+                .locked(true).build();
+
+        PrincipalCacheServiceImpl.CachedPrincipal principal = PrincipalCacheServiceImpl.CachedPrincipal.of(locked);
+
+        assertThat(principal.lockedAt(LocalDateTime.now().plusYears(1))).isTrue();
+    }
+
+    @Test
+    void lockEndTimeSurvivesRedisSerialization() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        LocalDateTime lockEnd = LocalDateTime.now().plusMinutes(5).withNano(0);
+        String json = objectMapper.writeValueAsString(new PrincipalCacheServiceImpl.CachedPrincipal(
+                1L, "alice", null, "resident", true, lockEnd));
+
+        PrincipalCacheServiceImpl.CachedPrincipal read =
+                objectMapper.readValue(json, PrincipalCacheServiceImpl.CachedPrincipal.class);
+
+        assertThat(read.getLockEndTime()).isEqualTo(lockEnd);
+        assertThat(read.lockedAt(lockEnd.plusSeconds(1))).isFalse();
+    }
+
+    @Test
+    void fullLocalCacheEvictsLeastRecentlyUsedOnly() {
+        get("alice");
+        get("bob");
+        // 访问alice后，bob成为最久未访问的条目
+        get("alice");
+        get("carol");
+
+        get("alice");
+        get("bob");
+
+        assertThat(loads).containsEntry("alice", 1).containsEntry("bob", 2).containsEntry("carol", 1);
+    }
+}
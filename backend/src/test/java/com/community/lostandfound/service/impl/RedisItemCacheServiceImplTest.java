@@ -0,0 +1,115 @@
+package com.community.lostandfound.service.impl;
+
+import com.community.lostandfound.config.ReplicaRoutingDataSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 物品缓存失效测试
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisItemCacheServiceImplTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private RedisItemCacheServiceImpl cacheService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cacheService = new RedisItemCacheServiceImpl(redisTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(cacheService, "enabled", true);
+        ReflectionTestUtils.setField(cacheService, "detailTtl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(cacheService, "listTtl", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(cacheService, "failureBackoff", Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictItemDeletesDetailAndBumpsListVersion() {
+        cacheService.evictItem("lost-items", 5L);
+
+        verify(redisTemplate).delete("laf:item:lost-items:5");
+        verify(valueOperations).increment("laf:item:lost-items:list-version");
+    }
+
+    @Test
+    void evictItemInsideTransactionWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        cacheService.evictItem("found-items", 3L);
+        verify(redisTemplate, never()).delete(anyString());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        verify(redisTemplate).delete("laf:item:found-items:3");
+        verify(valueOperations).increment("laf:item:found-items:list-version");
+    }
+
+    @Test
+    void pageKeyChangesAfterEviction() {
+        when(valueOperations.get("laf:item:lost-items:list-version")).thenReturn("4");
+
+        cacheService.getPage("lost-items", "page=1", Object.class, () -> Map.of("items", List.of()));
+
+        verify(valueOperations).set(startsWith("laf:item:lost-items:list:4:"),
+                anyString(), eq(Duration.ofSeconds(60)));
+    }
+
+    @Test
+    void cacheFillingPageLoadRunsOnPrimary() {
+        boolean[] forcedDuringLoad = new boolean[1];
+
+        cacheService.getPage("lost-items", "page=1", Object.class, () -> {
+            forcedDuringLoad[0] = ReplicaRoutingDataSource.isPrimaryForced();
+            return Map.of("items", List.of());
+        });
+
+        assertThat(forcedDuringLoad[0]).isTrue();
+        assertThat(ReplicaRoutingDataSource.isPrimaryForced()).isFalse();
+    }
+
+    @Test
+    void redisFailureFallsBackToLoader() {
+        when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("connection refused"));
+
+        Optional<String> loaded = cacheService.getItem("lost-items", 1L, String.class, () -> Optional.of("db"));
+
+        assertThat(loaded).contains("db");
+        // 失败后进入退避期，不再访问Redis
+        cacheService.evictItem("lost-items", 1L);
+        verify(redisTemplate, never()).delete(anyString());
+    }
+}
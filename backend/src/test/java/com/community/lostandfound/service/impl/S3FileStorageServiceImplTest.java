@@ -0,0 +1,251 @@
+package com.community.lostandfound.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3对象存储测试：使用内存中的S3Client验证内容寻址上传、分片上传和失败中止
+ */
+class S3FileStorageServiceImplTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    private FakeS3Client s3Client;
+    private S3FileStorageServiceImpl storageService;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new FakeS3Client();
+        storageService = new S3FileStorageServiceImpl(s3Client, null);
+        ReflectionTestUtils.setField(storageService, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(storageService, "partSize", PART_SIZE);
+    }
+
+    private static String sha256(byte[] data) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+
+    private static byte[] content(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) (i % 251);
+        }
+        return data;
+    }
+
+    @Test
+    void smallFileIsStoredUnderContentAddressedKey() throws Exception {
+        byte[] data = "photo".getBytes();
+
+        String key = storageService.storeFile(new ByteArrayInputStream(data), "Wallet.JPG", "items");
+
+        assertThat(key).isEqualTo("uploads/items/" + sha256(data) + ".jpg");
+        assertThat(s3Client.objects.get(key)).isEqualTo(data);
+        assertThat(s3Client.contentTypes.get(key)).isEqualTo("image/jpeg");
+        assertThat(s3Client.multipartUploads).isEmpty();
+    }
+
+    @Test
+    void sameContentIsUploadedOnce() throws Exception {
+        byte[] data = "photo".getBytes();
+
+        String first = storageService.storeFile(new ByteArrayInputStream(data), "a.jpg", "items");
+        String second = storageService.storeFile(new ByteArrayInputStream(data), "b.jpg", "items");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(s3Client.putCount).isEqualTo(1);
+    }
+
+    @Test
+    void largeFileIsUploadedInPartsThenCopiedToDigestKey() throws Exception {
+        byte[] data = content(PART_SIZE * 2 + 10);
+
+        String key = storageService.storeFile(new ByteArrayInputStream(data), "scan.png", "items");
+
+        assertThat(key).isEqualTo("uploads/items/" + sha256(data) + ".png");
+        assertThat(s3Client.objects.get(key)).isEqualTo(data);
+        assertThat(s3Client.completedPartCounts).containsExactly(3);
+        // 临时键在复制后删除
+        assertThat(s3Client.objects.keySet()).containsExactly(key);
+        assertThat(s3Client.multipartUploads).isEmpty();
+    }
+
+    @Test
+    void failedPartAbortsMultipartUpload() {
+        s3Client.failOnPart = 2;
+        byte[] data = content(PART_SIZE + 10);
+
+        assertThatThrownBy(() -> storageService.storeFile(new ByteArrayInputStream(data), "scan.png", "items"))
+                .isInstanceOf(IOException.class);
+
+        assertThat(s3Client.abortedUploads).hasSize(1);
+        assertThat(s3Client.multipartUploads).isEmpty();
+        assertThat(s3Client.objects).isEmpty();
+    }
+
+    @Test
+    void loadFileAcceptsUrlAndReportsMissingObject() throws Exception {
+        byte[] data = "photo".getBytes();
+        String key = storageService.storeFile(new ByteArrayInputStream(data), "a.jpg", "items");
+
+        try (InputStream input = storageService.loadFile("http://localhost:8080/api/" + key)) {
+            assertThat(input.readAllBytes()).isEqualTo(data);
+        }
+        assertThatThrownBy(() -> storageService.loadFile("uploads/items/missing.jpg"))
+                .isInstanceOf(FileNotFoundException.class);
+    }
+
+    /**
+     * 内存中的S3Client，只实现存储服务用到的操作；
+     * S3Client中以Consumer为参数的默认方法会构建请求后转发到这里
+     */
+    private static class FakeS3Client implements S3Client {
+        private final Map<String, byte[]> objects = new HashMap<>();
+        private final Map<String, String> contentTypes = new HashMap<>();
+        private final Map<String, TreeMap<Integer, byte[]>> multipartUploads = new HashMap<>();
+        private final Map<String, String> uploadKeys = new HashMap<>();
+        private final List<String> abortedUploads = new ArrayList<>();
+        private final List<Integer> completedPartCounts = new ArrayList<>();
+        private int putCount;
+        private int uploadSequence;
+        private int failOnPart = -1;
+
+        private static byte[] read(RequestBody body) {
+            try (InputStream input = body.contentStreamProvider().newStream()) {
+                return input.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public HeadObjectResponse headObject(HeadObjectRequest request) {
+            if (!objects.containsKey(request.key())) {
+                throw NoSuchKeyException.builder().message(request.key()).build();
+            }
+            return HeadObjectResponse.builder().contentLength((long) objects.get(request.key()).length).build();
+        }
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            putCount++;
+            objects.put(request.key(), read(body));
+            contentTypes.put(request.key(), request.contentType());
+            return PutObjectResponse.builder().build();
+        }
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            String uploadId = "upload-" + (++uploadSequence);
+            multipartUploads.put(uploadId, new TreeMap<>());
+            uploadKeys.put(uploadId, request.key());
+            contentTypes.put(request.key(), request.contentType());
+            return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+            if (request.partNumber() == failOnPart) {
+                throw SdkClientException.create("connection reset");
+            }
+            multipartUploads.get(request.uploadId()).put(request.partNumber(), read(body));
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            TreeMap<Integer, byte[]> parts = multipartUploads.remove(request.uploadId());
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            for (CompletedPart part : request.multipartUpload().parts()) {
+                output.writeBytes(parts.get(part.partNumber()));
+            }
+            completedPartCounts.add(request.multipartUpload().parts().size());
+            objects.put(uploadKeys.remove(request.uploadId()), output.toByteArray());
+            return CompleteMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            multipartUploads.remove(request.uploadId());
+            uploadKeys.remove(request.uploadId());
+            abortedUploads.add(request.uploadId());
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public CopyObjectResponse copyObject(CopyObjectRequest request) {
+            objects.put(request.destinationKey(), objects.get(request.sourceKey()).clone());
+            contentTypes.put(request.destinationKey(), contentTypes.get(request.sourceKey()));
+            return CopyObjectResponse.builder().build();
+        }
+
+        @Override
+        public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+            objects.remove(request.key());
+            return DeleteObjectResponse.builder().build();
+        }
+
+        @Override
+        public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+            byte[] data = objects.get(request.key());
+            if (data == null) {
+                throw NoSuchKeyException.builder().message(request.key()).build();
+            }
+            return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(data)));
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
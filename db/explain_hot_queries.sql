@@ -0,0 +1,41 @@
+-- 列表热点查询的执行计划检查，迁移或修改Mapper查询后执行
+-- 预期：key 为对应的组合索引，Extra 中不出现 Using filesort，type 不为 ALL
+-- 用法：mysql -uroot -p lost < db/explain_hot_queries.sql
+-- 后端测试 ExplainHotQueriesTest 会在MySQL容器中执行迁移、写入种子数据后逐条检查本文件中的EXPLAIN
+
+USE `lost`;
+
+-- 寻物启事列表（失物招领同理）
+EXPLAIN SELECT li.*, u.username FROM lost_items li JOIN users u ON li.user_id = u.id
+WHERE li.category = '电子产品' AND li.status = 'pending' ORDER BY li.created_at DESC LIMIT 0, 10;
+EXPLAIN SELECT li.*, u.username FROM lost_items li JOIN users u ON li.user_id = u.id
+WHERE li.status = 'pending' ORDER BY li.created_at DESC LIMIT 0, 10;
+EXPLAIN SELECT li.*, u.username FROM lost_items li JOIN users u ON li.user_id = u.id
+WHERE li.category = '电子产品' ORDER BY li.created_at DESC, li.id DESC LIMIT 10;
+EXPLAIN SELECT li.*, u.username FROM lost_items li JOIN users u ON li.user_id = u.id
+WHERE li.user_id = 1 ORDER BY li.created_at DESC;
+
+-- 认领申请
+EXPLAIN SELECT 1 FROM claim_applications
+WHERE found_item_id = 1 AND applicant_id = 1 AND status IN ('pending', 'approved') LIMIT 1;
+EXPLAIN SELECT * FROM claim_applications WHERE found_item_id = 1 ORDER BY created_at DESC LIMIT 0, 10;
+EXPLAIN SELECT * FROM claim_applications WHERE applicant_id = 1 AND status = 'pending' ORDER BY created_at DESC LIMIT 0, 10;
+EXPLAIN SELECT * FROM claim_applications WHERE status = 'pending' ORDER BY created_at DESC LIMIT 0, 10;
+
+-- 评论
+EXPLAIN SELECT * FROM item_comments WHERE item_id = 1 AND item_type = 'lost' ORDER BY created_at DESC LIMIT 0, 10;
+EXPLAIN SELECT * FROM post_comments WHERE post_id = 1 ORDER BY created_at DESC LIMIT 0, 10;
+
+-- 论坛帖子
+EXPLAIN SELECT * FROM posts ORDER BY created_at DESC LIMIT 0, 10;
+EXPLAIN SELECT * FROM posts WHERE user_id = 1 ORDER BY created_at DESC LIMIT 0, 10;
+
+-- 公告
+EXPLAIN SELECT * FROM announcements WHERE status = 'published' ORDER BY updated_at DESC LIMIT 0, 10;
+EXPLAIN SELECT * FROM announcements WHERE admin_id = 1 ORDER BY updated_at DESC LIMIT 0, 10;
+
+-- 举报
+EXPLAIN SELECT * FROM reports WHERE status = 'PENDING' AND report_type = 'LOST_ITEM' ORDER BY created_at DESC LIMIT 0, 10;
+EXPLAIN SELECT * FROM reports WHERE status = 'PENDING' ORDER BY created_at DESC LIMIT 0, 10;
+EXPLAIN SELECT * FROM reports WHERE report_type = 'LOST_ITEM' ORDER BY created_at DESC LIMIT 0, 10;
+EXPLAIN SELECT * FROM reports ORDER BY created_at DESC LIMIT 0, 10;
@@ -0,0 +1,15 @@
+-- 从库初始化：指向主库并按GTID自动定位开始复制
+-- 表结构由后端启动时在主库执行迁移脚本后复制过来
+CHANGE REPLICATION SOURCE TO
+  SOURCE_HOST = 'db',
+  SOURCE_PORT = 3306,
+  SOURCE_USER = 'root',
+  SOURCE_PASSWORD = '88888888',
+  SOURCE_AUTO_POSITION = 1,
+  GET_SOURCE_PUBLIC_KEY = 1,
+  SOURCE_CONNECT_RETRY = 10;
+
+START REPLICA;
+
+-- 初始化完成后只允许复制线程写入（在启动参数中设置会导致镜像初始化脚本无法执行）
+SET PERSIST super_read_only = ON;
@@ -0,0 +1,390 @@
+// 端到端压测场景：浏览、搜索、发布物品、评论、认领、管理员审核
+// 各场景使用固定到达率（开放模型），后端变慢时请求不会随之减少，延迟分位数不受协调遗漏影响。
+// 由 loadtest/run.sh 在docker compose网络中运行，也可以直接执行：
+//   k6 run -e BASE_URL=http://localhost:8080/api -e DURATION=2m loadtest/k6/lost-and-found.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://backend:8080/api';
+const DURATION = __ENV.DURATION || '5m';
+// 所有场景到达率的倍数，用于逐级加压寻找容量上限
+const RATE_FACTOR = parseFloat(__ENV.RATE_FACTOR || '1');
+// 与 seed.sql 的 @users、@admins 一致
+const SEED_USERS = parseInt(__ENV.SEED_USERS || '20000', 10);
+const SEED_ADMINS = parseInt(__ENV.SEED_ADMINS || '20', 10);
+const PASSWORD = __ENV.SEED_PASSWORD || 'loadtest123';
+// 预先登录的账号数，各虚拟用户轮流使用这些账号的令牌
+const RESIDENT_LOGINS = parseInt(__ENV.RESIDENT_LOGINS || '50', 10);
+const ADMIN_LOGINS = Math.min(parseInt(__ENV.ADMIN_LOGINS || '5', 10), SEED_ADMINS);
+const LABEL = __ENV.LABEL || 'default';
+const RESULTS_DIR = __ENV.RESULTS_DIR || 'results';
+
+// 每秒到达的场景迭代数（RATE_FACTOR=1时）
+const SCENARIO_RATES = {
+  browse: 40,
+  search: 10,
+  post_item: 2,
+  comment: 5,
+  claim: 1,
+  admin_moderation: 0.5,
+};
+
+// 按接口统计的名称，请求通过 tags.name 归入对应接口，URL中的ID不会产生大量不同的统计项
+const ENDPOINTS = [
+  'GET /feed',
+  'GET /lost-items',
+  'GET /lost-items/{id}',
+  'GET /lost-items/{id}/matches',
+  'GET /found-items',
+  'GET /found-items/{id}',
+  'GET /item-comments',
+  'GET /posts',
+  'GET /posts/{id}',
+  'GET /post-comments',
+  'GET /lost-items?keyword',
+  'GET /found-items?keyword',
+  'GET /posts/search',
+  'POST /lost-items',
+  'POST /found-items',
+  'GET /lost-items/my-posts',
+  'POST /item-comments',
+  'POST /post-comments',
+  'POST /posts',
+  'POST /reports',
+  'POST /claims/apply/{id}',
+  'GET /claims/my-applications',
+  'GET /admin/reports',
+  'GET /admin/reports/{id}',
+  'PUT /admin/reports/{id}/resolve',
+  'GET /claims/admin/all',
+  'GET /admin/users',
+];
+
+const CATEGORIES = ['electronics', 'documents', 'keys', 'clothing', 'jewelry', 'bags', 'cards', 'other'];
+const KEYWORDS = ['钥匙', '手机', '钱包', '身份证', '雨伞', '黑色', '东门', '快递驿站', '耳机', '停车场', '门禁卡', '眼镜'];
+const LOCATIONS = ['3号楼大厅', '小区东门', '地下停车场B2', '中心花园', '快递驿站', '健身房'];
+
+function scenario(exec, perSecond) {
+  const perMinute = Math.max(1, Math.round(perSecond * RATE_FACTOR * 60));
+  return {
+    executor: 'constant-arrival-rate',
+    exec,
+    rate: perMinute,
+    timeUnit: '1m',
+    duration: DURATION,
+    preAllocatedVUs: Math.max(2, Math.ceil(perMinute / 60) * 2),
+    maxVUs: Math.max(10, Math.ceil(perMinute / 60) * 20),
+  };
+}
+
+const thresholds = {
+  // 业务错误率阈值，超过时k6以非零状态退出
+  http_req_failed: ['rate<0.01'],
+};
+// 声明各接口的子指标，handleSummary中才会包含按接口的统计
+for (const name of ENDPOINTS) {
+  thresholds[`http_req_duration{name:${name}}`] = [];
+  thresholds[`http_reqs{name:${name}}`] = [];
+  thresholds[`http_req_failed{name:${name}}`] = [];
+}
+
+export const options = {
+  scenarios: Object.fromEntries(
+    Object.entries(SCENARIO_RATES).map(([exec, rate]) => [exec, scenario(exec, rate)])),
+  thresholds,
+  summaryTrendStats: ['avg', 'min', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+  setupTimeout: '5m',
+};
+
+function pad(n, width) {
+  return String(n).padStart(width, '0');
+}
+
+function pick(list) {
+  return list[Math.floor(Math.random() * list.length)];
+}
+
+/**
+ * 偏向新数据的随机ID：80%的访问落在最新10%的数据上，与列表页带来的访问分布接近
+ */
+function pickId(range) {
+  const span = range.maxId - range.minId + 1;
+  if (Math.random() < 0.8) {
+    return range.maxId - Math.floor(Math.random() * Math.max(1, Math.floor(span / 10)));
+  }
+  return range.minId + Math.floor(Math.random() * span);
+}
+
+function authParams(token, name, extra) {
+  return Object.assign({
+    headers: { Authorization: `Bearer ${token}`, 'Content-Type': 'application/json' },
+    tags: { name },
+  }, extra || {});
+}
+
+function get(path, name, token) {
+  const params = token ? authParams(token, name) : { tags: { name } };
+  const res = http.get(`${BASE_URL}${path}`, params);
+  check(res, { [`${name} 200`]: (r) => r.status === 200 });
+  return res;
+}
+
+function send(method, path, body, name, token, expected) {
+  const params = authParams(token, name, expected ? { responseCallback: http.expectedStatuses(...expected) } : {});
+  const res = http.request(method, `${BASE_URL}${path}`, JSON.stringify(body), params);
+  check(res, { [`${name} ok`]: (r) => (expected || [200, 201]).includes(r.status) });
+  return res;
+}
+
+function data(res) {
+  try {
+    return res.json('data');
+  } catch (e) {
+    return null;
+  }
+}
+
+function login(username) {
+  const res = http.post(`${BASE_URL}/auth/login`, JSON.stringify({ usernameOrEmail: username, password: PASSWORD }), {
+    headers: { 'Content-Type': 'application/json' },
+    tags: { name: 'setup' },
+  });
+  if (res.status !== 200) {
+    throw new Error(`登录失败 ${username}: ${res.status} ${res.body}（压测需关闭限流并先生成数据）`);
+  }
+  return res.json('data.token');
+}
+
+/**
+ * 按最新记录的ID和总数推算ID范围（种子数据的ID连续递增）
+ */
+function idRange(path, itemsField, totalField) {
+  const res = http.get(`${BASE_URL}${path}`, { tags: { name: 'setup' } });
+  const body = data(res);
+  const items = body ? body[itemsField] : null;
+  if (!items || items.length === 0) {
+    throw new Error(`${path} 没有数据，请先执行 loadtest/seed/seed.sql`);
+  }
+  const maxId = items[0].id;
+  const total = body[totalField] || maxId;
+  return { minId: Math.max(1, maxId - total + 1), maxId };
+}
+
+export function setup() {
+  const residentStep = Math.max(1, Math.floor((SEED_USERS - SEED_ADMINS) / RESIDENT_LOGINS));
+  const residents = [];
+  for (let i = 0; i < RESIDENT_LOGINS; i++) {
+    residents.push(login(`lt_user_${pad(SEED_ADMINS + 1 + i * residentStep, 7)}`));
+  }
+  const admins = [];
+  for (let i = 1; i <= ADMIN_LOGINS; i++) {
+    admins.push(login(`lt_user_${pad(i, 7)}`));
+  }
+  return {
+    residents,
+    admins,
+    lost: idRange('/lost-items?page=1&size=1&count=exact', 'items', 'totalItems'),
+    found: idRange('/found-items?page=1&size=1&count=exact', 'items', 'totalItems'),
+    posts: idRange('/posts?page=0&size=1&count=exact', 'items', 'total'),
+  };
+}
+
+// ----------------------------
+// 场景
+// ----------------------------
+
+export function browse(ctx) {
+  // 首页动态，约一半用户继续翻页
+  const feed = data(get('/feed?size=10', 'GET /feed'));
+  if (feed && feed.nextCursor && Math.random() < 0.5) {
+    get(`/feed?size=10&cursor=${encodeURIComponent(feed.nextCursor)}`, 'GET /feed');
+  }
+
+  const roll = Math.random();
+  if (roll < 0.4) {
+    const category = Math.random() < 0.5 ? `&category=${pick(CATEGORIES)}` : '';
+    get(`/lost-items?page=${1 + Math.floor(Math.random() * 3)}&size=10${category}`, 'GET /lost-items');
+    const id = pickId(ctx.lost);
+    get(`/lost-items/${id}`, 'GET /lost-items/{id}');
+    get(`/item-comments?itemId=${id}&itemType=lost`, 'GET /item-comments');
+    if (Math.random() < 0.3) {
+      get(`/lost-items/${id}/matches`, 'GET /lost-items/{id}/matches');
+    }
+  } else if (roll < 0.8) {
+    const list = data(get('/found-items?size=10&cursor=', 'GET /found-items'));
+    if (list && list.nextCursor && Math.random() < 0.5) {
+      get(`/found-items?size=10&cursor=${encodeURIComponent(list.nextCursor)}`, 'GET /found-items');
+    }
+    const id = pickId(ctx.found);
+    get(`/found-items/${id}`, 'GET /found-items/{id}');
+    get(`/item-comments?itemId=${id}&itemType=found`, 'GET /item-comments');
+  } else {
+    get(`/posts?page=${Math.floor(Math.random() * 3)}&size=10`, 'GET /posts');
+    const id = pickId(ctx.posts);
+    get(`/posts/${id}`, 'GET /posts/{id}');
+    get(`/post-comments?postId=${id}`, 'GET /post-comments');
+  }
+}
+
+export function search() {
+  const keyword = encodeURIComponent(pick(KEYWORDS));
+  const roll = Math.random();
+  if (roll < 0.4) {
+    get(`/lost-items?keyword=${keyword}&page=1&size=10`, 'GET /lost-items?keyword');
+  } else if (roll < 0.8) {
+    get(`/found-items?keyword=${keyword}&page=1&size=10`, 'GET /found-items?keyword');
+  } else {
+    get(`/posts/search?keyword=${keyword}&page=0&size=10`, 'GET /posts/search');
+  }
+}
+
+export function post_item(ctx) {
+  const token = pick(ctx.residents);
+  const category = pick(CATEGORIES);
+  const location = pick(LOCATIONS);
+  const date = new Date(Date.now() - 3600 * 1000).toISOString().slice(0, 19);
+  if (Math.random() < 0.5) {
+    send('POST', '/lost-items', {
+      title: `压测丢失物品 ${category}`,
+      description: `在${location}附近丢失，压测数据`,
+      lostDate: date,
+      lostLocation: location,
+      category,
+      contactInfo: '13900000000',
+    }, 'POST /lost-items', token);
+    get('/lost-items/my-posts?page=1&size=10', 'GET /lost-items/my-posts', token);
+  } else {
+    send('POST', '/found-items', {
+      title: `压测拾到物品 ${category}`,
+      description: `在${location}捡到，压测数据`,
+      foundDate: date,
+      foundLocation: location,
+      storageLocation: '物业服务中心',
+      category,
+      contactInfo: '13900000000',
+    }, 'POST /found-items', token);
+  }
+}
+
+export function comment(ctx) {
+  const token = pick(ctx.residents);
+  const roll = Math.random();
+  if (roll < 0.5) {
+    const lost = Math.random() < 0.5;
+    send('POST', '/item-comments', {
+      content: '压测评论：帮顶，希望早日找到',
+      itemId: pickId(lost ? ctx.lost : ctx.found),
+      itemType: lost ? 'lost' : 'found',
+    }, 'POST /item-comments', token);
+  } else if (roll < 0.85) {
+    send('POST', '/post-comments', {
+      content: '压测评论：同意楼上',
+      postId: pickId(ctx.posts),
+    }, 'POST /post-comments', token);
+  } else if (roll < 0.95) {
+    send('POST', '/posts', {
+      title: '压测帖子',
+      content: '压测帖子内容，用于评估发帖接口的吞吐量',
+    }, 'POST /posts', token);
+  } else {
+    send('POST', '/reports', {
+      reportType: 'LOST_ITEM',
+      reportedItemId: pickId(ctx.lost),
+      reason: '压测举报：内容疑似重复发布',
+    }, 'POST /reports', token);
+  }
+}
+
+export function claim(ctx) {
+  const token = pick(ctx.residents);
+  // 从待认领列表中选择，申请自己发布的物品或重复申请会被业务拒绝（400）
+  const list = data(get(`/found-items?status=pending&page=${1 + Math.floor(Math.random() * 5)}&size=10`,
+    'GET /found-items', token));
+  if (list && list.items && list.items.length > 0) {
+    const item = pick(list.items);
+    send('POST', `/claims/apply/${item.id}`, {
+      description: '压测认领申请：物品特征与描述一致，可以当面核对',
+      contactInfo: '13900000000',
+    }, 'POST /claims/apply/{id}', token, [200, 201, 400]);
+  }
+  get('/claims/my-applications?page=1&size=10', 'GET /claims/my-applications', token);
+}
+
+export function admin_moderation(ctx) {
+  const token = pick(ctx.admins);
+  const page = data(get('/admin/reports?status=PENDING&page=1&size=10', 'GET /admin/reports', token));
+  if (page && page.reports && page.reports.length > 0) {
+    const report = pick(page.reports);
+    get(`/admin/reports/${report.id}`, 'GET /admin/reports/{id}', token);
+    // 只驳回不处罚，避免压测过程中删除内容或锁定压测账号
+    send('PUT', `/admin/reports/${report.id}/resolve`, {
+      status: 'REJECTED',
+      resolutionNotes: '压测：驳回',
+      actionType: 'NONE',
+    }, 'PUT /admin/reports/{id}/resolve', token, [200, 400]);
+  }
+  if (Math.random() < 0.5) {
+    get('/claims/admin/all?status=pending&page=1&size=10', 'GET /claims/admin/all', token);
+  } else {
+    get(`/admin/users?page=1&size=10&search=lt_user_${pad(1 + Math.floor(Math.random() * 99), 2)}`,
+      'GET /admin/users', token);
+  }
+}
+
+// ----------------------------
+// 结果：按接口输出吞吐量和延迟分位数
+// ----------------------------
+
+function fmt(value, digits) {
+  return value === undefined || value === null ? '-' : value.toFixed(digits);
+}
+
+export function handleSummary(data) {
+  const rows = [];
+  for (const name of ENDPOINTS) {
+    const duration = data.metrics[`http_req_duration{name:${name}}`];
+    const reqs = data.metrics[`http_reqs{name:${name}}`];
+    const failed = data.metrics[`http_req_failed{name:${name}}`];
+    if (!reqs || !reqs.values.count) {
+      continue;
+    }
+    rows.push({
+      endpoint: name,
+      count: reqs.values.count,
+      rps: reqs.values.rate,
+      errorRate: failed ? failed.values.rate : 0,
+      avg: duration.values.avg,
+      p50: duration.values.med,
+      p90: duration.values['p(90)'],
+      p95: duration.values['p(95)'],
+      p99: duration.values['p(99)'],
+      max: duration.values.max,
+    });
+  }
+
+  const header = '| 接口 | 请求数 | 吞吐(req/s) | 错误率 | 平均(ms) | p50 | p90 | p95 | p99 | 最大 |';
+  const lines = [
+    `## 压测结果：${LABEL}`,
+    '',
+    `持续时间 ${DURATION}，到达率倍数 ${RATE_FACTOR}`,
+    '',
+    header,
+    '|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|',
+    ...rows.map((r) => `| ${r.endpoint} | ${r.count} | ${fmt(r.rps, 2)} | ${fmt(r.errorRate * 100, 2)}% `
+      + `| ${fmt(r.avg, 1)} | ${fmt(r.p50, 1)} | ${fmt(r.p90, 1)} | ${fmt(r.p95, 1)} | ${fmt(r.p99, 1)} `
+      + `| ${fmt(r.max, 1)} |`),
+  ];
+  const total = data.metrics.http_reqs;
+  const dropped = data.metrics.dropped_iterations;
+  lines.push('', `总请求数 ${total ? total.values.count : 0}，`
+    + `总吞吐 ${total ? fmt(total.values.rate, 2) : '-'} req/s，`
+    + `因虚拟用户不足丢弃的迭代 ${dropped ? dropped.values.count : 0}`);
+  const markdown = lines.join('\n') + '\n';
+
+  return {
+    stdout: markdown,
+    [`${RESULTS_DIR}/${LABEL}.md`]: markdown,
+    [`${RESULTS_DIR}/${LABEL}-endpoints.json`]: JSON.stringify(rows, null, 2),
+    [`${RESULTS_DIR}/${LABEL}-summary.json`]: JSON.stringify(data, null, 2),
+  };
+}
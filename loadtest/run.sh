@@ -0,0 +1,158 @@
+#!/usr/bin/env bash
+# 单机端到端压测：启动 MySQL + Redis + 后端，按需生成数据，运行k6场景并保存结果
+#
+# 用法：
+#   loadtest/run.sh seed                 重建数据库并生成数据（规模见下方 SEED_* 变量）
+#   loadtest/run.sh run [标签]           运行一轮压测，结果写入 loadtest/results/<标签>.*
+#   loadtest/run.sh compare              依次以平台线程和虚拟线程模式运行，输出两份结果
+#
+# 常用环境变量：
+#   SEED_USERS / SEED_ADMINS / SEED_LOST_ITEMS / SEED_FOUND_ITEMS ...  数据规模
+#   DURATION=5m  RATE_FACTOR=1  WARMUP=1m                              每轮时长、到达率倍数和预热时长
+#   BACKEND_CPUS=2  BACKEND_MEMORY=2g                                  后端容器资源配额
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+COMPOSE=(docker compose -f docker-compose.yml -f docker-compose.loadtest.yml)
+MYSQL_PASSWORD=88888888
+
+SEED_USERS=${SEED_USERS:-20000}
+SEED_ADMINS=${SEED_ADMINS:-20}
+SEED_LOST_ITEMS=${SEED_LOST_ITEMS:-500000}
+SEED_FOUND_ITEMS=${SEED_FOUND_ITEMS:-500000}
+SEED_CLAIMS=${SEED_CLAIMS:-200000}
+SEED_ITEM_COMMENTS=${SEED_ITEM_COMMENTS:-1000000}
+SEED_POSTS=${SEED_POSTS:-100000}
+SEED_POST_COMMENTS=${SEED_POST_COMMENTS:-500000}
+SEED_REPORTS=${SEED_REPORTS:-20000}
+SEED_DAYS=${SEED_DAYS:-365}
+
+DURATION=${DURATION:-5m}
+RATE_FACTOR=${RATE_FACTOR:-1}
+# 正式压测前的预热时长，0表示不预热
+WARMUP=${WARMUP:-1m}
+
+log() {
+    echo "[$(date '+%H:%M:%S')] $*"
+}
+
+wait_for_backend() {
+    log "等待后端启动..."
+    for _ in $(seq 1 120); do
+        if "${COMPOSE[@]}" exec -T backend wget -qO- http://localhost:8080/api/actuator/health 2>/dev/null \
+                | grep -q '"UP"'; then
+            log "后端已就绪"
+            return 0
+        fi
+        sleep 5
+    done
+    log "后端在10分钟内未就绪，查看日志：${COMPOSE[*]} logs backend"
+    exit 1
+}
+
+# /actuator/prometheus 需要系统管理员令牌，使用种子数据中的系统管理员 lt_user_0000001 登录
+metrics_snapshot() {
+    local token
+    token=$("${COMPOSE[@]}" exec -T backend wget -qO- --header 'Content-Type: application/json' \
+        --post-data '{"usernameOrEmail":"lt_user_0000001","password":"loadtest123"}' \
+        http://localhost:8080/api/auth/login | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+    "${COMPOSE[@]}" exec -T backend wget -qO- --header "Authorization: Bearer $token" \
+        http://localhost:8080/api/actuator/prometheus
+}
+
+wait_for_db() {
+    log "等待MySQL启动..."
+    until "${COMPOSE[@]}" exec -T db mysqladmin ping -uroot -p"$MYSQL_PASSWORD" --silent 2>/dev/null; do
+        sleep 2
+    done
+}
+
+start_stack() {
+    "${COMPOSE[@]}" up -d --build db redis backend
+    wait_for_backend
+}
+
+# 重启后端：清空本地缓存，并在启动时按新数据重建匹配索引
+restart_backend() {
+    "${COMPOSE[@]}" exec -T redis redis-cli FLUSHALL >/dev/null
+    "${COMPOSE[@]}" up -d --build --force-recreate backend
+    wait_for_backend
+}
+
+seed() {
+    log "重建数据库 lost"
+    "${COMPOSE[@]}" up -d db redis
+    wait_for_db
+    "${COMPOSE[@]}" stop backend >/dev/null 2>&1 || true
+    "${COMPOSE[@]}" exec -T db mysql -uroot -p"$MYSQL_PASSWORD" \
+        -e "DROP DATABASE IF EXISTS lost; CREATE DATABASE lost CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;"
+
+    # 由后端启动时的迁移脚本建表，保证与线上结构一致
+    start_stack
+
+    log "生成数据：用户 $SEED_USERS，寻物启事 $SEED_LOST_ITEMS，失物招领 $SEED_FOUND_ITEMS"
+    {
+        echo "SET @users = $SEED_USERS, @admins = $SEED_ADMINS, @lost_items = $SEED_LOST_ITEMS,"
+        echo "    @found_items = $SEED_FOUND_ITEMS, @claims = $SEED_CLAIMS, @item_comments = $SEED_ITEM_COMMENTS,"
+        echo "    @posts = $SEED_POSTS, @post_comments = $SEED_POST_COMMENTS, @reports = $SEED_REPORTS,"
+        echo "    @days = $SEED_DAYS;"
+        cat loadtest/seed/seed.sql
+    } | "${COMPOSE[@]}" exec -T db mysql -uroot -p"$MYSQL_PASSWORD" --table lost
+
+    restart_backend
+    log "数据生成完成"
+}
+
+k6_run() {
+    "${COMPOSE[@]}" --profile loadtest run --rm \
+        -e DURATION="$2" -e RATE_FACTOR="$RATE_FACTOR" -e LABEL="$1" \
+        -e SEED_USERS="$SEED_USERS" -e SEED_ADMINS="$SEED_ADMINS" \
+        k6 run --quiet /scripts/lost-and-found.js
+}
+
+run() {
+    local label=${1:-$(date '+%Y%m%d-%H%M%S')}
+    mkdir -p loadtest/results
+    start_stack
+
+    if [ "$WARMUP" != "0" ]; then
+        # 预热JIT、连接池和缓存，结果单独保存，不计入正式结果
+        log "预热 $WARMUP"
+        k6_run "$label-warmup" "$WARMUP" || true
+    fi
+
+    log "开始压测 [$label]：时长 $DURATION，到达率倍数 $RATE_FACTOR，后端配置 ${SPRING_PROFILES_ACTIVE:-prod}"
+    # 阈值未通过（错误率超过1%）时k6返回非零，仍保留结果和指标快照
+    local status=0
+    k6_run "$label" "$DURATION" || status=$?
+
+    # 服务端指标快照：连接池等待、Tomcat线程、GC等，用于判断瓶颈所在
+    metrics_snapshot > "loadtest/results/$label-metrics.txt" || true
+    docker stats --no-stream --format '{{.Name}}\t{{.CPUPerc}}\t{{.MemUsage}}' \
+        > "loadtest/results/$label-docker-stats.txt" || true
+    log "结果已写入 loadtest/results/$label.md"
+    return $status
+}
+
+# 两轮之间只重启后端，第一轮写入的数据相对种子规模很小；需要严格一致时在两轮之间重新执行 seed
+compare() {
+    export JAVA_VERSION=21 MAVEN_PROFILES=-Pjava21
+    local status=0
+    SPRING_PROFILES_ACTIVE=prod restart_backend
+    SPRING_PROFILES_ACTIVE=prod run platform-threads || status=$?
+    SPRING_PROFILES_ACTIVE=prod,virtual restart_backend
+    SPRING_PROFILES_ACTIVE=prod,virtual run virtual-threads || status=$?
+    log "对比结果：loadtest/results/platform-threads.md 与 loadtest/results/virtual-threads.md"
+    return $status
+}
+
+case "${1:-}" in
+    seed) seed ;;
+    run) run "${2:-}" ;;
+    compare) compare ;;
+    *)
+        sed -n '2,12p' "$0"
+        exit 1
+        ;;
+esac
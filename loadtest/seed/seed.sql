@@ -0,0 +1,327 @@
+-- 压测数据生成：按给定规模向迁移脚本建立的表中批量写入数据
+-- 数据由行号经CRC32确定性生成，相同规模参数得到相同的数据，便于多次压测结果对比
+-- 所有种子用户密码均为 loadtest123，lt_user_0000001 至 lt_user_{@admins} 为管理员（lt_user_0000001 为系统管理员，
+-- 用于读取 /actuator/prometheus），其余为普通住户
+--
+-- 用法（规模参数可省略，默认约100万条物品）：
+--   { echo "SET @users = 20000, @lost_items = 500000, @found_items = 500000;"; cat loadtest/seed/seed.sql; } \
+--     | docker compose exec -T db mysql -uroot -p88888888 lost
+-- 在已有数据之后追加写入，ID从各表当前最大ID之后开始；重复执行会因用户名冲突而失败，请先清空数据库
+
+SET NAMES utf8mb4;
+
+SET @users         = COALESCE(@users, 20000);
+SET @admins        = COALESCE(@admins, 20);
+SET @lost_items    = COALESCE(@lost_items, 500000);
+SET @found_items   = COALESCE(@found_items, 500000);
+SET @claims        = COALESCE(@claims, 200000);
+SET @item_comments = COALESCE(@item_comments, 1000000);
+SET @posts         = COALESCE(@posts, 100000);
+SET @post_comments = COALESCE(@post_comments, 500000);
+SET @reports       = COALESCE(@reports, 20000);
+-- 数据的时间跨度（天），创建时间随ID递增，越新的数据ID越大
+SET @days          = COALESCE(@days, 365);
+-- 每条INSERT ... SELECT写入的行数（不超过100000）
+SET @batch_size    = LEAST(COALESCE(@batch_size, 5000), 100000);
+
+-- BCrypt(loadtest123)
+SET @password_hash = '$2a$10$VLpWGfDqpRckWasAHdwHT.qao1nYGA2c2EidPxXAO.4rRekj1l2a6';
+SET @seed_start    = NOW();
+SET @span_seconds  = @days * 86400;
+
+SET @user_base         = (SELECT COALESCE(MAX(id), 0) FROM users);
+SET @lost_base         = (SELECT COALESCE(MAX(id), 0) FROM lost_items);
+SET @found_base        = (SELECT COALESCE(MAX(id), 0) FROM found_items);
+SET @claim_base        = (SELECT COALESCE(MAX(id), 0) FROM claim_applications);
+SET @item_comment_base = (SELECT COALESCE(MAX(id), 0) FROM item_comments);
+SET @post_base         = (SELECT COALESCE(MAX(id), 0) FROM posts);
+SET @post_comment_base = (SELECT COALESCE(MAX(id), 0) FROM post_comments);
+SET @report_base       = (SELECT COALESCE(MAX(id), 0) FROM reports);
+
+-- ----------------------------
+-- 辅助对象：行号表、确定性伪随机函数、分批执行过程
+-- ----------------------------
+DROP TABLE IF EXISTS `lt_seq`;
+CREATE TABLE `lt_seq` (`n` int NOT NULL, PRIMARY KEY (`n`)) ENGINE=InnoDB;
+INSERT INTO `lt_seq`(n)
+SELECT a.d + b.d * 10 + c.d * 100 + d.d * 1000 + e.d * 10000
+FROM (SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) a
+CROSS JOIN (SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) b
+CROSS JOIN (SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) c
+CROSS JOIN (SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) d
+CROSS JOIN (SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) e;
+
+DROP FUNCTION IF EXISTS `lt_rand`;
+DROP PROCEDURE IF EXISTS `lt_batched`;
+
+DELIMITER $$
+
+-- 第n行在tag维度上的伪随机数，取值 [0, m)
+CREATE FUNCTION `lt_rand`(tag VARCHAR(16), n BIGINT, m BIGINT) RETURNS BIGINT
+  DETERMINISTIC NO SQL
+BEGIN
+  RETURN MOD(CRC32(CONCAT(tag, ':', n)), m);
+END$$
+
+-- 分批执行INSERT ... SELECT：语句中用 @lo + s.n 表示行号（从0开始），并以 s.n < @cnt 限定本批行数
+-- 每批单独提交，避免大事务撑大undo日志
+CREATE PROCEDURE `lt_batched`(IN p_label VARCHAR(64), IN p_sql TEXT, IN p_total BIGINT)
+BEGIN
+  DECLARE started DATETIME DEFAULT NOW();
+  SET @lt_sql = p_sql;
+  PREPARE lt_stmt FROM @lt_sql;
+  SET @lo = 0;
+  WHILE @lo < p_total DO
+    SET @cnt = LEAST(@batch_size, p_total - @lo);
+    EXECUTE lt_stmt;
+    COMMIT;
+    SET @lo = @lo + @cnt;
+  END WHILE;
+  DEALLOCATE PREPARE lt_stmt;
+  SELECT p_label AS `数据`, p_total AS `行数`, TIMESTAMPDIFF(SECOND, started, NOW()) AS `耗时(秒)`;
+END$$
+
+DELIMITER ;
+
+SET autocommit = 0;
+
+-- ----------------------------
+-- 用户
+-- ----------------------------
+CALL lt_batched('users', '
+INSERT INTO users(id, username, email, password, role, phone, real_name, address, created_at, updated_at)
+SELECT @user_base + @lo + s.n + 1,
+  CONCAT(''lt_user_'', LPAD(@lo + s.n + 1, 7, ''0'')),
+  CONCAT(''lt_user_'', LPAD(@lo + s.n + 1, 7, ''0''), ''@loadtest.local''),
+  @password_hash,
+  CASE WHEN @lo + s.n = 0 THEN ''sysadmin'' WHEN @lo + s.n < @admins THEN ''admin'' ELSE ''resident'' END,
+  CONCAT(''139'', LPAD(@lo + s.n + 1, 8, ''0'')),
+  CONCAT(ELT(1 + lt_rand(''un1'', @lo + s.n, 10), ''张'', ''王'', ''李'', ''赵'', ''刘'', ''陈'', ''杨'', ''黄'', ''周'', ''吴''),
+         ELT(1 + lt_rand(''un2'', @lo + s.n, 10), ''伟'', ''芳'', ''娜'', ''敏'', ''静'', ''磊'', ''洋'', ''勇'', ''艳'', ''杰'')),
+  CONCAT(1 + lt_rand(''ub'', @lo + s.n, 30), ''号楼'', 1 + lt_rand(''uu'', @lo + s.n, 4), ''单元'',
+         1 + lt_rand(''uf'', @lo + s.n, 30), LPAD(1 + lt_rand(''ur'', @lo + s.n, 4), 2, ''0''), ''室''),
+  @seed_start - INTERVAL FLOOR(@span_seconds * (1 - (@lo + s.n) / @users)) SECOND,
+  @seed_start - INTERVAL FLOOR(@span_seconds * (1 - (@lo + s.n) / @users)) SECOND
+FROM lt_seq s WHERE s.n < @cnt', @users);
+
+-- ----------------------------
+-- 寻物启事 / 失物招领
+-- 标题为 颜色 + 分类下的物品名，描述包含地点，便于全文检索命中
+-- ----------------------------
+CALL lt_batched('lost_items', '
+INSERT INTO lost_items(id, title, description, lost_date, lost_location, category, images, reward, contact_info,
+  status, user_id, created_at, updated_at)
+SELECT @lost_base + t.n + 1, t.title,
+  CONCAT(''在'', t.location, ''附近丢失了'', t.title, ''，'',
+         ELT(1 + lt_rand(''ld'', t.n, 4), ''可能是下班路上掉的'', ''印象中最后一次见到是在下午'',
+             ''里面有重要物品'', ''对我很有纪念意义''),
+         ''，有拾到的邻居请联系我，非常感谢！''),
+  t.created_at - INTERVAL lt_rand(''lh'', t.n, 72) HOUR,
+  t.location, t.category,
+  IF(lt_rand(''li'', t.n, 2) = 0, CONCAT(''["/uploads/lost-items/loadtest/'', t.n + 1, ''.jpg"]''), NULL),
+  IF(lt_rand(''lr'', t.n, 10) < 3, 50 * (1 + lt_rand(''lv'', t.n, 10)), NULL),
+  CONCAT(''139'', LPAD(t.user_n + 1, 8, ''0'')),
+  ELT(1 + lt_rand(''ls'', t.n, 10), ''pending'', ''pending'', ''pending'', ''pending'', ''pending'', ''pending'', ''pending'',
+      ''found'', ''found'', ''closed''),
+  @user_base + t.user_n + 1, t.created_at, t.created_at
+FROM (
+  SELECT @lo + s.n AS n,
+    lt_rand(''lu'', @lo + s.n, @users) AS user_n,
+    ELT(1 + lt_rand(''lc'', @lo + s.n, 8), ''electronics'', ''documents'', ''keys'', ''clothing'', ''jewelry'', ''bags'',
+        ''cards'', ''other'') AS category,
+    CONCAT(ELT(1 + lt_rand(''lk'', @lo + s.n, 6), ''黑色'', ''白色'', ''蓝色'', ''红色'', ''灰色'', ''粉色''),
+      ELT(1 + lt_rand(''lc'', @lo + s.n, 8) * 3 + lt_rand(''lt'', @lo + s.n, 3),
+        ''手机'', ''耳机'', ''充电宝'', ''身份证'', ''驾驶证'', ''学生证'', ''钥匙'', ''门禁卡'', ''车钥匙'',
+        ''外套'', ''围巾'', ''帽子'', ''手链'', ''项链'', ''戒指'', ''双肩包'', ''钱包'', ''手提袋'',
+        ''银行卡'', ''公交卡'', ''会员卡'', ''雨伞'', ''水杯'', ''眼镜'')) AS title,
+    ELT(1 + lt_rand(''ll'', @lo + s.n, 12), ''3号楼大厅'', ''小区东门'', ''地下停车场B2'', ''中心花园'', ''快递驿站'',
+        ''健身房'', ''儿童游乐区'', ''物业服务中心'', ''西门公交站'', ''社区超市'', ''篮球场'', ''5号楼电梯间'') AS location,
+    @seed_start - INTERVAL FLOOR(@span_seconds * (1 - (@lo + s.n) / @lost_items)) SECOND AS created_at
+  FROM lt_seq s WHERE s.n < @cnt
+) t', @lost_items);
+
+CALL lt_batched('found_items', '
+INSERT INTO found_items(id, title, description, found_date, found_location, storage_location, category, images,
+  contact_info, claim_requirements, status, user_id, created_at, updated_at)
+SELECT @found_base + t.n + 1, t.title,
+  CONCAT(''在'', t.location, ''捡到'', t.title, ''，'',
+         ELT(1 + lt_rand(''fd'', t.n, 4), ''已交到物业'', ''暂时由我保管'', ''外观完好'', ''看起来刚丢不久''),
+         ''，请失主描述特征后认领。''),
+  t.created_at - INTERVAL lt_rand(''fh'', t.n, 48) HOUR,
+  t.location,
+  ELT(1 + lt_rand(''fw'', t.n, 3), ''物业服务中心'', ''东门门卫室'', ''快递驿站''),
+  t.category,
+  IF(lt_rand(''fi'', t.n, 2) = 0, CONCAT(''["/uploads/found-items/loadtest/'', t.n + 1, ''.jpg"]''), NULL),
+  CONCAT(''139'', LPAD(t.user_n + 1, 8, ''0'')),
+  ''请说明物品的颜色、品牌或内部物品等特征'',
+  ELT(1 + lt_rand(''fs'', t.n, 10), ''pending'', ''pending'', ''pending'', ''pending'', ''pending'', ''pending'',
+      ''processing'', ''claimed'', ''claimed'', ''claimed''),
+  @user_base + t.user_n + 1, t.created_at, t.created_at
+FROM (
+  SELECT @lo + s.n AS n,
+    lt_rand(''fu'', @lo + s.n, @users) AS user_n,
+    ELT(1 + lt_rand(''fc'', @lo + s.n, 8), ''electronics'', ''documents'', ''keys'', ''clothing'', ''jewelry'', ''bags'',
+        ''cards'', ''other'') AS category,
+    CONCAT(ELT(1 + lt_rand(''fk'', @lo + s.n, 6), ''黑色'', ''白色'', ''蓝色'', ''红色'', ''灰色'', ''粉色''),
+      ELT(1 + lt_rand(''fc'', @lo + s.n, 8) * 3 + lt_rand(''ft'', @lo + s.n, 3),
+        ''手机'', ''耳机'', ''充电宝'', ''身份证'', ''驾驶证'', ''学生证'', ''钥匙'', ''门禁卡'', ''车钥匙'',
+        ''外套'', ''围巾'', ''帽子'', ''手链'', ''项链'', ''戒指'', ''双肩包'', ''钱包'', ''手提袋'',
+        ''银行卡'', ''公交卡'', ''会员卡'', ''雨伞'', ''水杯'', ''眼镜'')) AS title,
+    ELT(1 + lt_rand(''fl'', @lo + s.n, 12), ''3号楼大厅'', ''小区东门'', ''地下停车场B2'', ''中心花园'', ''快递驿站'',
+        ''健身房'', ''儿童游乐区'', ''物业服务中心'', ''西门公交站'', ''社区超市'', ''篮球场'', ''5号楼电梯间'') AS location,
+    @seed_start - INTERVAL FLOOR(@span_seconds * (1 - (@lo + s.n) / @found_items)) SECOND AS created_at
+  FROM lt_seq s WHERE s.n < @cnt
+) t', @found_items);
+
+-- ----------------------------
+-- 认领申请
+-- ----------------------------
+CALL lt_batched('claim_applications', '
+INSERT INTO claim_applications(id, found_item_id, applicant_id, description, status, created_at, updated_at, processed_at)
+SELECT @claim_base + t.n + 1, @found_base + t.found_n + 1, @user_base + lt_rand(''ca'', t.n, @users) + 1,
+  ELT(1 + lt_rand(''cd'', t.n, 3), ''这是我上周丢失的物品，外壳上有一道划痕，可以当面核对。'',
+      ''里面有我的证件，照片和姓名可以核对，麻烦联系我。'', ''颜色和款式都对得上，购买记录可以提供。''),
+  t.status, t.created_at, t.created_at,
+  IF(t.status = ''pending'', NULL, t.created_at + INTERVAL 1 + lt_rand(''cp'', t.n, 48) HOUR)
+FROM (
+  SELECT @lo + s.n AS n,
+    lt_rand(''cf'', @lo + s.n, @found_items) AS found_n,
+    ELT(1 + lt_rand(''cs'', @lo + s.n, 10), ''pending'', ''pending'', ''pending'', ''pending'', ''approved'',
+        ''approved'', ''approved'', ''rejected'', ''rejected'', ''rejected'') AS status,
+    @seed_start - INTERVAL FLOOR(@span_seconds * (1 - (@lo + s.n) / @claims)) SECOND AS created_at
+  FROM lt_seq s WHERE s.n < @cnt
+) t', @claims);
+
+-- ----------------------------
+-- 物品评论：较新的物品评论更多（平方分布偏向ID较大的物品）
+-- ----------------------------
+CALL lt_batched('item_comments', '
+INSERT INTO item_comments(id, content, item_id, item_type, user_id, created_at, updated_at)
+SELECT @item_comment_base + t.n + 1,
+  ELT(1 + lt_rand(''ic'', t.n, 5), ''请问是在什么时间丢的？'', ''我好像在门口见过类似的，帮顶一下'',
+      ''已转发到业主群'', ''物业那边问过了吗？'', ''希望早日找到！''),
+  IF(t.lost, @lost_base + @lost_items - FLOOR(@lost_items * t.skew * t.skew),
+             @found_base + @found_items - FLOOR(@found_items * t.skew * t.skew)),
+  IF(t.lost, ''lost'', ''found''),
+  @user_base + lt_rand(''iu'', t.n, @users) + 1, t.created_at, t.created_at
+FROM (
+  SELECT @lo + s.n AS n,
+    lt_rand(''it'', @lo + s.n, 2) = 0 AS lost,
+    lt_rand(''ii'', @lo + s.n, 1000000) / 1000000 AS skew,
+    @seed_start - INTERVAL FLOOR(@span_seconds * (1 - (@lo + s.n) / @item_comments)) SECOND AS created_at
+  FROM lt_seq s WHERE s.n < @cnt
+) t', @item_comments);
+
+-- ----------------------------
+-- 论坛帖子与评论
+-- ----------------------------
+CALL lt_batched('posts', '
+INSERT INTO posts(id, title, content, user_id, username, comment_count, created_at, updated_at)
+SELECT @post_base + t.n + 1,
+  ELT(1 + lt_rand(''pt'', t.n, 6), ''小区快递柜经常满了怎么办'', ''周末跳蚤市场有人参加吗'', ''寻找一起晨跑的邻居'',
+      ''地下车库的灯坏了'', ''推荐一下附近的宠物医院'', ''电梯维修通知有人收到吗''),
+  CONCAT(ELT(1 + lt_rand(''pc'', t.n, 4), ''最近发现'', ''想问问大家，'', ''跟大家分享一下，'', ''物业说''),
+         ELT(1 + lt_rand(''pd'', t.n, 4), ''东门附近晚上人比较多'', ''3号楼下面的停车位经常被占'',
+             ''中心花园新装了健身器材'', ''快递驿站的营业时间调整了''),
+         ''，大家有什么想法可以在下面留言。''),
+  @user_base + t.user_n + 1, CONCAT(''lt_user_'', LPAD(t.user_n + 1, 7, ''0'')), 0, t.created_at, t.created_at
+FROM (
+  SELECT @lo + s.n AS n,
+    lt_rand(''pu'', @lo + s.n, @users) AS user_n,
+    @seed_start - INTERVAL FLOOR(@span_seconds * (1 - (@lo + s.n) / @posts)) SECOND AS created_at
+  FROM lt_seq s WHERE s.n < @cnt
+) t', @posts);
+
+CALL lt_batched('post_comments', '
+INSERT INTO post_comments(id, content, post_id, user_id, created_at, updated_at)
+SELECT @post_comment_base + @lo + s.n + 1,
+  ELT(1 + lt_rand(''qc'', @lo + s.n, 5), ''同意楼上'', ''我也遇到过这个问题'', ''已经反馈给物业了'', ''感谢分享'', ''+1''),
+  @post_base + @posts - FLOOR(@posts * POW(lt_rand(''qp'', @lo + s.n, 1000000) / 1000000, 2)),
+  @user_base + lt_rand(''qu'', @lo + s.n, @users) + 1,
+  @seed_start - INTERVAL FLOOR(@span_seconds * (1 - (@lo + s.n) / @post_comments)) SECOND,
+  @seed_start - INTERVAL FLOOR(@span_seconds * (1 - (@lo + s.n) / @post_comments)) SECOND
+FROM lt_seq s WHERE s.n < @cnt', @post_comments);
+
+-- 帖子评论数与评论表保持一致
+UPDATE posts p
+JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_comments
+      WHERE id > @post_comment_base GROUP BY post_id) c ON c.post_id = p.id
+SET p.comment_count = p.comment_count + c.cnt, p.updated_at = p.updated_at;
+COMMIT;
+
+-- ----------------------------
+-- 举报：被举报人取自被举报内容的发布者
+-- ----------------------------
+CALL lt_batched('reports', '
+INSERT INTO reports(id, report_type, reported_item_id, reporter_id, reported_user_id, reason, status,
+  resolution_notes, resolved_by_admin_id, created_at, resolved_at)
+SELECT @report_base + t.n + 1, t.report_type, t.item_id, @user_base + lt_rand(''rr'', t.n, @users) + 1,
+  COALESCE(CASE t.report_type
+    WHEN ''LOST_ITEM'' THEN (SELECT user_id FROM lost_items WHERE id = t.item_id)
+    WHEN ''FOUND_ITEM'' THEN (SELECT user_id FROM found_items WHERE id = t.item_id)
+    WHEN ''POST'' THEN (SELECT user_id FROM posts WHERE id = t.item_id)
+    ELSE (SELECT user_id FROM item_comments WHERE id = t.item_id) END, @user_base + 1),
+  ELT(1 + lt_rand(''rn'', t.n, 3), ''内容涉嫌虚假信息'', ''包含广告或联系方式引流'', ''言语不文明''),
+  t.status,
+  IF(t.status = ''PENDING'', NULL, ''已核实处理''),
+  IF(t.status = ''PENDING'', NULL, @user_base + lt_rand(''ra'', t.n, GREATEST(@admins, 1)) + 1),
+  t.created_at,
+  IF(t.status = ''PENDING'', NULL, t.created_at + INTERVAL 1 + lt_rand(''rh'', t.n, 72) HOUR)
+FROM (
+  SELECT @lo + s.n AS n, x.report_type,
+    CASE x.report_type
+      WHEN ''LOST_ITEM'' THEN @lost_base + lt_rand(''ri'', @lo + s.n, @lost_items) + 1
+      WHEN ''FOUND_ITEM'' THEN @found_base + lt_rand(''ri'', @lo + s.n, @found_items) + 1
+      WHEN ''POST'' THEN @post_base + lt_rand(''ri'', @lo + s.n, @posts) + 1
+      ELSE @item_comment_base + lt_rand(''ri'', @lo + s.n, @item_comments) + 1 END AS item_id,
+    ELT(1 + lt_rand(''rs'', @lo + s.n, 10), ''PENDING'', ''PENDING'', ''PENDING'', ''PENDING'', ''PENDING'', ''PENDING'',
+        ''RESOLVED'', ''RESOLVED'', ''RESOLVED'', ''REJECTED'') AS status,
+    @seed_start - INTERVAL FLOOR(@span_seconds * (1 - (@lo + s.n) / @reports)) SECOND AS created_at
+  FROM lt_seq s
+  JOIN (SELECT 0 AS k, ''LOST_ITEM'' AS report_type UNION ALL SELECT 1, ''FOUND_ITEM''
+        UNION ALL SELECT 2, ''POST'' UNION ALL SELECT 3, ''COMMENT'') x
+    ON x.k = lt_rand(''rt'', @lo + s.n, 4)
+  WHERE s.n < @cnt
+) t', @reports);
+
+-- ----------------------------
+-- 首页动态：与 V7__feed_entries.sql 迁移的回填逻辑一致，只处理本次写入的记录
+-- ----------------------------
+CALL lt_batched('feed_entries(lost-items)', '
+INSERT IGNORE INTO feed_entries(entry_type, entry_id, title, summary, image, status, user_id, username, created_at, updated_at)
+SELECT ''lost-items'', t.id, t.title, LEFT(t.description, 200),
+  CASE WHEN JSON_VALID(t.images) AND JSON_TYPE(t.images) = ''ARRAY''
+    THEN JSON_UNQUOTE(JSON_EXTRACT(t.images, ''$[0]'')) END,
+  t.status, t.user_id, u.username, t.created_at, t.updated_at
+FROM lost_items t JOIN users u ON t.user_id = u.id
+WHERE t.id > @lost_base + @lo AND t.id <= @lost_base + @lo + @cnt', @lost_items);
+
+CALL lt_batched('feed_entries(found-items)', '
+INSERT IGNORE INTO feed_entries(entry_type, entry_id, title, summary, image, status, user_id, username, created_at, updated_at)
+SELECT ''found-items'', t.id, t.title, LEFT(t.description, 200),
+  CASE WHEN JSON_VALID(t.images) AND JSON_TYPE(t.images) = ''ARRAY''
+    THEN JSON_UNQUOTE(JSON_EXTRACT(t.images, ''$[0]'')) END,
+  t.status, t.user_id, u.username, t.created_at, t.updated_at
+FROM found_items t JOIN users u ON t.user_id = u.id
+WHERE t.id > @found_base + @lo AND t.id <= @found_base + @lo + @cnt', @found_items);
+
+CALL lt_batched('feed_entries(posts)', '
+INSERT IGNORE INTO feed_entries(entry_type, entry_id, title, summary, image, status, user_id, username, created_at, updated_at)
+SELECT ''posts'', t.id, t.title, LEFT(t.content, 200), NULL, NULL, t.user_id, t.username, t.created_at, t.updated_at
+FROM posts t
+WHERE t.id > @post_base + @lo AND t.id <= @post_base + @lo + @cnt', @posts);
+
+SET autocommit = 1;
+
+-- 清理辅助对象并更新统计信息，使压测开始时的执行计划与长期运行的库一致
+DROP FUNCTION IF EXISTS `lt_rand`;
+DROP PROCEDURE IF EXISTS `lt_batched`;
+DROP TABLE IF EXISTS `lt_seq`;
+
+ANALYZE TABLE users, lost_items, found_items, claim_applications, item_comments, posts, post_comments, reports,
+  feed_entries;